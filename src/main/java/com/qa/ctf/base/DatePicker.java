@@ -0,0 +1,223 @@
+package com.qa.ctf.base;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * The DatePicker class describes the elements of a date picker widget so that
+ * {@code DateTimeHandler.selectDate} can reach any date through the fastest
+ * available path.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Describes the opener, calendar section, month and year headers and the
+ *     day locator of a date picker.</li>
+ *     <li>Optionally describes an editable input for direct date entry, previous
+ *     and next month navigators and previous and next year navigators.</li>
+ *     <li>Supports a single header per pane ("January 2025") as well as separate
+ *     month and year headers.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link IllegalArgumentException} is thrown when the description has neither
+ *   an input nor headers to navigate with.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Only the elements present on the widget need to be provided. The more navigators
+ * are described, the fewer clicks are needed to reach a far away date.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * DatePicker datePicker = DatePicker.builder(getDatePickerFld(), getCalendar(), getCalendarLabel())
+ *         .monthAndYearHeaders(getMonthTxt(), getYearTxt())
+ *         .monthNavigators(getPrevMonthBtn(), getNextMonthBtn())
+ *         .dayLocator("//td[text()='%s']")
+ *         .build();
+ * dateTimeHandler.selectDate(datePicker, LocalDate.of(2027, 3, 14));
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class DatePicker {
+
+    // Element that opens the date picker
+    private final WebElement opener;
+
+    // Section displaying the calendar, waited for after opening the date picker
+    private final WebElement dateDetailSection;
+
+    // Label of the calendar section for logging purposes
+    private final String dateDetailSectionLabel;
+
+    // Editable input accepting the date directly, or null
+    private final WebElement dateInput;
+
+    // Pattern of the date typed into the input
+    private final String inputFormat;
+
+    // Header elements, either one "Month Year" header per pane or a month and a year header
+    private final List<WebElement> headers;
+
+    // Flag indicating whether the headers are a separate month and year header
+    private final boolean splitHeader;
+
+    // Month navigators, the previous one may be null for forward only pickers
+    private final WebElement previousMonth;
+    private final WebElement nextMonth;
+
+    // Year navigators, or null when the picker has none
+    private final WebElement previousYear;
+    private final WebElement nextYear;
+
+    // XPath locator of the day elements, with '%s' standing for the day
+    private final String dayLocator;
+
+    private DatePicker(Builder builder) {
+        if (builder.dateInput == null && builder.headers.isEmpty()) {
+            throw new IllegalArgumentException("Date picker needs either an input or headers.");
+        }
+        this.opener = builder.opener;
+        this.dateDetailSection = builder.dateDetailSection;
+        this.dateDetailSectionLabel = builder.dateDetailSectionLabel;
+        this.dateInput = builder.dateInput;
+        this.inputFormat = builder.inputFormat;
+        this.headers = builder.headers;
+        this.splitHeader = builder.splitHeader;
+        this.previousMonth = builder.previousMonth;
+        this.nextMonth = builder.nextMonth;
+        this.previousYear = builder.previousYear;
+        this.nextYear = builder.nextYear;
+        this.dayLocator = builder.dayLocator;
+    }
+
+    /**
+     * Starts the description of a date picker.
+     *
+     * @param opener                 The element that opens the date picker.
+     * @param dateDetailSection      The section displaying the calendar.
+     * @param dateDetailSectionLabel The label of the calendar section.
+     * @return The builder of the date picker description.
+     */
+    public static Builder builder(WebElement opener, WebElement dateDetailSection, String dateDetailSectionLabel) {
+        return new Builder(opener, dateDetailSection, dateDetailSectionLabel);
+    }
+
+    public WebElement getOpener() {
+        return opener;
+    }
+
+    public WebElement getDateDetailSection() {
+        return dateDetailSection;
+    }
+
+    public String getDateDetailSectionLabel() {
+        return dateDetailSectionLabel;
+    }
+
+    public WebElement getDateInput() {
+        return dateInput;
+    }
+
+    public String getInputFormat() {
+        return inputFormat;
+    }
+
+    public List<WebElement> getHeaders() {
+        return headers;
+    }
+
+    public boolean isSplitHeader() {
+        return splitHeader;
+    }
+
+    public WebElement getPreviousMonth() {
+        return previousMonth;
+    }
+
+    public WebElement getNextMonth() {
+        return nextMonth;
+    }
+
+    public WebElement getPreviousYear() {
+        return previousYear;
+    }
+
+    public WebElement getNextYear() {
+        return nextYear;
+    }
+
+    public String getDayLocator() {
+        return dayLocator;
+    }
+
+    /**
+     * Builder of the {@link DatePicker} description.
+     */
+    public static final class Builder {
+
+        private final WebElement opener;
+        private final WebElement dateDetailSection;
+        private final String dateDetailSectionLabel;
+        private WebElement dateInput;
+        private String inputFormat = "yyyy-MM-dd";
+        private List<WebElement> headers = List.of();
+        private boolean splitHeader;
+        private WebElement previousMonth;
+        private WebElement nextMonth;
+        private WebElement previousYear;
+        private WebElement nextYear;
+        private String dayLocator;
+
+        private Builder(WebElement opener, WebElement dateDetailSection, String dateDetailSectionLabel) {
+            this.opener = opener;
+            this.dateDetailSection = dateDetailSection;
+            this.dateDetailSectionLabel = dateDetailSectionLabel;
+        }
+
+        public Builder dateInput(WebElement dateInput, String inputFormat) {
+            this.dateInput = dateInput;
+            this.inputFormat = inputFormat;
+            return this;
+        }
+
+        public Builder monthYearHeaders(List<WebElement> monthYearHeaders) {
+            this.headers = List.copyOf(monthYearHeaders);
+            this.splitHeader = false;
+            return this;
+        }
+
+        public Builder monthAndYearHeaders(WebElement monthHeader, WebElement yearHeader) {
+            this.headers = List.of(monthHeader, yearHeader);
+            this.splitHeader = true;
+            return this;
+        }
+
+        public Builder monthNavigators(WebElement previousMonth, WebElement nextMonth) {
+            this.previousMonth = previousMonth;
+            this.nextMonth = nextMonth;
+            return this;
+        }
+
+        public Builder yearNavigators(WebElement previousYear, WebElement nextYear) {
+            this.previousYear = previousYear;
+            this.nextYear = nextYear;
+            return this;
+        }
+
+        public Builder dayLocator(String dayLocator) {
+            this.dayLocator = dayLocator;
+            return this;
+        }
+
+        public DatePicker build() {
+            return new DatePicker(this);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.qa.ctf.base;
+
+import org.openqa.selenium.WebElement;
+
+/**
+ * The FormField class describes one field of a form to be filled by
+ * {@link PageComponent#fillForm}, pairing the element and its label with the
+ * value to enter.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Works for text inputs, text areas and select elements, where the value of a
+ *     select is the visible text of the option to choose.</li>
+ *     <li>Keeps the label used by page objects for logging and error messages.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link IllegalArgumentException} is thrown when the element or label is null.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Fields with a null value are skipped, in line with {@code typeText}.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * pageComponent.fillForm(List.of(
+ *         FormField.of(getFirstNameFld(), "John", getFirstNameFldLabel()),
+ *         FormField.of(getStateDropdown(), "Texas", getStateDropdownLabel())));
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class FormField {
+
+    // WebElement of the field
+    private final WebElement element;
+
+    // Value to enter into the field, or the visible text of the option to select
+    private final String value;
+
+    // Label of the field for logging purposes
+    private final String label;
+
+    private FormField(WebElement element, String value, String label) {
+        if (element == null || label == null) {
+            throw new IllegalArgumentException("Form field element and label cannot be null.");
+        }
+        this.element = element;
+        this.value = value;
+        this.label = label;
+    }
+
+    /**
+     * Creates a form field.
+     *
+     * @param element The WebElement of the field.
+     * @param value   The value to enter, or the visible text of the option to select.
+     * @param label   The label of the field.
+     * @return The form field.
+     */
+    public static FormField of(WebElement element, String value, String label) {
+        return new FormField(element, value, label);
+    }
+
+    public WebElement getElement() {
+        return element;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+}
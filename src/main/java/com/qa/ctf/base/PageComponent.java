@@ -1,20 +1,26 @@
 package com.qa.ctf.base;
 
 import com.qa.ctf.context.TestContext;
-import com.qa.ctf.factory.DriverFactory;
 import com.qa.ctf.handler.VerificationHandler;
-import com.qa.ctf.handler.WaitHandler;
+import com.qa.ctf.util.CommandMetrics;
 import com.qa.ctf.util.ExceptionHub;
+import com.qa.ctf.util.FileReader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.qa.ctf.constant.TestConstants.*;
 
 /**
  * The PageComponent class serves as a foundational class for interacting with
@@ -30,6 +36,7 @@ import java.util.Map;
  *     <li>Wait for elements to become visible on the page.</li>
  *     <li>Generate WebElements using various locators (By, XPath).</li>
  *     <li>Clear, click, and type text into elements.</li>
+ *     <li>Fill a whole form in a single script call, with opt-in realistic typing.</li>
  *     <li>Handle element click interception with proper exception handling.</li>
  *     <li>Pause execution for a specified duration.</li>
  * </ul>
@@ -47,6 +54,9 @@ import java.util.Map;
  * This class assumes that the WebDriver has been properly set up and initialized
  * through the {@link DriverFactory}. The page operations are designed to interact
  * with standard web pages but may require customization for specific page structures.
+ * The element label used to attribute command timings is set for the duration of each
+ * element operation and cleared afterwards, so that commands of the handlers are not
+ * attributed to the last element.
  *
  * <p>Example:
  * <pre>
@@ -59,7 +69,7 @@ import java.util.Map;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.3
+ * @version 1.8
  */
 public class PageComponent extends Page implements ElementActions {
 
@@ -75,17 +85,53 @@ public class PageComponent extends Page implements ElementActions {
     // Instance of VerificationHandler to handle verification actions, likely for validating elements on the page
     private VerificationHandler verificationHandler;
 
-    // HashMap to store key-value pairs of string data
-    public static HashMap<String, String> anyObject;
+    // Thread-confined map to store key-value pairs of string data for the running scenario
+    private static final ThreadLocal<Map<String, String>> anyObject = ThreadLocal.withInitial(HashMap::new);
 
-    // List instance to hold string values, initialized as null
-    List<String> list = null;
+    // Tag name of the select elements
+    private static final String SELECT_TAG = "select";
 
-    // Static string variable to store an object value
-    public static String objValue;
+    // Problem reported by the form fill script for a field that is not displayed
+    private static final String FIELD_HIDDEN = "hidden";
 
-    // Static string variable to store an object key
-    public static String objKey;
+    // JavaScript command that checks every form field, then fills them in one pass, and returns the problems found
+    // as [index, reason] pairs without filling anything if there are any; options are matched like DropDownHandler
+    private static final String FILL_FORM = "var elements = arguments[0], values = arguments[1], problems = [], indexes = [];" +
+            "function isDisplayed(el) {" +
+            "  var style = window.getComputedStyle(el);" +
+            "  return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length) && style.visibility !== 'hidden';" +
+            "}" +
+            "function normalize(text) { return (text || '').replace(/\\s+/g, ' ').trim().toLowerCase(); }" +
+            "for (var i = 0; i < elements.length; i++) {" +
+            "  var el = elements[i];" +
+            "  if (el.tagName !== 'SELECT') {" +
+            "    if (!isDisplayed(el)) { problems.push([i, 'hidden']); }" +
+            "    continue;" +
+            "  }" +
+            "  indexes[i] = -1;" +
+            "  for (var j = 0; j < el.options.length; j++) {" +
+            "    if (normalize(el.options[j].text) === normalize(values[i])) { indexes[i] = j; break; }" +
+            "  }" +
+            "  if (indexes[i] < 0) { problems.push([i, 'option']); }" +
+            "}" +
+            "if (problems.length) { return problems; }" +
+            "for (var i = 0; i < elements.length; i++) {" +
+            "  var el = elements[i], value = values[i];" +
+            "  if (el.tagName === 'SELECT') {" +
+            "    el.selectedIndex = indexes[i];" +
+            "  } else {" +
+            "    var proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "    el.focus();" +
+            "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "    el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  }" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  if (document.activeElement === el) { el.blur(); }" +
+            "}" +
+            "return problems;";
+
+    // List instance to hold string values, initialized as null
+    List<String> list = null;
 
     public PageComponent(WebDriver driver) {
         this.driver = driver;
@@ -162,10 +208,15 @@ public class PageComponent extends Page implements ElementActions {
      */
     @Override
     public String getPageHeader(WebElement element, String elementLabel) {
-        new WaitHandler(testContext).waitForElementVisible(element, elementLabel);
-        String headerText = element.getText();
-        log.info("Page header retrieved for '{}': '{}'", elementLabel, headerText);
-        return headerText;
+        CommandMetrics.setLabel(elementLabel);
+        try {
+            verificationHandler.getWaitHandler().waitForElementVisible(element, elementLabel);
+            String headerText = element.getText();
+            log.info("Page header retrieved for '{}': '{}'", elementLabel, headerText);
+            return headerText;
+        } finally {
+            CommandMetrics.clearLabel();
+        }
     }
 
     /**
@@ -186,9 +237,14 @@ public class PageComponent extends Page implements ElementActions {
         if (locator == null) {
             throw new IllegalArgumentException("Locator cannot be null for: " + locatorLabel);
         }
-        WebElement element = driver.findElement(locator);
-        log.debug("Element generated for '{}' using locator: '{}'", locatorLabel, locator);
-        return element;
+        CommandMetrics.setLabel(locatorLabel);
+        try {
+            WebElement element = driver.findElement(locator);
+            log.debug("Element generated for '{}' using locator: '{}'", locatorLabel, locator);
+            return element;
+        } finally {
+            CommandMetrics.clearLabel();
+        }
     }
 
     /**
@@ -209,9 +265,14 @@ public class PageComponent extends Page implements ElementActions {
         if (locator == null || locator.isBlank()) {
             throw new IllegalArgumentException("Locator cannot be null or blank for: " + locatorLabel);
         }
-        WebElement element = driver.findElement(By.xpath(locator));
-        log.debug("Element generated for '{}' using XPath: '{}'", locatorLabel, locator);
-        return element;
+        CommandMetrics.setLabel(locatorLabel);
+        try {
+            WebElement element = driver.findElement(By.xpath(locator));
+            log.debug("Element generated for '{}' using XPath: '{}'", locatorLabel, locator);
+            return element;
+        } finally {
+            CommandMetrics.clearLabel();
+        }
     }
 
     /**
@@ -227,8 +288,13 @@ public class PageComponent extends Page implements ElementActions {
      */
     @Override
     public void clearElement(WebElement element, String elementLabel) {
-        element.clear();
-        log.info("Cleared the content of '{}' element", elementLabel);
+        CommandMetrics.setLabel(elementLabel);
+        try {
+            element.clear();
+            log.info("Cleared the content of '{}' element", elementLabel);
+        } finally {
+            CommandMetrics.clearLabel();
+        }
     }
 
     /**
@@ -243,10 +309,15 @@ public class PageComponent extends Page implements ElementActions {
      */
     @Override
     public void clickElement(WebElement element, String elementLabel) {
-      //  if (verificationHandler.isElementDisplayed(element, elementLabel)) {
-            element.click();
-            log.info("Clicked the '{}' element", elementLabel);
-        //}
+        CommandMetrics.setLabel(elementLabel);
+        try {
+          //  if (verificationHandler.isElementDisplayed(element, elementLabel)) {
+                element.click();
+                log.info("Clicked the '{}' element", elementLabel);
+            //}
+        } finally {
+            CommandMetrics.clearLabel();
+        }
     }
 
     /**
@@ -270,6 +341,7 @@ public class PageComponent extends Page implements ElementActions {
         try {
             By locatorObj = By.xpath(String.format(locator, value));
             WebElement element = generateElement(locatorObj, elementLabel);
+            CommandMetrics.setLabel(elementLabel);
             //if (verificationHandler.isElementDisplayed(element, elementLabel)) {
                 element.click();
                 log.info("Clicked the '{}' element", elementLabel);
@@ -277,6 +349,8 @@ public class PageComponent extends Page implements ElementActions {
         } catch (ElementClickInterceptedException ex) {
             log.error("Failed to click the '{}' element", elementLabel, ex);
             throw new ExceptionHub.InteractionException("Exception occurred while clicking '" + elementLabel + "' element", ex);
+        } finally {
+            CommandMetrics.clearLabel();
         }
     }
 
@@ -295,9 +369,14 @@ public class PageComponent extends Page implements ElementActions {
     @Override
     public void typeText(WebElement element, String text, String elementLabel) {
         if (text != null) {
-            if (verificationHandler.isElementDisplayed(element, elementLabel)) {
-                element.sendKeys(text);
-                log.info("Entered '{}' text into the '{}' element", text, elementLabel);
+            CommandMetrics.setLabel(elementLabel);
+            try {
+                if (verificationHandler.isElementDisplayed(element, elementLabel)) {
+                    element.sendKeys(text);
+                    log.info("Entered '{}' text into the '{}' element", text, elementLabel);
+                }
+            } finally {
+                CommandMetrics.clearLabel();
             }
         }
     }
@@ -316,11 +395,96 @@ public class PageComponent extends Page implements ElementActions {
      */
     public void typeTextInSequence(WebElement element, String text, String elementLabel) {
         if (text != null) {
-            if (verificationHandler.isElementDisplayed(element, elementLabel)) {
-                for (char ch : text.toCharArray()) {
-                    element.sendKeys(String.valueOf(ch));
+            CommandMetrics.setLabel(elementLabel);
+            try {
+                if (verificationHandler.isElementDisplayed(element, elementLabel)) {
+                    for (char ch : text.toCharArray()) {
+                        element.sendKeys(String.valueOf(ch));
+                    }
+                    log.info("Entered '{}' text into the '{}' element", text, elementLabel);
                 }
-                log.info("Entered '{}' text into the '{}' element", text, elementLabel);
+            } finally {
+                CommandMetrics.clearLabel();
+            }
+        }
+    }
+
+    /**
+     * Fills the given form fields, in a single script call unless realistic typing is
+     * requested through the {@code RealisticTyping} configuration key.
+     *
+     * @param fields The fields to fill, in the order they should be filled.
+     * @throws ExceptionHub.ElementNotFoundException If a field is not displayed within the timeout.
+     * @throws ExceptionHub.OptionNotFoundException  If a select field has no option with the given text.
+     */
+    public void fillForm(List<FormField> fields) {
+        fillForm(fields, FileReader.getConfig().getBoolean(REALISTIC_TYPING, false));
+    }
+
+    /**
+     * Fills the given form fields.
+     * <p>
+     * By default, a single script waits for every text field to be displayed, sets the
+     * values through the native value setter so that framework-managed inputs notice
+     * the change, selects the options of select fields by their visible text, ignoring
+     * case and extra whitespace like {@code DropDownHandler}, and fires the
+     * {@code input} and {@code change} events the page listens to. Nothing is filled
+     * when a field is not displayed or an option does not exist. Select
+     * fields are not required to be displayed, as enhanced dropdowns hide the native
+     * select. With realistic typing, every field is filled through {@code sendKeys}
+     * and {@link Select} instead, at the cost of several round-trips per field.
+     * </p>
+     *
+     * @param fields          The fields to fill, in the order they should be filled.
+     * @param realisticTyping true to type each field through WebDriver key events.
+     * @throws ExceptionHub.ElementNotFoundException If a field is not displayed within the timeout.
+     * @throws ExceptionHub.OptionNotFoundException  If a select field has no option with the given text.
+     */
+    public void fillForm(List<FormField> fields, boolean realisticTyping) {
+        List<FormField> formFields = fields.stream().filter(field -> field.getValue() != null).toList();
+        if (realisticTyping) {
+            formFields.forEach(this::typeField);
+            return;
+        }
+        List<WebElement> elements = formFields.stream().map(FormField::getElement).toList();
+        List<String> values = formFields.stream().map(FormField::getValue).toList();
+        AtomicReference<List<?>> problems = new AtomicReference<>(List.of());
+        boolean filled = verificationHandler.getWaitHandler().pauseUntil(wd -> {
+            List<?> result = (List<?>) ((JavascriptExecutor) wd).executeScript(FILL_FORM, elements, values);
+            problems.set(result);
+            return result.stream().noneMatch(problem -> FIELD_HIDDEN.equals(((List<?>) problem).get(1)));
+        }, Duration.ofSeconds(EXPLICIT_WAIT_TIME));
+        for (Object problem : problems.get()) {
+            FormField field = formFields.get(((Number) ((List<?>) problem).get(0)).intValue());
+            if (FIELD_HIDDEN.equals(((List<?>) problem).get(1))) {
+                log.error("The '{}' element is not displayed, the form could not be filled", field.getLabel());
+                throw new ExceptionHub.ElementNotFoundException(field.getLabel());
+            }
+            if (filled) {
+                log.error("Option '{}' not found in the '{}' dropdown, the form was not filled",
+                        field.getValue(), field.getLabel());
+                throw new ExceptionHub.OptionNotFoundException(field.getValue(), field.getLabel());
+            }
+        }
+        log.info("Filled the form fields {} in a single script call",
+                formFields.stream().map(FormField::getLabel).toList());
+    }
+
+    /**
+     * Fills a single form field through WebDriver key events or the Select helper.
+     *
+     * @param field The field to fill.
+     */
+    private void typeField(FormField field) {
+        WebElement element = field.getElement();
+        if (verificationHandler.isElementDisplayed(element, field.getLabel())) {
+            if (SELECT_TAG.equalsIgnoreCase(element.getTagName())) {
+                new Select(element).selectByVisibleText(field.getValue());
+                log.info("The visible text '{}' is selected from the '{}' dropdown", field.getValue(), field.getLabel());
+            } else {
+                element.clear();
+                element.sendKeys(field.getValue());
+                log.info("Entered '{}' text into the '{}' element", field.getValue(), field.getLabel());
             }
         }
     }
@@ -337,8 +501,8 @@ public class PageComponent extends Page implements ElementActions {
             if (key == null || value == null) {
                 throw new IllegalArgumentException("Key or Value cannot be null.");
             }
-            anyObject.put(key, value);
-            log.info("Stored object: {}", anyObject);
+            anyObject.get().put(key, value);
+            log.info("Stored object: {}", anyObject.get());
         } catch (IllegalArgumentException ex) {
             log.error("Invalid input: {}", ex.getMessage(), ex);
         } catch (Exception ex) {
@@ -349,10 +513,21 @@ public class PageComponent extends Page implements ElementActions {
     /**
      * Retrieves the map containing all stored key-value pairs.
      *
-     * @return The static map `anyObject` containing stored elements.
+     * @return A copy of the `anyObject` map of the current thread.
      */
     public static Map<String, String> getAnyElement() {
-        return new HashMap<>(anyObject); // Return a copy to avoid direct modification
+        return new HashMap<>(anyObject.get()); // Return a copy to avoid direct modification
+    }
+
+    /**
+     * Clears the key-value pairs stored by the current thread.
+     * <p>
+     * This method is called once a scenario finishes, so that values stored by one
+     * scenario are never visible to the next scenario running on the same thread.
+     * </p>
+     */
+    public static void clearAnyElement() {
+        anyObject.remove();
     }
 
     /**
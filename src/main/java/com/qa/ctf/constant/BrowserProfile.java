@@ -0,0 +1,95 @@
+package com.qa.ctf.constant;
+
+/**
+ * Enum representing the performance profiles a local browser can be launched with.
+ * <p>
+ * This enum defines how much of the browser is started for a run: the default headed
+ * and maximized window, a headless browser with a fixed viewport and without GPU,
+ * extensions and background networking, or the same headless browser that also skips
+ * loading images.
+ * </p>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public enum BrowserProfile {
+
+    /** Launches a headed, maximized browser with every feature enabled. */
+    DEFAULT("Default", false, false),
+
+    /** Launches a headless browser with a fixed viewport and trimmed background features. */
+    HEADLESS("Headless", true, false),
+
+    /** Launches the headless profile without loading images. */
+    HEADLESS_NO_IMAGES("HeadlessNoImages", true, true);
+
+    // Holds the string representation of the browser profile
+    private final String profile;
+
+    // Whether the browser runs headless with a fixed viewport and trimmed background features
+    private final boolean headless;
+
+    // Whether the browser skips loading images
+    private final boolean imagesBlocked;
+
+    /**
+     * Constructor to initialize the browser profile.
+     *
+     * @param profile       The string representation of the browser profile.
+     * @param headless      Whether the browser runs headless and trimmed.
+     * @param imagesBlocked Whether the browser skips loading images.
+     * @throws IllegalArgumentException If the provided profile is null or empty.
+     */
+    BrowserProfile(String profile, boolean headless, boolean imagesBlocked) {
+        if (profile == null || profile.isEmpty()) {
+            throw new IllegalArgumentException("Browser Profile cannot be null or empty.");
+        }
+        this.profile = profile;
+        this.headless = headless;
+        this.imagesBlocked = imagesBlocked;
+    }
+
+    /**
+     * Retrieves the string representation of the browser profile.
+     *
+     * @return The browser profile as a string.
+     */
+    public String getProfile() {
+        return profile;
+    }
+
+    /**
+     * Checks whether the browser runs headless with a fixed viewport and without GPU,
+     * extensions and background networking.
+     *
+     * @return true for the headless profiles.
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Checks whether the browser skips loading images.
+     *
+     * @return true if images are not loaded.
+     */
+    public boolean isImagesBlocked() {
+        return imagesBlocked;
+    }
+
+    /**
+     * Resolves a browser profile from its string representation.
+     *
+     * @param value The string representation, case-insensitive.
+     * @return The matching profile, or {@link #DEFAULT} if the value does not match any.
+     */
+    public static BrowserProfile from(String value) {
+        for (BrowserProfile browserProfile : values()) {
+            if (browserProfile.profile.equalsIgnoreCase(value)) {
+                return browserProfile;
+            }
+        }
+        return DEFAULT;
+    }
+
+}
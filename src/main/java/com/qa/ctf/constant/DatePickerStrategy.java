@@ -0,0 +1,51 @@
+package com.qa.ctf.constant;
+
+/**
+ * Enum representing the strategies used to reach a date in a date picker.
+ * <p>
+ * This enum defines how {@code DateTimeHandler} moves a date picker to the target
+ * month: by typing the date into its input, by clicking the previous or next month
+ * navigators the exact number of times, or by first jumping whole years with the
+ * year navigators.
+ * </p>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public enum DatePickerStrategy {
+
+    /** Types the date directly into the input of the date picker. */
+    DIRECT_INPUT("Direct Input"),
+
+    /** Clicks the previous or next month navigator towards the target month. */
+    BIDIRECTIONAL("Bidirectional"),
+
+    /** Jumps whole years with the year navigators, then navigates the remaining months. */
+    JUMP_BY_YEAR("Jump By Year");
+
+    // Holds the string representation of the date picker strategy
+    private final String strategy;
+
+    /**
+     * Constructor to initialize the date picker strategy.
+     *
+     * @param strategy The string representation of the date picker strategy.
+     * @throws IllegalArgumentException If the provided strategy is null or empty.
+     */
+    DatePickerStrategy(String strategy) {
+        if (strategy == null || strategy.isEmpty()) {
+            throw new IllegalArgumentException("Date Picker Strategy cannot be null or empty.");
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * Retrieves the string representation of the date picker strategy.
+     *
+     * @return The date picker strategy as a string.
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.qa.ctf.constant;
+
+/**
+ * Enum representing the strategies used to capture a full page screenshot.
+ * <p>
+ * This enum defines how {@code FullPageScreenshot} captures the whole scrollable page:
+ * automatically with the fastest strategy the browser supports, natively through the
+ * Chrome DevTools Protocol or the Firefox full page API, or by scrolling the page and
+ * stitching the viewport screenshots.
+ * </p>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public enum FullPageStrategy {
+
+    /** Uses the first native strategy the browser supports, then the stitcher. */
+    AUTO("Auto"),
+
+    /** Captures beyond the viewport with the Chrome DevTools Protocol. */
+    CDP("Cdp"),
+
+    /** Uses the full page screenshot API of Firefox. */
+    FIREFOX("Firefox"),
+
+    /** Scrolls the page and stitches the viewport screenshots into one image. */
+    STITCH("Stitch");
+
+    // Holds the string representation of the full page strategy
+    private final String strategy;
+
+    /**
+     * Constructor to initialize the full page strategy.
+     *
+     * @param strategy The string representation of the full page strategy.
+     * @throws IllegalArgumentException If the provided strategy is null or empty.
+     */
+    FullPageStrategy(String strategy) {
+        if (strategy == null || strategy.isEmpty()) {
+            throw new IllegalArgumentException("Full Page Strategy cannot be null or empty.");
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * Retrieves the string representation of the full page strategy.
+     *
+     * @return The full page strategy as a string.
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Resolves a full page strategy from its string representation.
+     *
+     * @param value The string representation, case-insensitive.
+     * @return The matching strategy, or {@link #AUTO} if the value does not match any.
+     */
+    public static FullPageStrategy from(String value) {
+        for (FullPageStrategy fullPageStrategy : values()) {
+            if (fullPageStrategy.strategy.equalsIgnoreCase(value)) {
+                return fullPageStrategy;
+            }
+        }
+        return AUTO;
+    }
+
+}
@@ -43,6 +43,26 @@ public class TestConstants {
 	public static final String CHROME_INCOGNITO = "incognito";
 	public static final String EDGE_PRIVATE = "-inprivate";
 	public static final String FIREFOX_PRIVATE = "--private";
+	public static final String REALISTIC_TYPING = "RealisticTyping";
+	public static final String BROWSER_PROFILE = "BrowserProfile";
+	public static final String BROWSER_VIEWPORT = "BrowserViewport";
+	public static final String DEFAULT_BROWSER_VIEWPORT = "1920x1080";
+	public static final String CHROMIUM_HEADLESS = "--headless=new";
+	public static final String CHROMIUM_WINDOW_SIZE = "--window-size=%d,%d";
+	public static final String CHROMIUM_DISABLE_GPU = "--disable-gpu";
+	public static final String CHROMIUM_DISABLE_EXTENSIONS = "--disable-extensions";
+	public static final String CHROMIUM_DISABLE_BACKGROUND_NETWORKING = "--disable-background-networking";
+	public static final String CHROMIUM_PREFS = "prefs";
+	public static final String CHROMIUM_IMAGES_SETTING = "profile.managed_default_content_settings.images";
+	public static final String FIREFOX_HEADLESS = "-headless";
+	public static final String FIREFOX_WIDTH = "--width=%d";
+	public static final String FIREFOX_HEIGHT = "--height=%d";
+	public static final String FIREFOX_IMAGES_SETTING = "permissions.default.image";
+	public static final String FIREFOX_DISABLE_GPU = "layers.acceleration.disabled";
+	public static final String FIREFOX_EXTENSIONS_UPDATE = "extensions.update.enabled";
+	public static final String FIREFOX_PREFETCH = "network.prefetch-next";
+	public static final String FIREFOX_DNS_PREFETCH_DISABLED = "network.dns.disablePrefetch";
+	public static final int BLOCK_IMAGES = 2;
 
 
 	// User Directory
@@ -50,6 +70,7 @@ public class TestConstants {
 
 	// File Path Details
 	public static final String CONFIG_FILE_PATH = "/src/test/resources/config/$.properties";
+	public static final String DEFAULT_CONFIG_FILE_PATH = "/src/test/resources/config/default.properties";
 	public static final String EXCEL_FILE_PATH = "/src/test/resources/data/testData.xlsx";
 	public static final String EXTENT_REPORT_CONFIG_FILE_PATH = "//src//main//resources//config//report-config.xml";
 	public static final String EXTENT_REPORT_PATH = "//src//test//resources//report//";
@@ -86,6 +107,17 @@ public class TestConstants {
 	public static final int EXPLICIT_WAIT_TIME = 5;
 	public static final int WAIT_SLEEP = 2;
 	public static final int WAIT_TIME = 5000;
+	public static final int DOM_QUIET_WINDOW = 500;
+	public static final int DOM_POLL_INTERVAL = 100;
+	public static final int NETWORK_QUIET_WINDOW = 500;
+	public static final int NETWORK_MAX_INFLIGHT = 2;
+	public static final int NETWORK_IDLE_TIMEOUT = 2000;
+	public static final String NETWORK_MONITOR = "NetworkMonitor";
+
+	// DOM Stability Details
+	public static final String DOM_STABILITY_MODE = "DomStability";
+	public static final String DOM_STABILITY_PAGE_SOURCE = "PageSource";
+	public static final String DOM_STABILITY_MUTATION_OBSERVER = "MutationObserver";
 
 	// Date Time Details
 	public static final String MONTH_FORMAT = "MMMM";
@@ -98,6 +130,101 @@ public class TestConstants {
 	// Screenshot Details
 	public static final String SNAPSHOT_PATH = "//src//test//resources//screenshots//";
 	public static final String FULL_PAGE_SCREENSHOT = "FullPageScreenShot";
+	public static final String FULL_PAGE_STRATEGY = "FullPageStrategy";
+	public static final String FULL_PAGE_REPORT_FILE_NAME = "full-page-screenshots.txt";
 	public static final String IMG_PNG_FORMAT = "image/png";
+	public static final String SAVE_SCREENSHOTS = "SaveScreenshots";
+	public static final int SCREENSHOT_WRITER_QUEUE_CAPACITY = 16;
+	public static final long SCREENSHOT_WRITER_FLUSH_SECONDS = 30;
+	public static final String TEXT_PLAIN_FORMAT = "text/plain";
+	public static final int DEFAULT_LOG_BUFFER_CAPACITY = 500;
+	public static final String LOG_BUFFER_PATTERN = "[%-5level] %d{HH:mm:ss.SSS} [%t] %c{1} - %msg%n";
+
+	// Performance Report Details
+	public static final String PERF_REPORT_PATH = "/target/perf/";
+	public static final String BROWSER_PROFILE_REPORT_FILE_NAME = "browser-profiles.txt";
+	public static final String DRIVER_PIPELINE_REPORT_FILE_NAME = "driver-pipeline.txt";
+	public static final int DEFAULT_BROWSER_PROFILE_ITERATIONS = 5;
+	public static final String COMMAND_TIMING = "CommandTiming";
+	public static final String COMMAND_TIMING_REPORT = "/target/cucumber/report/command-timing.json";
+	public static final int COMMAND_TIMING_TOP_N = 25;
+	public static final double COMMAND_TIMING_OVERHEAD_BUDGET = 1.0;
+	public static final int COMMAND_TIMING_DISPATCH_CALLS = 10000;
+	public static final String TIMING_HISTORY_PATH = "/perf-history/timings.tsv";
+	public static final int TIMING_HISTORY_RUNS = 30;
+	public static final int TIMING_BASELINE_RUNS = 5;
+	public static final String STEP_REGRESSION_THRESHOLD = "StepRegressionThreshold";
+	public static final long DEFAULT_STEP_REGRESSION_THRESHOLD = 20;
+	public static final long STEP_REGRESSION_MIN_MILLIS = 100;
+	public static final String STEP_REGRESSION_FILE_NAME = "step-regressions.txt";
+	public static final String DURATION_SCHEDULING = "DurationScheduling";
+	public static final long DEFAULT_SCENARIO_ESTIMATE_MILLIS = 60000;
+	public static final String SCHEDULE_REPORT_FILE_NAME = "schedule-report.txt";
+	public static final String SHARD_INDEX = "shard.index";
+	public static final String SHARD_TOTAL = "shard.total";
+	public static final String RUN_ID = "run.id";
+	public static final int DEFAULT_SHARD_COUNT = 2;
+	public static final String SHARD_ROOT_PATH = "/target/shards";
+	public static final String SHARD_FOLDER_PREFIX = "shard-";
+	public static final String SHARD_OUTPUT_PATH = SHARD_ROOT_PATH + "/" + SHARD_FOLDER_PREFIX;
+	public static final String SHARD_LOG_FILE_NAME = "shard.log";
+	public static final String TESTNG_SUITE_PATH = "src/test/resources/xml/testNG.xml";
+	public static final String CUCUMBER_PLUGIN_PROPERTY = "cucumber.plugin";
+	public static final String CUCUMBER_REPORT_PATH = "target/cucumber/report/";
+	public static final String CUCUMBER_HTML_REPORT = "cucumber.html";
+	public static final String CUCUMBER_JSON_REPORT = "report.json";
+	public static final String CUCUMBER_JUNIT_REPORT = "report.xml";
+	public static final String EXTENT_BASE_FOLDER = "basefolder.name";
+	public static final String EXTENT_JSON_START = "extent.reporter.json.start";
+	public static final String EXTENT_JSON_OUT = "extent.reporter.json.out";
+	public static final String EXTENT_SHARD_FOLDER = "extent";
+	public static final String EXTENT_JSON_REPORT = "ExtentJson.json";
+	public static final String MERGED_EXTENT_REPORT = "extent/ExtentSpark.html";
+	public static final String SLEEP_REPORT_FILE_NAME = "sleep-report.txt";
+
+	// Driver Pool Details
+	public static final String DRIVER_POOL = "DriverPool";
+	public static final String DRIVER_POOL_CAPACITY = "DriverPoolCapacity";
+	public static final String DRIVER_POOL_MAX_REUSE = "DriverPoolMaxReuse";
+	public static final String DRIVER_POOL_IDLE_TIMEOUT = "DriverPoolIdleTimeout";
+	public static final String DRIVER_POOL_LEASE_TIMEOUT = "DriverPoolLeaseTimeout";
+	public static final int DEFAULT_POOL_CAPACITY = 2;
+	public static final int DEFAULT_POOL_MAX_REUSE = 20;
+	public static final int DEFAULT_POOL_IDLE_TIMEOUT = 300;
+	public static final int DEFAULT_POOL_LEASE_TIMEOUT = 120;
+	public static final String CONTEXT_ISOLATION = "ContextIsolation";
+	public static final String CONTEXT_ISOLATION_MAX_REUSE = "ContextIsolationMaxReuse";
+	public static final int DEFAULT_CONTEXT_ISOLATION_MAX_REUSE = 50;
+	public static final String DRIVER_PIPELINE = "DriverPipeline";
+	public static final String DRIVER_QUIT_TIMEOUT = "DriverQuitTimeout";
+	public static final int DEFAULT_DRIVER_QUIT_TIMEOUT = 30;
+
+	// API Client Details
+	public static final String BASE_URL = "BaseURL";
+	public static final String API_POOL_MAX_TOTAL = "ApiPoolMaxTotal";
+	public static final String API_POOL_MAX_PER_ROUTE = "ApiPoolMaxPerRoute";
+	public static final int DEFAULT_API_POOL_MAX_TOTAL = 20;
+	public static final int DEFAULT_API_POOL_MAX_PER_ROUTE = 10;
+
+	// Request Blocking Details
+	public static final String REQUEST_BLOCKING = "RequestBlocking";
+	public static final String BLOCKED_URL_PATTERNS = "BlockedUrlPatterns";
+	public static final String BLOCKED_RESOURCE_TYPES = "BlockedResourceTypes";
+	public static final String BLOCKED_REQUEST_ERROR = "BlockedByClient";
+	public static final String BLOCKED_REQUEST_REPORT_FILE_NAME = "blocked-requests.txt";
+
+	// Replay Server Details
+	public static final String REPLAY_MODE = "ReplayMode";
+	public static final String REPLAY_RECORD = "Record";
+	public static final String REPLAY_REPLAY = "Replay";
+	public static final String REPLAY_UPSTREAM = "ReplayUpstream";
+	public static final String REPLAY_PORT = "ReplayPort";
+	public static final int DEFAULT_REPLAY_PORT = 8089;
+	public static final int REPLAY_SERVER_THREADS = 16;
+	public static final String REPLAY_PATH = "/src/test/resources/replay/";
+
+	// Parallel Execution Details
+	public static final String SCENARIO_THREADS = "ScenarioThreads";
+	public static final int DEFAULT_SCENARIO_THREADS = 1;
 
 }
@@ -43,7 +43,7 @@ import static com.qa.ctf.constant.TestConstants.*;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.0
+ * @version 1.1
  */
 public class BrowserFactory extends FileReader {
 
@@ -51,7 +51,7 @@ public class BrowserFactory extends FileReader {
     private static final Logger log = LogManager.getLogger(BrowserFactory.class);
 
     // Instance variable to store the browser configuration (e.g., Chrome, Firefox, etc.)
-    private String browser;
+    private volatile String browser;
 
     /**
      * Sets the browser type for the test execution.
@@ -95,12 +95,14 @@ public class BrowserFactory extends FileReader {
      *                                          not recognized.
      */
     public BrowserType getBrowserType() {
-        setBrowser(getValue(BrowserType.BROWSER.getBrowserType()));
-        if (getBrowser() == null || getBrowser().isEmpty()) {
+        // Resolve into a local so that concurrent scenarios never switch on each other's value
+        String browserName = getValue(BrowserType.BROWSER.getBrowserType());
+        setBrowser(browserName);
+        if (browserName == null || browserName.isEmpty()) {
             log.error("Browser is not specified or is empty.");
             throw new ExceptionHub.ConfigTypeException("Browser is not specified.");
         }
-        return switch (getBrowser()) {
+        return switch (browserName) {
             case CHROME -> {
                 log.info("Chrome browser is set for test execution");
                 yield BrowserType.CHROME;
@@ -115,32 +117,26 @@ public class BrowserFactory extends FileReader {
             }
             default -> {
                 log.error(
-                        "Invalid browser type: '{}'", getBrowser());
-                throw new ExceptionHub.ConfigTypeException(getBrowser());
+                        "Invalid browser type: '{}'", browserName);
+                throw new ExceptionHub.ConfigTypeException(browserName);
             }
         };
     }
 
     /**
-     * Retrieves the value associated with the provided key from either environment
-     * variables or a property file.
+     * Retrieves the value associated with the provided key from the configuration.
      * <p>
-     * This method first checks if the key exists in the environment variables, and
-     * if not, it fetches the value from the property file. A warning is logged if
-     * the key is not found in either location.
+     * This method fetches the value from the configuration snapshot, in which a system
+     * property passed on the command line overrides the configuration files. A warning
+     * is logged if the value is empty.
      * </p>
      *
      * @param key The key whose associated value is to be retrieved.
      * @return The value associated with the provided key.
      */
     private String getValue(String key) {
-        String value = System.getProperty(key);
-        if (value != null && !value.isEmpty()) {
-            log.info("Browser is specified from the MVN CMD LINE ARGS.");
-            return value;
-        }
-        value = fetchDataFromPropFile(key);
-        log.info("Browser is specified from the CONFIG FILE.");
+        String value = fetchDataFromPropFile(key);
+        log.info("Browser '{}' is read from the configuration.", value);
         if (value == null || value.isEmpty()) {
             log.warn("Value for key '{}' not found in environment or property file.", key);
         }
@@ -0,0 +1,151 @@
+package com.qa.ctf.factory;
+
+import com.qa.ctf.constant.BrowserProfile;
+import com.qa.ctf.util.LatencyHistogram;
+import com.qa.ctf.util.ShardPlan;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.qa.ctf.constant.TestConstants.*;
+import static com.qa.ctf.util.FileReader.getConfig;
+
+/**
+ * The BrowserProfileBenchmark class measures what each {@link BrowserProfile} costs
+ * to start a local browser and to run a short storefront scenario in it.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Launches the configured browser with every profile, in turn, for the given
+ *     number of iterations.</li>
+ *     <li>Times the browser startup, a scenario that opens the home page and the store
+ *     page, and the browser shutdown separately.</li>
+ *     <li>Writes the p50, p95 and maximum of every phase per profile to
+ *     {@code target/perf/browser-profiles.txt}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>A profile whose browser fails to start or to load the pages is reported as
+ *   failed and the benchmark moves on to the next profile.</li>
+ *   <li>Failures while writing the report are logged.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The browser and the storefront URL are read from the same configuration as the
+ * suite, so {@code -DBrowser}, {@code -DEnvType} and {@code -DBrowserViewport} apply.
+ * The first iteration of every profile is a warm-up and is not recorded.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * java -DBrowser=Chrome -cp "target/classes:target/test-classes:<dependencies>" \
+ *     com.qa.ctf.factory.BrowserProfileBenchmark 10
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class BrowserProfileBenchmark {
+
+    // Logger instance for the BrowserProfileBenchmark class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(BrowserProfileBenchmark.class);
+
+    // Path of the store page opened by the scenario, relative to the base URL
+    private static final String STORE_PAGE = "store";
+
+    private BrowserProfileBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and writes its report.
+     *
+     * @param args The number of recorded iterations per profile.
+     */
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BROWSER_PROFILE_ITERATIONS;
+        writeReport(run(iterations));
+    }
+
+    /**
+     * Runs the benchmark for every browser profile.
+     *
+     * @param iterations The number of recorded iterations per profile.
+     * @return The report lines, one per profile.
+     */
+    public static List<String> run(int iterations) {
+        DriverFactory driverFactory = DriverFactory.getInstance();
+        String baseUrl = getConfig().getString(BASE_URL);
+        List<String> lines = new ArrayList<>();
+        lines.add("profile | runs | startup p50/p95/max ms | scenario p50/p95/max ms | quit p50/p95/max ms");
+        for (BrowserProfile profile : BrowserProfile.values()) {
+            LatencyHistogram startup = new LatencyHistogram();
+            LatencyHistogram scenario = new LatencyHistogram();
+            LatencyHistogram quit = new LatencyHistogram();
+            try {
+                for (int iteration = 0; iteration <= iterations; iteration++) {
+                    boolean recorded = iteration > 0;
+                    long start = System.nanoTime();
+                    WebDriver driver = driverFactory.createLocalDriver(profile);
+                    long started = System.nanoTime();
+                    try {
+                        driver.get(baseUrl);
+                        driver.get(baseUrl + STORE_PAGE);
+                        driver.findElements(By.tagName("img"));
+                    } finally {
+                        long finished = System.nanoTime();
+                        driver.quit();
+                        if (recorded) {
+                            startup.recordValue(toMicros(started - start));
+                            scenario.recordValue(toMicros(finished - started));
+                            quit.recordValue(toMicros(System.nanoTime() - finished));
+                        }
+                    }
+                }
+                lines.add(String.format("%s | %d | %s | %s | %s", profile.getProfile(), startup.getTotalCount(),
+                        summarize(startup), summarize(scenario), summarize(quit)));
+            } catch (RuntimeException ex) {
+                log.error("Benchmark of the '{}' profile failed: {}", profile.getProfile(), ex.getMessage());
+                lines.add(String.format("%s | FAILED | %s", profile.getProfile(), ex.getClass().getSimpleName()));
+            }
+            log.info("Benchmarked the '{}' profile", profile.getProfile());
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the report lines to the performance report folder.
+     *
+     * @param lines The report lines.
+     */
+    private static void writeReport(List<String> lines) {
+        Path reportPath = ShardPlan.outputPath(PERF_REPORT_PATH + BROWSER_PROFILE_REPORT_FILE_NAME);
+        try {
+            Files.createDirectories(reportPath.getParent());
+            Files.write(reportPath, lines, StandardCharsets.UTF_8);
+            log.info("Browser profile report written to '{}'", reportPath);
+        } catch (IOException ex) {
+            log.warn("Failed to write the browser profile report: {}", ex.getMessage());
+        }
+    }
+
+    private static String summarize(LatencyHistogram histogram) {
+        return String.format("%d/%d/%d", histogram.getValueAtPercentile(50) / 1000,
+                histogram.getValueAtPercentile(95) / 1000, histogram.getMaxValue() / 1000);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+}
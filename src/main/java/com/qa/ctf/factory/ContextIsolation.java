@@ -0,0 +1,277 @@
+package com.qa.ctf.factory;
+
+import com.qa.ctf.util.CdpSession;
+import com.qa.ctf.util.ExceptionHub;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The ContextIsolation class keeps one browser per worker thread and isolates the
+ * scenarios of the worker in fresh browser contexts, so that isolation costs a
+ * browser context instead of a browser launch.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Launches the browser of a worker thread on its first scenario and keeps it
+ *     for the following scenarios of the thread.</li>
+ *     <li>Opens every scenario in a window of a new browser context created with
+ *     {@code Target.createBrowserContext}, with its own cookies, storage and cache.</li>
+ *     <li>Disposes the context of the scenario when it finishes, so nothing can bleed
+ *     into the next scenario.</li>
+ *     <li>Retires a browser after a maximum number of contexts and reports the context
+ *     and launch timings through {@link #getStatistics()}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub} is thrown when a browser context cannot be opened; the
+ *   browser of the worker is quit, so the next scenario starts from a new one.</li>
+ *   <li>A browser whose context cannot be disposed is quit rather than reused.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Browser contexts are created through the Chrome DevTools Protocol, so only Chrome
+ * and Edge are isolated this way. Browsers without a {@link CdpSession}, such as
+ * Firefox, fall back to a new browser per scenario. The window handle of a Chromium
+ * window is its DevTools target id. All browsers are quit by {@link #shutdown()} when
+ * the suite finishes.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * ContextIsolation contextIsolation = new ContextIsolation(this::createDriver, 50);
+ * WebDriver driver = contextIsolation.open();
+ * contextIsolation.close(driver);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.2
+ */
+public final class ContextIsolation {
+
+    // Logger instance for the ContextIsolation class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ContextIsolation.class);
+
+    // Blank page the window of a new browser context is opened on
+    private static final String BLANK_PAGE = "about:blank";
+
+    // Supplier used to launch the browser of a worker thread
+    private final Supplier<WebDriver> driverSupplier;
+
+    // Maximum number of contexts a browser serves before it is retired
+    private final int maxReuse;
+
+    // Browser of the current worker thread
+    private final ThreadLocal<Worker> workerLocal = new ThreadLocal<>();
+
+    // Browsers of all worker threads, quit when the JVM shuts down
+    private final Set<Worker> workers = ConcurrentHashMap.newKeySet();
+
+    // Counters backing the statistics
+    private final LongAdder launchCount = new LongAdder();
+    private final LongAdder launchNanos = new LongAdder();
+    private final LongAdder contextCount = new LongAdder();
+    private final LongAdder contextNanos = new LongAdder();
+
+    /**
+     * Constructs a ContextIsolation and registers a shutdown hook quitting the browsers
+     * of all worker threads.
+     *
+     * @param driverSupplier The supplier used to launch a browser.
+     * @param maxReuse       The number of contexts after which a browser is retired.
+     * @throws IllegalArgumentException If the supplier is null or the max reuse is not positive.
+     */
+    public ContextIsolation(Supplier<WebDriver> driverSupplier, int maxReuse) {
+        if (driverSupplier == null) {
+            throw new IllegalArgumentException("Driver supplier cannot be null.");
+        }
+        if (maxReuse < 1) {
+            throw new IllegalArgumentException("Context isolation max reuse must be positive.");
+        }
+        this.driverSupplier = driverSupplier;
+        this.maxReuse = maxReuse;
+        log.info("Context isolation enabled with max reuse '{}'", maxReuse);
+    }
+
+    /**
+     * Opens a window in a new browser context of the browser of the current thread.
+     * <p>
+     * The browser is launched on first use, and the WebDriver and DevTools session are
+     * switched to the new window. Browsers without DevTools support get a new browser
+     * instead.
+     * </p>
+     *
+     * @return The WebDriver instance, focused on the window of the new context.
+     * @throws ExceptionHub If the browser context cannot be opened.
+     */
+    public WebDriver open() {
+        Worker worker = workerLocal.get();
+        if (worker == null) {
+            worker = launch();
+        }
+        Optional<CdpSession> cdpSession = CdpSession.of(worker.driver);
+        if (cdpSession.isEmpty()) {
+            log.info("Browser contexts need DevTools, isolating the scenario in its own browser.");
+            workerLocal.remove();
+            workers.remove(worker);
+            return worker.driver;
+        }
+        long start = System.nanoTime();
+        try {
+            CdpSession session = cdpSession.get();
+            worker.contextId = String.valueOf(
+                    session.sendForResult("Target.createBrowserContext", Map.of()).get("browserContextId"));
+            String targetId = String.valueOf(session.sendForResult("Target.createTarget",
+                    Map.of("url", BLANK_PAGE, "browserContextId", worker.contextId)).get("targetId"));
+            worker.driver.switchTo().window(targetId);
+            session.switchTarget(targetId);
+        } catch (WebDriverException ex) {
+            discard(worker, "context creation failure");
+            throw new ExceptionHub("Failed to open a browser context", ex);
+        }
+        worker.contexts++;
+        long elapsed = System.nanoTime() - start;
+        contextCount.increment();
+        contextNanos.add(elapsed);
+        log.info("Opened browser context '{}' in '{}' ms (context {} of {})",
+                worker.contextId, TimeUnit.NANOSECONDS.toMillis(elapsed), worker.contexts, maxReuse);
+        return worker.driver;
+    }
+
+    /**
+     * Disposes the browser context of the scenario of the current thread.
+     * <p>
+     * The WebDriver and DevTools session are switched back to the first window of the
+     * browser, which stays in the default context. A browser that reached the maximum
+     * number of contexts or cannot dispose the context is quit, as is a browser that
+     * was handed out without a context.
+     * </p>
+     *
+     * @param driver The WebDriver instance returned by {@link #open()}.
+     */
+    public void close(WebDriver driver) {
+        Worker worker = workerLocal.get();
+        if (worker == null || worker.driver != driver || worker.contextId == null) {
+            quietlyQuit(driver);
+            return;
+        }
+        try {
+            worker.driver.switchTo().window(worker.anchorHandle);
+            CdpSession session = CdpSession.of(worker.driver).orElseThrow();
+            session.switchTarget(worker.anchorHandle);
+            session.send("Target.disposeBrowserContext", Map.of("browserContextId", worker.contextId));
+            worker.contextId = null;
+        } catch (WebDriverException ex) {
+            log.warn("Failed to dispose the browser context, quitting the browser: {}", ex.getMessage());
+            discard(worker, "context disposal failure");
+            return;
+        }
+        if (worker.contexts >= maxReuse) {
+            discard(worker, "max reuse reached");
+        }
+    }
+
+    /**
+     * Retrieves a summary of the launch and context timings.
+     *
+     * @return The statistics formatted as a single line.
+     */
+    public String getStatistics() {
+        long launches = launchCount.sum();
+        long contexts = contextCount.sum();
+        return String.format("launches=%d, avgLaunchMs=%d, contexts=%d, avgContextMs=%d, live=%d",
+                launches, launches == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(launchNanos.sum() / launches),
+                contexts, contexts == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(contextNanos.sum() / contexts),
+                workers.size());
+    }
+
+    /**
+     * Launches the browser of the current thread.
+     *
+     * @return The worker holding the new browser.
+     */
+    private Worker launch() {
+        long start = System.nanoTime();
+        WebDriver driver = driverSupplier.get();
+        long elapsed = System.nanoTime() - start;
+        launchCount.increment();
+        launchNanos.add(elapsed);
+        log.info("Launched the browser of worker thread '{}' in '{}' ms",
+                Thread.currentThread().getName(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        Worker worker = new Worker(driver, driver.getWindowHandle());
+        workerLocal.set(worker);
+        workers.add(worker);
+        return worker;
+    }
+
+    /**
+     * Quits the browser of a worker, so that the next scenario of the thread launches a new one.
+     *
+     * @param worker The worker to discard.
+     * @param reason The reason logged for discarding the browser.
+     */
+    private void discard(Worker worker, String reason) {
+        log.info("Quitting the browser of a worker after {} context(s): {}", worker.contexts, reason);
+        workerLocal.remove();
+        workers.remove(worker);
+        quietlyQuit(worker.driver);
+    }
+
+    /**
+     * Quits the browsers of all worker threads and logs the final statistics, when the
+     * suite finishes.
+     */
+    public void shutdown() {
+        workers.forEach(worker -> quietlyQuit(worker.driver));
+        log.info("Context isolation statistics: {}", getStatistics());
+    }
+
+    /**
+     * Quits a WebDriver instance, logging instead of propagating any failure.
+     *
+     * @param driver The WebDriver instance to quit.
+     */
+    private void quietlyQuit(WebDriver driver) {
+        CdpSession.release(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException ex) {
+            log.warn("Failed to quit the browser session: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Holder for the browser of a worker thread and its current browser context.
+     */
+    private static final class Worker {
+
+        // WebDriver instance of the worker thread
+        private final WebDriver driver;
+
+        // Handle of the first window of the browser, in the default context
+        private final String anchorHandle;
+
+        // Id of the browser context of the running scenario, null between scenarios
+        private String contextId;
+
+        // Number of contexts the browser has served
+        private int contexts;
+
+        private Worker(WebDriver driver, String anchorHandle) {
+            this.driver = driver;
+            this.anchorHandle = anchorHandle;
+        }
+    }
+
+}
@@ -2,21 +2,32 @@ package com.qa.ctf.factory;
 
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
 
+import com.qa.ctf.constant.BrowserProfile;
 import com.qa.ctf.constant.BrowserType;
+import com.qa.ctf.listener.CommandTimingListener;
+import com.qa.ctf.util.CdpSession;
+import com.qa.ctf.util.ConfigSnapshot;
 import com.qa.ctf.util.ExceptionHub;
+import com.qa.ctf.util.RequestBlocker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Platform;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
 import static com.qa.ctf.constant.TestConstants.*;
 
@@ -31,6 +42,22 @@ import static com.qa.ctf.constant.TestConstants.*;
  *     <li>Support for both local and remote WebDriver configurations.</li>
  *     <li>Thread-safe singleton pattern to provide a single instance of DriverFactory.</li>
  *     <li>Logging of driver initialization processes for better debugging and traceability.</li>
+ *     <li>Optional leasing of warm browser sessions from a {@link DriverPool} when the
+ *     {@code DriverPool} system property is set to {@code Yes}.</li>
+ *     <li>Optional latency recording of every WebDriver command through the
+ *     {@link CommandTimingListener}, when {@code CommandTiming} is set to {@code Yes}.</li>
+ *     <li>Named {@link BrowserProfile}s for local browsers, selected with {@code BrowserProfile},
+ *     that run headless with a fixed viewport and trimmed background features.</li>
+ *     <li>Optional isolation of scenarios in fresh browser contexts of one browser per
+ *     worker thread with {@link ContextIsolation}, when {@code ContextIsolation} is set
+ *     to {@code Yes}.</li>
+ *     <li>Optional pipelining of browser launches and quits with the scenarios through the
+ *     {@link DriverPipeline}, when {@code DriverPipeline} is set to {@code Yes}.</li>
+ *     <li>Blocking of the requests of the {@code BlockedUrlPatterns} and
+ *     {@code BlockedResourceTypes} lists, empty by default, with a {@link RequestBlocker}
+ *     attached to every session created, unless {@code RequestBlocking} is set to {@code No}.</li>
+ *     <li>Optional network monitor attached to the session of every scenario, for the
+ *     opt-in network idle wait, when {@code NetworkMonitor} is set to {@code Yes}.</li>
  * </ul>
  *
  * <p>Exception Handling:
@@ -58,25 +85,13 @@ import static com.qa.ctf.constant.TestConstants.*;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.2
+ * @version 2.4
  */
 public class DriverFactory extends BrowserFactory {
 
     // Logger instance for the DriverFactory class to enable logging during the execution
     private static final Logger log = LogManager.getLogger(DriverFactory.class);
 
-    // WebDriver instance to interact with web elements on the web pages
-    private WebDriver driver;
-
-    // Instance of ChromeOptions to configure Chrome-specific WebDriver options
-    private ChromeOptions gcOptions;
-
-    // Instance of FirefoxOptions to configure Firefox-specific WebDriver options
-    private FirefoxOptions ffOptions;
-
-    // Instance of EdgeOptions to configure Microsoft Edge-specific WebDriver options
-    private EdgeOptions meOptions;
-
     // Instance of RunFactory to manage and retrieve run configurations
     private final RunFactory runFactory;
 
@@ -86,6 +101,15 @@ public class DriverFactory extends BrowserFactory {
     // ThreadLocal variable to store WebDriver instance specific to the current thread (for multithreaded execution)
     private static final ThreadLocal<WebDriver> driverLocal = new ThreadLocal<>();
 
+    // Pool of warm browser sessions, created lazily when the driver pool is enabled
+    private volatile DriverPool driverPool;
+
+    // Browsers of the worker threads, created lazily when context isolation is enabled
+    private volatile ContextIsolation contextIsolation;
+
+    // Background launches and quits, created lazily when the driver pipeline is enabled
+    private volatile DriverPipeline driverPipeline;
+
     /**
      * Constructs a DriverFactory instance and initializes the RunFactory
      * and ExcelReader.
@@ -156,13 +180,183 @@ public class DriverFactory extends BrowserFactory {
      * Initializes and returns a WebDriver instance.
      * <p>
      * This method creates a new WebDriver instance using the {@link #createDriver()} method,
-     * sets it using the {@link #setDriver(WebDriver)} method, and then returns the initialized
-     * WebDriver instance for use in test components.
+     * leases a warm one from the {@link DriverPool} when the pool is enabled, or opens a
+     * new browser context in the browser of the thread when {@link ContextIsolation} is
+     * enabled, which takes precedence over the pool. Otherwise, when the
+     * {@link DriverPipeline} is enabled, it takes the browser launched in the background
+     * while the previous scenario of the thread ran. It sets it
+     * using the {@link #setDriver(WebDriver)} method, and then returns the initialized
+     * WebDriver instance for use in test components. When enabled with
+     * {@code -DCommandTiming=Yes}, the driver is decorated with the
+     * {@link CommandTimingListener} to record the latency of every command.
      * </p>
      */
     public void initializeDriver() {
         if(driverLocal.get() == null) {
-            setDriver(createDriver());
+            WebDriver driver;
+            if (isContextIsolationEnabled()) {
+                driver = getContextIsolation().open();
+            } else if (isDriverPoolEnabled()) {
+                driver = getDriverPool().lease();
+            } else {
+                driver = isDriverPipelineEnabled() ? getDriverPipeline().take() : createDriver();
+            }
+            if (isCommandTimingEnabled()) {
+                driver = new EventFiringDecorator<>(CommandTimingListener.getInstance()).decorate(driver);
+            }
+            setDriver(driver);
+        }
+    }
+
+    /**
+     * Checks whether the commands of the drivers handed out should be timed.
+     *
+     * @return true if {@code CommandTiming} is set to {@code Yes} in the configuration snapshot.
+     */
+    public static boolean isCommandTimingEnabled() {
+        return getConfig().getBoolean(COMMAND_TIMING, false);
+    }
+
+    /**
+     * Retrieves the browser session behind a decorated WebDriver.
+     *
+     * @param driver The WebDriver instance, possibly decorated.
+     * @return The undecorated WebDriver instance.
+     */
+    public static WebDriver unwrapDriver(WebDriver driver) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver wrapsDriver) {
+            target = wrapsDriver.getWrappedDriver();
+        }
+        return target;
+    }
+
+    /**
+     * Retrieves the driver pool, creating it on first use.
+     * <p>
+     * The pool capacity, max reuse count, idle timeout and lease timeout (both in
+     * seconds) are read from the configuration snapshot, where system properties
+     * override the configuration files, falling back to their defaults when not set.
+     * </p>
+     *
+     * @return The DriverPool shared by all threads.
+     */
+    public DriverPool getDriverPool() {
+        DriverPool pool = driverPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = driverPool;
+                if (pool == null) {
+                    ConfigSnapshot config = getConfig();
+                    pool = new DriverPool(this::createDriver,
+                            config.getInt(DRIVER_POOL_CAPACITY, DEFAULT_POOL_CAPACITY),
+                            config.getInt(DRIVER_POOL_MAX_REUSE, DEFAULT_POOL_MAX_REUSE),
+                            config.getSeconds(DRIVER_POOL_IDLE_TIMEOUT, Duration.ofSeconds(DEFAULT_POOL_IDLE_TIMEOUT)),
+                            config.getSeconds(DRIVER_POOL_LEASE_TIMEOUT, Duration.ofSeconds(DEFAULT_POOL_LEASE_TIMEOUT)));
+                    driverPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Retrieves the context isolation, creating it on first use.
+     * <p>
+     * The number of contexts a browser serves before it is retired is read from the
+     * configuration snapshot, falling back to its default when not set.
+     * </p>
+     *
+     * @return The ContextIsolation shared by all threads.
+     */
+    public ContextIsolation getContextIsolation() {
+        ContextIsolation isolation = contextIsolation;
+        if (isolation == null) {
+            synchronized (this) {
+                isolation = contextIsolation;
+                if (isolation == null) {
+                    isolation = new ContextIsolation(this::createDriver, getConfig().getInt(
+                            CONTEXT_ISOLATION_MAX_REUSE, DEFAULT_CONTEXT_ISOLATION_MAX_REUSE));
+                    contextIsolation = isolation;
+                }
+            }
+        }
+        return isolation;
+    }
+
+    /**
+     * Checks whether scenarios should be isolated in browser contexts of one browser per
+     * worker thread.
+     *
+     * @return true if {@code ContextIsolation} is set to {@code Yes} in the configuration snapshot.
+     */
+    public static boolean isContextIsolationEnabled() {
+        return getConfig().getBoolean(CONTEXT_ISOLATION, false);
+    }
+
+    /**
+     * Retrieves the driver pipeline, creating it on first use.
+     * <p>
+     * The quit timeout, in seconds, is read from the configuration snapshot, falling
+     * back to its default when not set.
+     * </p>
+     *
+     * @return The DriverPipeline shared by all threads.
+     */
+    public DriverPipeline getDriverPipeline() {
+        DriverPipeline pipeline = driverPipeline;
+        if (pipeline == null) {
+            synchronized (this) {
+                pipeline = driverPipeline;
+                if (pipeline == null) {
+                    pipeline = new DriverPipeline(this::createDriver, getConfig().getSeconds(
+                            DRIVER_QUIT_TIMEOUT, Duration.ofSeconds(DEFAULT_DRIVER_QUIT_TIMEOUT)));
+                    driverPipeline = pipeline;
+                }
+            }
+        }
+        return pipeline;
+    }
+
+    /**
+     * Checks whether browsers should be launched ahead of their scenario and quit in
+     * the background.
+     *
+     * @return true if {@code DriverPipeline} is set to {@code Yes} in the configuration snapshot.
+     */
+    public static boolean isDriverPipelineEnabled() {
+        return getConfig().getBoolean(DRIVER_PIPELINE, false);
+    }
+
+    /**
+     * Checks whether browser sessions should be leased from the driver pool.
+     *
+     * @return true if {@code DriverPool} is set to {@code Yes} in the configuration snapshot.
+     */
+    public static boolean isDriverPoolEnabled() {
+        return getConfig().getBoolean(DRIVER_POOL, false);
+    }
+
+    /**
+     * Shuts down the driver pool, context isolation and driver pipeline created during
+     * the run, quitting the browser sessions they still hold.
+     * <p>
+     * Called once by the {@code SuiteLifecycleListener} when the suite finishes; a later
+     * scenario would create them again on first use.
+     * </p>
+     */
+    public synchronized void shutdownSessions() {
+        if (driverPool != null) {
+            driverPool.shutdown();
+            driverPool = null;
+        }
+        if (contextIsolation != null) {
+            contextIsolation.shutdown();
+            contextIsolation = null;
+        }
+        if (driverPipeline != null) {
+            driverPipeline.shutdown();
+            driverPipeline = null;
         }
     }
 
@@ -172,6 +366,8 @@ public class DriverFactory extends BrowserFactory {
      * This method determines whether to create a local or remote WebDriver instance
      * based on the run type (LOCAL or REMOTE) and calls the appropriate
      * method to create the driver.
+     * Unless disabled with {@code -DRequestBlocking=No}, a {@link RequestBlocker} is
+     * attached to the session of browsers supporting DevTools.
      * </p>
      *
      * @return The created WebDriver instance (either local or remote).
@@ -179,17 +375,71 @@ public class DriverFactory extends BrowserFactory {
      *                                           recognized.
      */
     private WebDriver createDriver() {
-        return switch (runFactory.getTestRunType()) {
+        WebDriver driver = switch (runFactory.getTestRunType()) {
             case LOCAL -> createLocalDriver();
             case REMOTE -> createRemoteDriver();
             default -> throw new ExceptionHub.InvalidDataException(runFactory.getRunType());
         };
+        if (isRequestBlockingEnabled()) {
+            try {
+                CdpSession.of(driver).ifPresentOrElse(CdpSession::getRequestBlocker,
+                        () -> log.info("Request blocking needs DevTools and is skipped for this browser."));
+            } catch (RuntimeException ex) {
+                CdpSession.release(driver);
+                driver.quit();
+                throw ex;
+            }
+        }
+        return driver;
+    }
+
+    /**
+     * Checks whether the requests of the block lists should be blocked in the sessions
+     * created by the factory.
+     *
+     * @return true unless {@code RequestBlocking} is set to {@code No} in the configuration snapshot.
+     */
+    public static boolean isRequestBlockingEnabled() {
+        return getConfig().getBoolean(REQUEST_BLOCKING, true);
+    }
+
+    /**
+     * Checks whether a network monitor should be attached to the session of every
+     * scenario, for the scenarios that wait for the network to become idle.
+     *
+     * @return true if {@code NetworkMonitor} is set to {@code Yes} in the configuration snapshot.
+     */
+    public static boolean isNetworkMonitorEnabled() {
+        return getConfig().getBoolean(NETWORK_MONITOR, false);
     }
 
+    /**
+     * Ends the WebDriver session of the current thread.
+     * <p>
+     * When context isolation is enabled the browser context of the scenario is
+     * disposed and the browser is kept for the next scenario of the thread. When the
+     * driver pool is enabled the session is returned to the pool to be reset and
+     * reused. When the driver pipeline is enabled the browser is quit in the
+     * background; otherwise it is quit before this method returns.
+     * </p>
+     */
     public static void quitDriver() {
-        if (driverLocal.get() != null) {
-            driverLocal.get().quit();
-            driverLocal.remove();
+        WebDriver driver = driverLocal.get();
+        if (driver != null) {
+            try {
+                if (isContextIsolationEnabled()) {
+                    getInstance().getContextIsolation().close(unwrapDriver(driver));
+                } else if (isDriverPoolEnabled()) {
+                    getInstance().getDriverPool().release(unwrapDriver(driver));
+                } else if (isDriverPipelineEnabled()) {
+                    getInstance().getDriverPipeline().reap(unwrapDriver(driver));
+                } else {
+                    CdpSession.release(driver);
+                    driver.quit();
+                }
+            } finally {
+                driverLocal.remove();
+            }
         }
     }
 
@@ -197,8 +447,7 @@ public class DriverFactory extends BrowserFactory {
      * Creates a local WebDriver instance based on the specified browser type.
      * <p>
      * This method initializes and returns a WebDriver for local execution based
-     * on the browser type. It handles Chrome, Firefox, and Edge browsers by
-     * setting appropriate options and creating the respective driver instances.
+     * on the browser type and the browser profile selected for the run.
      * </p>
      *
      * @return A WebDriver instance for the specified browser type (Chrome, Firefox,
@@ -206,38 +455,144 @@ public class DriverFactory extends BrowserFactory {
      * @throws ExceptionHub.InvalidDataException If the browser type is not recognized.
      */
     private WebDriver createLocalDriver() {
+        return createLocalDriver(getBrowserProfile());
+    }
+
+    /**
+     * Creates a local WebDriver instance with the given browser profile.
+     * <p>
+     * This method handles Chrome, Firefox, and Edge browsers by setting the private
+     * mode option and applying the browser profile uniformly, then creating the
+     * respective driver instances.
+     * </p>
+     *
+     * @param profile The browser profile to launch the browser with.
+     * @return A WebDriver instance for the specified browser type (Chrome, Firefox,
+     * or Edge).
+     * @throws ExceptionHub.InvalidDataException If the browser type or the viewport is
+     *                                           not recognized.
+     */
+    WebDriver createLocalDriver(BrowserProfile profile) {
+        Dimension viewport = getBrowserViewport();
         return switch (getBrowserType()) {
             case CHROME -> {
-                log.info("Initializing Chrome driver for local execution.");
-                gcOptions = new ChromeOptions();
-                if(getSystemProperty(BROWSER_PRIVATE_MODE).equalsIgnoreCase(OPTION_YES)){
+                log.info("Initializing Chrome driver for local execution with the '{}' profile.", profile.getProfile());
+                ChromeOptions gcOptions = new ChromeOptions();
+                if(isPrivateModeEnabled()){
                     gcOptions.addArguments(CHROME_INCOGNITO);
                 }
-                gcOptions.addArguments(BROWSER_MAXIMIZE);
+                applyProfile(gcOptions, profile, viewport, BROWSER_MAXIMIZE);
                 yield new ChromeDriver(gcOptions);
             }
             case FIREFOX -> {
-                log.info("Initializing Firefox driver for local execution.");
-                ffOptions = new FirefoxOptions();
-                if(getSystemProperty(BROWSER_PRIVATE_MODE).equalsIgnoreCase(OPTION_YES)){
+                log.info("Initializing Firefox driver for local execution with the '{}' profile.", profile.getProfile());
+                FirefoxOptions ffOptions = new FirefoxOptions();
+                if(isPrivateModeEnabled()){
                     ffOptions.addArguments(FIREFOX_PRIVATE);
                 }
-                ffOptions.addArguments(BROWSER_MAXIMIZE);
+                applyProfile(ffOptions, profile, viewport);
                 yield new FirefoxDriver(ffOptions);
             }
             case EDGE -> {
-                log.info("Initializing Edge driver for local execution.");
-                meOptions = new EdgeOptions();
-                if(getSystemProperty(BROWSER_PRIVATE_MODE).equalsIgnoreCase(OPTION_YES)){
+                log.info("Initializing Edge driver for local execution with the '{}' profile.", profile.getProfile());
+                EdgeOptions meOptions = new EdgeOptions();
+                if(isPrivateModeEnabled()){
                     meOptions.addArguments(EDGE_PRIVATE);
                 }
-                meOptions.addArguments(EDGE_BROWSER_MAXIMIZE);
+                applyProfile(meOptions, profile, viewport, EDGE_BROWSER_MAXIMIZE);
                 yield new EdgeDriver(meOptions);
             }
             default -> throw new ExceptionHub.InvalidDataException(getBrowserType().toString());
         };
     }
 
+    /**
+     * Retrieves the browser profile selected for the run.
+     *
+     * @return The profile set with the {@code BrowserProfile} configuration key, or
+     * {@link BrowserProfile#DEFAULT} when it is not set or not recognized.
+     */
+    public static BrowserProfile getBrowserProfile() {
+        return BrowserProfile.from(getConfig().getString(BROWSER_PROFILE, BrowserProfile.DEFAULT.getProfile()));
+    }
+
+    /**
+     * Retrieves the fixed viewport of the headless profiles.
+     *
+     * @return The viewport set with the {@code BrowserViewport} configuration key as
+     * {@code <width>x<height>}, 1920x1080 when it is not set.
+     * @throws ExceptionHub.InvalidDataException If the viewport is not two positive numbers.
+     */
+    public static Dimension getBrowserViewport() {
+        String value = getConfig().getString(BROWSER_VIEWPORT, DEFAULT_BROWSER_VIEWPORT);
+        String[] size = value.toLowerCase().split("x");
+        try {
+            Dimension viewport = new Dimension(Integer.parseInt(size[0].strip()), Integer.parseInt(size[1].strip()));
+            if (size.length == 2 && viewport.getWidth() > 0 && viewport.getHeight() > 0) {
+                return viewport;
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+            throw new ExceptionHub.InvalidDataException(BROWSER_VIEWPORT + "=" + value, ex);
+        }
+        throw new ExceptionHub.InvalidDataException(BROWSER_VIEWPORT + "=" + value);
+    }
+
+    /**
+     * Applies a browser profile to the options of a Chromium based browser.
+     * <p>
+     * The default profile maximizes the window. The headless profiles run the new
+     * headless mode with a fixed window size and without GPU, extensions and
+     * background networking, and may block images through the content settings.
+     * </p>
+     *
+     * @param options          The Chrome or Edge options.
+     * @param profile          The browser profile.
+     * @param viewport         The fixed viewport of the headless profiles.
+     * @param maximizeArgument The argument maximizing the window of the browser.
+     */
+    private static void applyProfile(ChromiumOptions<?> options, BrowserProfile profile, Dimension viewport,
+                                     String maximizeArgument) {
+        if (!profile.isHeadless()) {
+            options.addArguments(maximizeArgument);
+        } else {
+            options.addArguments(CHROMIUM_HEADLESS,
+                    String.format(CHROMIUM_WINDOW_SIZE, viewport.getWidth(), viewport.getHeight()),
+                    CHROMIUM_DISABLE_GPU, CHROMIUM_DISABLE_EXTENSIONS, CHROMIUM_DISABLE_BACKGROUND_NETWORKING);
+        }
+        if (profile.isImagesBlocked()) {
+            options.setExperimentalOption(CHROMIUM_PREFS, Map.of(CHROMIUM_IMAGES_SETTING, BLOCK_IMAGES));
+        }
+    }
+
+    /**
+     * Applies a browser profile to the options of Firefox.
+     * <p>
+     * Firefox has no switches for the trimmed features, so the headless profiles
+     * set the equivalent preferences: no hardware acceleration, no extension updates
+     * and no link or DNS prefetching.
+     * </p>
+     *
+     * @param options  The Firefox options.
+     * @param profile  The browser profile.
+     * @param viewport The fixed viewport of the headless profiles.
+     */
+    private static void applyProfile(FirefoxOptions options, BrowserProfile profile, Dimension viewport) {
+        if (!profile.isHeadless()) {
+            options.addArguments(BROWSER_MAXIMIZE);
+        } else {
+            options.addArguments(FIREFOX_HEADLESS,
+                    String.format(FIREFOX_WIDTH, viewport.getWidth()),
+                    String.format(FIREFOX_HEIGHT, viewport.getHeight()));
+            options.addPreference(FIREFOX_DISABLE_GPU, true);
+            options.addPreference(FIREFOX_EXTENSIONS_UPDATE, false);
+            options.addPreference(FIREFOX_PREFETCH, false);
+            options.addPreference(FIREFOX_DNS_PREFETCH_DISABLED, true);
+        }
+        if (profile.isImagesBlocked()) {
+            options.addPreference(FIREFOX_IMAGES_SETTING, BLOCK_IMAGES);
+        }
+    }
+
     /**
      * Creates a remote WebDriver instance based on the specified browser type.
      * <p>
@@ -257,10 +612,10 @@ public class DriverFactory extends BrowserFactory {
             return switch (getBrowserType()) {
                 case CHROME -> {
                     log.info("Initializing Chrome driver for remote execution.");
-                    gcOptions = new ChromeOptions();
+                    ChromeOptions gcOptions = new ChromeOptions();
                     gcOptions.setCapability(CapabilityType.PLATFORM_NAME, Platform.WINDOWS);
                     gcOptions.setCapability(CapabilityType.BROWSER_NAME, BrowserType.CHROME.getBrowserType().toLowerCase());
-                    if(getSystemProperty(BROWSER_PRIVATE_MODE).equalsIgnoreCase(OPTION_YES)){
+                    if(isPrivateModeEnabled()){
                         gcOptions.addArguments(CHROME_INCOGNITO);
                     }
                     gcOptions.addArguments(BROWSER_MAXIMIZE);
@@ -268,20 +623,20 @@ public class DriverFactory extends BrowserFactory {
                 }
                 case FIREFOX -> {
                     log.info("Initializing Firefox driver for remote execution.");
-                    ffOptions = new FirefoxOptions();
+                    FirefoxOptions ffOptions = new FirefoxOptions();
                     ffOptions.setCapability(CapabilityType.PLATFORM_NAME, Platform.WINDOWS);
                     ffOptions.setCapability(CapabilityType.BROWSER_NAME, BrowserType.FIREFOX.getBrowserType().toLowerCase());
-                    if(getSystemProperty(BROWSER_PRIVATE_MODE).equalsIgnoreCase(OPTION_YES)){
+                    if(isPrivateModeEnabled()){
                         ffOptions.addArguments(FIREFOX_PRIVATE);
                     }
                     yield new RemoteWebDriver(URI.create(fetchDataFromPropFile(GRID_URL)).toURL(), ffOptions);
                 }
                 case EDGE -> {
                     log.info("Initializing Edge driver for remote execution.");
-                    meOptions = new EdgeOptions();
+                    EdgeOptions meOptions = new EdgeOptions();
                     meOptions.setCapability(CapabilityType.PLATFORM_NAME, Platform.WINDOWS);
                     meOptions.setCapability(CapabilityType.BROWSER_NAME, BrowserType.EDGE.getBrowserType());
-                    if(getSystemProperty(BROWSER_PRIVATE_MODE).equalsIgnoreCase(OPTION_YES)){
+                    if(isPrivateModeEnabled()){
                         meOptions.addArguments(EDGE_PRIVATE);
                     }
                     meOptions.addArguments(EDGE_BROWSER_MAXIMIZE);
@@ -296,18 +651,12 @@ public class DriverFactory extends BrowserFactory {
     }
 
     /**
-     * Retrieves the system property value for the given key.
-     * <p>
-     * This method fetches the value of the system property specified by the given key.
-     * If the property is not found, it returns a default value ("default_value").
-     * </p>
+     * Checks whether the browsers should be launched in their private mode.
      *
-     * @param key The name of the system property to retrieve.
-     * @return The value of the system property, or "default_value" if the property is
-     * not found.
+     * @return true if {@code Private} is set to {@code Yes} in the configuration snapshot.
      */
-    public static String getSystemProperty(String key) {
-        return System.getProperty(key, "default_value");
+    private static boolean isPrivateModeEnabled() {
+        return getConfig().getBoolean(BROWSER_PRIVATE_MODE, false);
     }
 
 }
@@ -0,0 +1,385 @@
+package com.qa.ctf.factory;
+
+import com.qa.ctf.util.CdpSession;
+import com.qa.ctf.util.PerfReportWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverCommandExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The DriverPipeline class overlaps the browser launch of the next scenario and the
+ * browser shutdown of the previous scenario with the running scenario, so that a
+ * scenario thread never waits for a launch or a quit it does not have to.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Launches the next browser of a scenario thread in the background as soon as
+ *     the thread takes its current browser.</li>
+ *     <li>Hands every quit to a background reaper, so the after hook returns at once.</li>
+ *     <li>Force-kills the driver service and browser processes of a quit that exceeds
+ *     the quit timeout, and any of them left running after a quit.</li>
+ *     <li>Reports the launch and quit time hidden by the overlap to
+ *     {@code target/perf/driver-pipeline.txt} through the {@link PerfReportWriter}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>A background launch that fails, or a launched session that died while waiting,
+ *   is replaced by a launch on the scenario thread, which propagates its failure.</li>
+ *   <li>Failures while quitting, killing processes or writing the report are logged
+ *   and never fail the test run.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Processes are only killed for local browsers, found by the {@code --port} argument
+ * of the driver service started by Selenium. One spare browser per scenario thread is
+ * still launched after the last scenario of the thread and is quit by {@link #shutdown()}
+ * when the suite finishes.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * DriverPipeline driverPipeline = new DriverPipeline(this::createDriver, Duration.ofSeconds(30));
+ * WebDriver driver = driverPipeline.take();
+ * driverPipeline.reap(driver);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.2
+ */
+public final class DriverPipeline {
+
+    // Logger instance for the DriverPipeline class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(DriverPipeline.class);
+
+    // Supplier used to launch a new browser session
+    private final Supplier<WebDriver> driverSupplier;
+
+    // Duration a quit may take before the processes of the browser are killed
+    private final Duration quitTimeout;
+
+    // Background launch of the next browser of the current scenario thread
+    private final ThreadLocal<Future<Launch>> spareLocal = new ThreadLocal<>();
+
+    // Background launches not yet taken by a scenario thread
+    private final Set<Future<Launch>> spares = ConcurrentHashMap.newKeySet();
+
+    // Driver service process of every browser handed out, used to kill it if the quit hangs
+    private final Map<WebDriver, ProcessHandle> serviceProcesses = new ConcurrentHashMap<>();
+
+    // Quits that have not finished yet
+    private final Set<CompletableFuture<Void>> pendingQuits = ConcurrentHashMap.newKeySet();
+
+    // Whether the JVM is shutting down, when quits no longer overlap with scenarios
+    private volatile boolean shuttingDown;
+
+    // Executors of the background launches and quits
+    private final ExecutorService launcher;
+    private final ExecutorService reaper;
+
+    // Counters backing the report
+    private final LongAdder launchCount = new LongAdder();
+    private final LongAdder launchNanos = new LongAdder();
+    private final LongAdder takenCount = new LongAdder();
+    private final LongAdder launchWaitNanos = new LongAdder();
+    private final LongAdder hiddenLaunchNanos = new LongAdder();
+    private final LongAdder quitCount = new LongAdder();
+    private final LongAdder quitNanos = new LongAdder();
+    private final LongAdder quitTimeouts = new LongAdder();
+    private final LongAdder killedProcesses = new LongAdder();
+    private final LongAdder fallbackLaunches = new LongAdder();
+
+    /**
+     * Constructs a DriverPipeline and registers a shutdown hook that quits the spare
+     * browsers, waits for the pending quits and writes the report.
+     *
+     * @param driverSupplier The supplier used to launch a new browser session.
+     * @param quitTimeout    The duration a quit may take before the browser processes are killed.
+     * @throws IllegalArgumentException If the supplier is null or the timeout is not positive.
+     */
+    public DriverPipeline(Supplier<WebDriver> driverSupplier, Duration quitTimeout) {
+        if (driverSupplier == null) {
+            throw new IllegalArgumentException("Driver supplier cannot be null.");
+        }
+        if (quitTimeout.isNegative() || quitTimeout.isZero()) {
+            throw new IllegalArgumentException("Driver quit timeout must be positive.");
+        }
+        this.driverSupplier = driverSupplier;
+        this.quitTimeout = quitTimeout;
+        this.launcher = Executors.newCachedThreadPool(daemonThreads("driver-pipeline-launcher"));
+        this.reaper = Executors.newCachedThreadPool(daemonThreads("driver-pipeline-reaper"));
+        PerfReportWriter.register(DRIVER_PIPELINE_REPORT_FILE_NAME, this::getReportLines);
+        log.info("Driver pipeline created with quit timeout '{}'", quitTimeout);
+    }
+
+    /**
+     * Takes the browser launched in the background for the current scenario thread, and
+     * starts launching the next one.
+     * <p>
+     * The first scenario of a thread waits for its launch. A browser whose background
+     * launch failed or whose session died while it was waiting is replaced by a launch
+     * on the calling thread.
+     * </p>
+     *
+     * @return The WebDriver instance of the scenario.
+     */
+    public WebDriver take() {
+        Future<Launch> spare = spareLocal.get();
+        if (spare == null) {
+            spare = launchInBackground();
+        }
+        spareLocal.remove();
+        spares.remove(spare);
+        long start = System.nanoTime();
+        Launch launch = await(spare);
+        long waited = System.nanoTime() - start;
+        if (launch != null) {
+            hiddenLaunchNanos.add(Math.max(0, launch.nanos() - waited));
+        } else {
+            fallbackLaunches.increment();
+            launch = launch();
+            waited = System.nanoTime() - start;
+        }
+        takenCount.increment();
+        launchWaitNanos.add(waited);
+        spareLocal.set(launchInBackground());
+        return launch.driver();
+    }
+
+    /**
+     * Quits a browser in the background.
+     * <p>
+     * The processes of a local browser are killed when the quit exceeds the quit
+     * timeout, and the ones still running after the quit are killed as orphans.
+     * </p>
+     *
+     * @param driver The WebDriver instance to quit.
+     */
+    public void reap(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        ProcessHandle serviceProcess = serviceProcesses.remove(driver);
+        List<ProcessHandle> processes = new ArrayList<>();
+        if (serviceProcess != null) {
+            processes.add(serviceProcess);
+            serviceProcess.descendants().forEach(processes::add);
+        }
+        boolean hidden = !shuttingDown;
+        long start = System.nanoTime();
+        CompletableFuture<Void> quit = CompletableFuture.runAsync(() -> {
+            CdpSession.release(driver);
+            driver.quit();
+        }, reaper);
+        pendingQuits.add(quit);
+        quit.orTimeout(quitTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((ignored, ex) -> {
+            if (hidden) {
+                quitCount.increment();
+                quitNanos.add(System.nanoTime() - start);
+            }
+            if (ex instanceof TimeoutException) {
+                quitTimeouts.increment();
+                log.warn("Browser quit exceeded '{}', killing its processes.", quitTimeout);
+            } else if (ex != null) {
+                log.warn("Failed to quit the browser session: {}", ex.getMessage());
+            }
+            kill(processes);
+            pendingQuits.remove(quit);
+        });
+    }
+
+    /**
+     * Retrieves a summary of the hidden launch and quit times.
+     * <p>
+     * Quits of spare browsers at shutdown do not overlap with a scenario and are not
+     * counted.
+     * </p>
+     *
+     * @return The pipeline statistics formatted as a single line.
+     */
+    public String getStatistics() {
+        return String.format("launches=%d, taken=%d, launchMs=%d, waitMs=%d, hiddenLaunchMs=%d, fallbacks=%d, "
+                        + "quits=%d, hiddenQuitMs=%d, quitTimeouts=%d, killedProcesses=%d",
+                launchCount.sum(), takenCount.sum(), toMillis(launchNanos), toMillis(launchWaitNanos),
+                toMillis(hiddenLaunchNanos), fallbackLaunches.sum(), quitCount.sum(), toMillis(quitNanos),
+                quitTimeouts.sum(), killedProcesses.sum());
+    }
+
+    /**
+     * Starts launching a browser in the background.
+     *
+     * @return The future launch.
+     */
+    private Future<Launch> launchInBackground() {
+        Future<Launch> spare = launcher.submit(this::launch);
+        spares.add(spare);
+        return spare;
+    }
+
+    /**
+     * Launches a browser and finds its driver service process.
+     *
+     * @return The launched browser and the time its launch took.
+     */
+    private Launch launch() {
+        long start = System.nanoTime();
+        WebDriver driver = driverSupplier.get();
+        long elapsed = System.nanoTime() - start;
+        findServiceProcess(driver).ifPresent(process -> serviceProcesses.put(driver, process));
+        launchCount.increment();
+        launchNanos.add(elapsed);
+        log.info("Launched a browser session in '{}' ms on thread '{}'",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), Thread.currentThread().getName());
+        return new Launch(driver, elapsed);
+    }
+
+    /**
+     * Waits for a background launch and checks that its session is still alive.
+     *
+     * @param spare The future launch.
+     * @return The launched browser, or null if the launch failed or the session died.
+     */
+    private Launch await(Future<Launch> spare) {
+        Launch launch;
+        try {
+            launch = spare.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            spare.cancel(true);
+            return null;
+        } catch (ExecutionException ex) {
+            log.warn("Background browser launch failed: {}", ex.getCause().getMessage());
+            return null;
+        }
+        try {
+            launch.driver().getWindowHandle();
+            return launch;
+        } catch (WebDriverException ex) {
+            log.warn("Background browser session died while waiting, replacing it: {}", ex.getMessage());
+            reap(launch.driver());
+            return null;
+        }
+    }
+
+    /**
+     * Kills the processes that are still running.
+     *
+     * @param processes The driver service process and its descendants.
+     */
+    private void kill(List<ProcessHandle> processes) {
+        for (ProcessHandle process : processes) {
+            if (process.isAlive() && process.destroyForcibly()) {
+                killedProcesses.increment();
+                log.info("Killed orphaned browser process '{}'", process.pid());
+            }
+        }
+    }
+
+    /**
+     * Quits the spare browsers and waits for the pending quits, when the suite finishes.
+     */
+    public void shutdown() {
+        shuttingDown = true;
+        spares.forEach(spare -> {
+            try {
+                reap(spare.get(quitTimeout.toMillis(), TimeUnit.MILLISECONDS).driver());
+            } catch (Exception ex) {
+                spare.cancel(true);
+            }
+        });
+        try {
+            CompletableFuture.allOf(pendingQuits.toArray(CompletableFuture[]::new))
+                    .get(quitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            log.warn("Browser sessions still quitting at shutdown: {}", pendingQuits.size());
+        }
+        log.info("Driver pipeline statistics: {}", getStatistics());
+    }
+
+    /**
+     * Builds the report of the launch and quit times and the part of them hidden by the overlap.
+     *
+     * @return The report lines, or an empty list if no browser was launched.
+     */
+    private List<String> getReportLines() {
+        if (launchCount.sum() == 0) {
+            return List.of();
+        }
+        long quitMillis = toMillis(quitNanos);
+        return List.of(
+                "phase | count | total ms | waited ms | hidden ms",
+                String.format("launch | %d taken of %d | %d | %d | %d", takenCount.sum(), launchCount.sum(),
+                        toMillis(launchNanos), toMillis(launchWaitNanos), toMillis(hiddenLaunchNanos)),
+                String.format("quit | %d | %d | 0 | %d", quitCount.sum(), quitMillis, quitMillis),
+                String.format("TOTAL | fallbacks=%d, quit timeouts=%d, killed processes=%d | %d | %d | %d",
+                        fallbackLaunches.sum(), quitTimeouts.sum(), killedProcesses.sum(),
+                        toMillis(launchNanos) + quitMillis, toMillis(launchWaitNanos),
+                        toMillis(hiddenLaunchNanos) + quitMillis));
+    }
+
+    /**
+     * Finds the driver service process of a local browser, started by Selenium with the
+     * port of its address as {@code --port=<port>}.
+     *
+     * @param driver The WebDriver instance.
+     * @return The driver service process, or an empty Optional for a remote browser.
+     */
+    private static Optional<ProcessHandle> findServiceProcess(WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver remoteWebDriver)
+                || !(remoteWebDriver.getCommandExecutor() instanceof DriverCommandExecutor executor)) {
+            return Optional.empty();
+        }
+        String portArgument = "--port=" + executor.getAddressOfRemoteServer().getPort();
+        return ProcessHandle.current().children()
+                .filter(process -> process.info().arguments()
+                        .map(arguments -> Arrays.asList(arguments).contains(portArgument))
+                        .orElse(false))
+                .findFirst();
+    }
+
+    private static long toMillis(LongAdder nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos.sum());
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Browser launched by the pipeline and the time its launch took, in nanoseconds.
+     */
+    private record Launch(WebDriver driver, long nanos) {
+    }
+
+}
@@ -0,0 +1,467 @@
+package com.qa.ctf.factory;
+
+import com.qa.ctf.util.CdpSession;
+import com.qa.ctf.util.ExceptionHub;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The DriverPool class maintains a bounded set of pre-warmed WebDriver sessions
+ * that are leased to scenarios and reset between leases, so that a scenario does
+ * not pay the cost of a browser launch and session negotiation every time.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Bounded capacity of live browser sessions, with leases blocking until a
+ *     session is released or the lease timeout elapses.</li>
+ *     <li>Asynchronous warm-up of sessions as soon as the pool is created.</li>
+ *     <li>Session reset between leases by closing extra windows and clearing cookies,
+ *     local storage and session storage; through DevTools, the cookies of all origins
+ *     and the stored data of every open origin are cleared.</li>
+ *     <li>Retirement of sessions after a maximum reuse count and eviction of sessions
+ *     that stay idle longer than the idle timeout.</li>
+ *     <li>Lease and launch timings reported through the logger and
+ *     {@link #getStatistics()}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub.TimeoutException} is thrown when no session becomes
+ *   available within the lease timeout.</li>
+ *   <li>Sessions that fail to reset are quit and replaced rather than handed out
+ *   in an unknown state.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The pool does not know how to build a browser; it delegates launches to the
+ * supplier provided by {@link DriverFactory}. The reset cannot reach the storage of
+ * origins that were visited but are no longer open, so the pool is not an isolation
+ * mode; use {@link ContextIsolation} for that. All sessions are quit by
+ * {@link #shutdown()} when the suite finishes.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * DriverPool driverPool = new DriverPool(this::createDriver, 2, 20,
+ *         Duration.ofMinutes(5), Duration.ofMinutes(1));
+ * WebDriver driver = driverPool.lease();
+ * driverPool.release(driver);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.4
+ */
+public final class DriverPool {
+
+    // Logger instance for the DriverPool class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(DriverPool.class);
+
+    // JavaScript command to clear the local and session storage of the current origin
+    private static final String CLEAR_STORAGE =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    // Blank page loaded into a session before it is returned to the pool
+    private static final String BLANK_PAGE = "about:blank";
+
+    // Longest wait for an idle session before a waiting lease checks again for a freed slot
+    private static final long SLOT_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // Supplier used to launch a new browser session when the pool needs one
+    private final Supplier<WebDriver> driverSupplier;
+
+    // Maximum number of live browser sessions owned by the pool
+    private final int capacity;
+
+    // Maximum number of leases a single session serves before it is retired
+    private final int maxReuse;
+
+    // Duration after which an idle session is evicted from the pool
+    private final Duration idleTimeout;
+
+    // Duration a lease waits for a free session before giving up
+    private final Duration leaseTimeout;
+
+    // Idle sessions ready to be leased, most recently released first
+    private final LinkedBlockingDeque<PooledDriver> idleDrivers = new LinkedBlockingDeque<>();
+
+    // Sessions currently leased to scenarios, keyed by their WebDriver
+    private final Map<WebDriver, PooledDriver> leasedDrivers = new ConcurrentHashMap<>();
+
+    // Number of live sessions, including the ones being launched
+    private final AtomicInteger liveDrivers = new AtomicInteger();
+
+    // Background executor used for warm-up launches and idle eviction
+    private final ScheduledExecutorService housekeeper;
+
+    // Counters backing the pool statistics
+    private final LongAdder launchCount = new LongAdder();
+    private final LongAdder launchNanos = new LongAdder();
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder leaseNanos = new LongAdder();
+    private final LongAdder reuseCount = new LongAdder();
+    private final LongAdder retiredCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+
+    /**
+     * Constructs a DriverPool and starts warming up its sessions.
+     * <p>
+     * The pool immediately launches sessions in the background until the capacity
+     * is reached, schedules the idle eviction sweep and registers a shutdown hook
+     * that quits every session owned by the pool.
+     * </p>
+     *
+     * @param driverSupplier The supplier used to launch a new browser session.
+     * @param capacity       The maximum number of live sessions.
+     * @param maxReuse       The number of leases after which a session is retired.
+     * @param idleTimeout    The idle duration after which a session is evicted.
+     * @param leaseTimeout   The maximum duration a lease waits for a session.
+     * @throws IllegalArgumentException If the supplier is null or a limit is not positive.
+     */
+    public DriverPool(Supplier<WebDriver> driverSupplier, int capacity, int maxReuse,
+                      Duration idleTimeout, Duration leaseTimeout) {
+        if (driverSupplier == null) {
+            throw new IllegalArgumentException("Driver supplier cannot be null.");
+        }
+        if (capacity < 1 || maxReuse < 1) {
+            throw new IllegalArgumentException("Driver pool capacity and max reuse must be positive.");
+        }
+        this.driverSupplier = driverSupplier;
+        this.capacity = capacity;
+        this.maxReuse = maxReuse;
+        this.idleTimeout = idleTimeout;
+        this.leaseTimeout = leaseTimeout;
+        this.housekeeper = Executors.newScheduledThreadPool(1, runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMillis = Math.max(1000L, idleTimeout.toMillis() / 2);
+        housekeeper.scheduleWithFixedDelay(this::evictIdleDrivers, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+        log.info("Driver pool created with capacity '{}', max reuse '{}' and idle timeout '{}'",
+                capacity, maxReuse, idleTimeout);
+        warmUp();
+    }
+
+    /**
+     * Leases a clean browser session to the calling scenario.
+     * <p>
+     * This method hands out the most recently released idle session if there is
+     * one, launches a new session if the pool is below capacity, and otherwise
+     * waits for another scenario to release a session or to free a slot by
+     * discarding one.
+     * </p>
+     *
+     * @return The leased WebDriver instance.
+     * @throws ExceptionHub.TimeoutException If no session is available within the lease timeout.
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        long deadline = start + leaseTimeout.toNanos();
+        PooledDriver pooledDriver;
+        try {
+            while (true) {
+                pooledDriver = idleDrivers.pollFirst();
+                if (pooledDriver == null && reserveSlot()) {
+                    pooledDriver = launch();
+                }
+                if (pooledDriver == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        log.error("No browser session became available within '{}'", leaseTimeout);
+                        throw new ExceptionHub.TimeoutException(
+                                String.format("No browser session became available within %s", leaseTimeout));
+                    }
+                    // A discarded session frees a slot without offering a session, so the wait is
+                    // cut into short slices after which the free slots are checked again
+                    pooledDriver = idleDrivers.pollFirst(Math.min(remaining, SLOT_CHECK_NANOS), TimeUnit.NANOSECONDS);
+                }
+                if (pooledDriver != null && isExpired(pooledDriver)) {
+                    evictedCount.increment();
+                    discard(pooledDriver, "idle timeout");
+                    continue;
+                }
+                if (pooledDriver != null) {
+                    break;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExceptionHub("Interrupted while waiting for a browser session", ex);
+        }
+        pooledDriver.leases++;
+        if (pooledDriver.leases > 1) {
+            reuseCount.increment();
+        }
+        leasedDrivers.put(pooledDriver.driver, pooledDriver);
+        long elapsed = System.nanoTime() - start;
+        leaseCount.increment();
+        leaseNanos.add(elapsed);
+        log.info("Leased browser session in '{}' ms (lease {} of {})",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), pooledDriver.leases, maxReuse);
+        return pooledDriver.driver;
+    }
+
+    /**
+     * Returns a leased browser session to the pool.
+     * <p>
+     * The session is reset before it becomes available to the next scenario. If
+     * the session reached the maximum reuse count or cannot be reset, it is quit
+     * and its slot is freed for a fresh launch. Drivers that were not leased from
+     * this pool are simply quit.
+     * </p>
+     *
+     * @param driver The WebDriver instance to return.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledDriver pooledDriver = leasedDrivers.remove(driver);
+        if (pooledDriver == null) {
+            log.warn("Released driver is not owned by the pool, quitting it.");
+            quietlyQuit(driver);
+            return;
+        }
+        if (pooledDriver.leases >= maxReuse) {
+            retiredCount.increment();
+            discard(pooledDriver, "max reuse reached");
+            return;
+        }
+        try {
+            reset(driver);
+        } catch (WebDriverException ex) {
+            log.warn("Failed to reset the browser session, replacing it: {}", ex.getMessage());
+            discard(pooledDriver, "reset failure");
+            return;
+        }
+        pooledDriver.lastReleased = System.nanoTime();
+        idleDrivers.offerFirst(pooledDriver);
+    }
+
+    /**
+     * Retrieves a summary of the pool lease and launch timings.
+     *
+     * @return The pool statistics formatted as a single line.
+     */
+    public String getStatistics() {
+        long launches = launchCount.sum();
+        long leases = leaseCount.sum();
+        return String.format("launches=%d, avgLaunchMs=%d, leases=%d, avgLeaseMs=%d, reuses=%d, retired=%d, evicted=%d, live=%d",
+                launches, launches == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(launchNanos.sum() / launches),
+                leases, leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(leaseNanos.sum() / leases),
+                reuseCount.sum(), retiredCount.sum(), evictedCount.sum(), liveDrivers.get());
+    }
+
+    /**
+     * Launches sessions in the background until the pool is at capacity.
+     */
+    private void warmUp() {
+        for (int i = 0; i < capacity; i++) {
+            housekeeper.execute(() -> {
+                if (reserveSlot()) {
+                    try {
+                        PooledDriver pooledDriver = launch();
+                        pooledDriver.lastReleased = System.nanoTime();
+                        idleDrivers.offerLast(pooledDriver);
+                    } catch (RuntimeException ex) {
+                        log.warn("Failed to warm up a browser session: {}", ex.getMessage());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Reserves a slot for a new session if the pool is below capacity.
+     *
+     * @return true if a slot was reserved, false if the pool is full.
+     */
+    private boolean reserveSlot() {
+        int live;
+        do {
+            live = liveDrivers.get();
+            if (live >= capacity) {
+                return false;
+            }
+        } while (!liveDrivers.compareAndSet(live, live + 1));
+        return true;
+    }
+
+    /**
+     * Launches a new session into a previously reserved slot.
+     *
+     * @return The newly launched session.
+     */
+    private PooledDriver launch() {
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = driverSupplier.get();
+            long elapsed = System.nanoTime() - start;
+            launchCount.increment();
+            launchNanos.add(elapsed);
+            log.info("Launched a new browser session for the pool in '{}' ms",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return new PooledDriver(driver);
+        } catch (RuntimeException ex) {
+            liveDrivers.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    /**
+     * Resets a session so that nothing from the previous scenario leaks into the next.
+     * <p>
+     * All windows except the first one are closed and the storage of the current origin
+     * is cleared. With a {@link CdpSession}, the cookies of all origins and the stored
+     * data of the origins open in any window are cleared through DevTools; otherwise
+     * only the cookies of the current origin can be deleted. The session is then parked
+     * on a blank page.
+     * </p>
+     *
+     * @param driver The WebDriver instance to reset.
+     */
+    private void reset(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String primaryHandle = handles.iterator().next();
+        Set<String> origins = new LinkedHashSet<>();
+        for (String handle : handles) {
+            if (!handle.equals(primaryHandle)) {
+                driver.switchTo().window(handle);
+                originOf(driver.getCurrentUrl()).ifPresent(origins::add);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(primaryHandle);
+        originOf(driver.getCurrentUrl()).ifPresent(origins::add);
+        ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+        Optional<CdpSession> cdpSession = CdpSession.of(driver);
+        if (cdpSession.isPresent()) {
+            cdpSession.get().send("Network.clearBrowserCookies", Map.of());
+            origins.forEach(origin -> cdpSession.get().send("Storage.clearDataForOrigin",
+                    Map.of("origin", origin, "storageTypes", "all")));
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+        driver.get(BLANK_PAGE);
+    }
+
+    /**
+     * Resolves the origin of a page URL.
+     *
+     * @param url The URL of the page.
+     * @return The scheme, host and port of an HTTP(S) URL, or empty for any other page.
+     */
+    private static Optional<String> originOf(String url) {
+        if (url == null || !url.startsWith("http")) {
+            return Optional.empty();
+        }
+        try {
+            URI uri = URI.create(url);
+            return uri.getHost() == null ? Optional.empty() : Optional.of(
+                    uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Evicts sessions that have been idle for longer than the idle timeout.
+     */
+    private void evictIdleDrivers() {
+        List<PooledDriver> expired = new ArrayList<>();
+        for (PooledDriver pooledDriver : idleDrivers) {
+            if (isExpired(pooledDriver) && idleDrivers.remove(pooledDriver)) {
+                expired.add(pooledDriver);
+            }
+        }
+        for (PooledDriver pooledDriver : expired) {
+            evictedCount.increment();
+            discard(pooledDriver, "idle timeout");
+        }
+    }
+
+    /**
+     * Checks whether an idle session exceeded the idle timeout.
+     *
+     * @param pooledDriver The session to check.
+     * @return true if the session has been idle for too long.
+     */
+    private boolean isExpired(PooledDriver pooledDriver) {
+        return System.nanoTime() - pooledDriver.lastReleased > idleTimeout.toNanos();
+    }
+
+    /**
+     * Quits a session and frees its slot in the pool.
+     *
+     * @param pooledDriver The session to discard.
+     * @param reason       The reason logged for discarding the session.
+     */
+    private void discard(PooledDriver pooledDriver, String reason) {
+        log.info("Quitting pooled browser session after {} lease(s): {}", pooledDriver.leases, reason);
+        quietlyQuit(pooledDriver.driver);
+        liveDrivers.decrementAndGet();
+    }
+
+    /**
+     * Stops the housekeeping, quits every session owned by the pool and logs the final
+     * statistics, when the suite finishes.
+     */
+    public void shutdown() {
+        housekeeper.shutdownNow();
+        idleDrivers.forEach(pooledDriver -> quietlyQuit(pooledDriver.driver));
+        leasedDrivers.keySet().forEach(this::quietlyQuit);
+        log.info("Driver pool statistics: {}", getStatistics());
+    }
+
+    /**
+     * Quits a WebDriver instance, logging instead of propagating any failure.
+     *
+     * @param driver The WebDriver instance to quit.
+     */
+    private void quietlyQuit(WebDriver driver) {
+        CdpSession.release(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException ex) {
+            log.warn("Failed to quit the browser session: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Holder for a pooled WebDriver and its lease bookkeeping.
+     */
+    private static final class PooledDriver {
+
+        // WebDriver instance owned by the pool
+        private final WebDriver driver;
+
+        // Number of times the session has been leased
+        private int leases;
+
+        // Time of the last release, in System.nanoTime() units
+        private volatile long lastReleased;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+            this.lastReleased = System.nanoTime();
+        }
+    }
+
+}
@@ -41,7 +41,7 @@ import static com.qa.ctf.constant.TestConstants.*;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.0
+ * @version 1.1
  */
 public class RunFactory extends FileReader {
 
@@ -49,7 +49,7 @@ public class RunFactory extends FileReader {
     private static final Logger log = LogManager.getLogger(RunType.class);
 
     // Instance variable to store the run configuration for the application
-    private String runType;
+    private volatile String runType;
 
     /**
      * Sets the run type for the test execution.
@@ -92,12 +92,14 @@ public class RunFactory extends FileReader {
      *                                          not recognized.
      */
     public RunType getTestRunType() {
-        setRunType(getValue(RunType.TEST_RUN.getRunType())); // Set run from value
-        if (getRunType() == null || getRunType().isEmpty()) {
+        // Resolve into a local so that concurrent scenarios never switch on each other's value
+        String runTypeName = getValue(RunType.TEST_RUN.getRunType());
+        setRunType(runTypeName); // Set run from value
+        if (runTypeName == null || runTypeName.isEmpty()) {
             log.error("Run type is not specified or is empty.");
             throw new ExceptionHub.ConfigTypeException("Run type is not specified.");
         }
-        return switch (getRunType().toUpperCase()) {
+        return switch (runTypeName.toUpperCase()) {
             case LOCAL -> {
                 log.info("Local run is opted for test execution");
                 yield RunType.LOCAL;
@@ -107,31 +109,25 @@ public class RunFactory extends FileReader {
                 yield RunType.REMOTE;
             }
             default -> {
-                log.error("Invalid run type: '{}'", getRunType());
-                throw new ExceptionHub.ConfigTypeException("Invalid run type: " + getRunType());
+                log.error("Invalid run type: '{}'", runTypeName);
+                throw new ExceptionHub.ConfigTypeException("Invalid run type: " + runTypeName);
             }
         };
     }
 
     /**
-     * Retrieves the value associated with the provided key from either environment
-     * variables or a property file.
+     * Retrieves the value associated with the provided key from the configuration.
      * <p>
-     * This method first checks if the key exists in the environment variables, and
-     * if not, it fetches the value from the property file.
+     * This method fetches the value from the configuration snapshot, in which a system
+     * property passed on the command line overrides the configuration files.
      * </p>
      *
      * @param key The key whose associated value is to be retrieved.
      * @return The value associated with the provided key.
      */
     private String getValue(String key) {
-        String value = System.getProperty(key);
-        if (value != null && !value.isEmpty()) {
-            log.info("Run type is specified from the MVN CMD LINE ARGS.");
-            return value;
-        }
-        value = fetchDataFromPropFile(key);
-        log.info("Run type is specified from the CONFIG FILE.");
+        String value = fetchDataFromPropFile(key);
+        log.info("Run type '{}' is read from the configuration.", value);
         if (value == null || value.isEmpty()) {
             log.warn("Value for key '{}' not found in environment or property file.", key);
         }
@@ -1,16 +1,25 @@
 package com.qa.ctf.handler;
 
+import com.qa.ctf.base.DatePicker;
+import com.qa.ctf.constant.DatePickerStrategy;
 import com.qa.ctf.context.TestContext;
 import com.qa.ctf.util.ExceptionHub;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 /**
  * The DatePicker class provides utility methods for interacting with date picker elements
@@ -23,6 +32,8 @@ import java.util.List;
  *   components, including calendar pop-ups or text input fields.</li>
  *   <li>Format Handling: Support for multiple date formats, ensuring compatibility with
  *   various date picker implementations.</li>
+ *   <li>Strategy Selection: Direct input, bidirectional navigation or jumping by year,
+ *   based on a month delta computed up front from a single header read.</li>
  *   <li>Dynamic Date Selection: Utility methods to select dates relative to the current
  *   date (e.g., today, tomorrow, or custom offsets).</li>
  *   <li>Error Handling: Robust exception handling to manage scenarios where the desired
@@ -51,7 +62,7 @@ import java.util.List;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.1
+ * @version 1.3
  */
 public class DateTimeHandler {
 
@@ -61,6 +72,34 @@ public class DateTimeHandler {
     // Constant for the label identifying the "Day" field in a date picker.
     private static final String DAY_LABEL = "Day";
 
+    // Maximum number of navigate-and-verify rounds before the target month is considered unreachable
+    private static final int MAX_NAVIGATION_ROUNDS = 3;
+
+    // Number of months in a year, used to split a month delta into year jumps
+    private static final int MONTHS_IN_YEAR = 12;
+
+    // Maximum number of month clicks of the header text comparison used for unparseable headers
+    private static final int MAX_HEADER_TEXT_ATTEMPTS = 12;
+
+    // Header patterns accepted when parsing the month and year displayed by a date picker
+    private static final List<DateTimeFormatter> HEADER_FORMATS = List.of(
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("MMMM yyyy").toFormatter(Locale.ENGLISH),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("MMM yyyy").toFormatter(Locale.ENGLISH));
+
+    // JavaScript command that returns the normalized visible text of every argument element
+    private static final String READ_HEADERS = "return Array.prototype.map.call(arguments, function (el) {" +
+            "  return (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim();" +
+            "});";
+
+    // JavaScript command that sets the value of a date input and fires the input and change events
+    private static final String SET_DATE_INPUT = "var el = arguments[0];" +
+            "Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set.call(el, arguments[1]);" +
+            "el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "el.dispatchEvent(new Event('change', {bubbles: true}));";
+
+    // TestContext instance to manage shared test data and dependencies
+    private final TestContext testContext;
+
     // Instance of VerificationHandler to perform verification actions on dropdown elements
     private final VerificationHandler verificationHandler;
 
@@ -87,6 +126,7 @@ public class DateTimeHandler {
         if (testContext == null) {
             throw new IllegalArgumentException("TestContext cannot be null.");
         }
+        this.testContext = testContext;
         this.verificationHandler = verificationHandler;
         this.interactionHandler = new InteractionHandler(testContext, this.verificationHandler);
     }
@@ -124,16 +164,14 @@ public class DateTimeHandler {
             String month,
             String year,
             String dateDetailSectionLabel) {
-        int maxAttempts = 12;
         if (day == null || month == null || year == null) {
             log.error("Day, Month, and Year must not be null.");
             throw new ExceptionHub.DatePickerException("Day, Month, and Year must not be null.");
         }
+        LocalDate date;
         try {
             // Validate the date by attempting to create a LocalDate object.
-            // The result is not used because we are only interested in ensuring the inputs form a valid date.
-            // noinspection ResultOfMethodCallIgnored
-            LocalDate.of(Integer.parseInt(year), Month.valueOf(month.toUpperCase()), Integer.parseInt(day));
+            date = LocalDate.of(Integer.parseInt(year.trim()), Month.valueOf(month.trim().toUpperCase()), Integer.parseInt(day.trim()));
         } catch (DateTimeException | IllegalArgumentException ex) {
             log.error("Invalid date: {}/{}/{}", day, month, year);
             throw new ExceptionHub.DatePickerException(String.format("Invalid date: %s/%s/%s", day, month, year), ex);
@@ -141,20 +179,12 @@ public class DateTimeHandler {
         log.info("Selecting date: {}/{}/{}", day, month, year);
         datePicker.click();
         verificationHandler.isElementDisplayed(dateDetailSection, dateDetailSectionLabel);
-        String monthAfterTrim = month.trim();
-        String yearAfterTrim = year.trim();
-        String monthText = monthDetail.getText();
-        String yearText = yearDetail.getText();
-        while (!(monthText.trim().equalsIgnoreCase(monthAfterTrim) && yearText.trim().equalsIgnoreCase(yearAfterTrim))) {
-            maxAttempts--;
-            log.info("Navigating to Month: {}, Year: {}", monthText, yearText);
-            monthNavigator.click();
-            monthText = monthDetail.getText();
-            yearText = yearDetail.getText();
-            if (maxAttempts <= 0) {
-                log.error("Could not find the desired month and year: {} & {}", month, year);
-                throw new ExceptionHub.DatePickerException(String.format("Could not find the desired month and year: %s & %s", month, year));
-            }
+        List<WebElement> headers = List.of(monthDetail, yearDetail);
+        if (readDisplayedMonthsIfParseable(headers, true).isPresent()) {
+            navigateToMonth(headers, true, null, monthNavigator, null, null,
+                    YearMonth.from(date), DatePickerStrategy.BIDIRECTIONAL);
+        } else {
+            navigateByHeaderText(headers, List.of(month.trim(), year.trim()), monthNavigator);
         }
         log.info("Selecting day: {}", day);
         interactionHandler.clickElement(dayLocator, day, DAY_LABEL);
@@ -192,33 +222,279 @@ public class DateTimeHandler {
             String day,
             String monthYear,
             String dateDetailSectionLabel) {
-        int maxAttempts = 12;
         if (day == null || monthYear == null) {
             log.error("Day, Month, and Year must not be null.");
             throw new ExceptionHub.DatePickerException("Day, Month, and Year must not be null.");
         }
         log.info("Selecting date: {} / {}", day, monthYear);
+        Optional<YearMonth> target = tryParseHeader(monthYear.trim());
         datePicker.click();
         verificationHandler.isElementDisplayed(dateDetailSection, dateDetailSectionLabel);
-        String monthYearAfterTrim = monthYear.trim();
-        String leftMonthYearDetail = monthYearDetailList.get(0).getText();
-        String rightMonthYearDetail = monthYearDetailList.get(1).getText();
-        while (!(leftMonthYearDetail.trim().equalsIgnoreCase(monthYearAfterTrim) &&
-                rightMonthYearDetail.trim().equalsIgnoreCase(monthYearAfterTrim))) {
-            maxAttempts--;
-            log.info("Navigating to Month & Year: {}", monthYear);
-            monthNavigator.click();
-            leftMonthYearDetail = monthYearDetailList.get(0).getText();
-            rightMonthYearDetail = monthYearDetailList.get(1).getText();
-            if (maxAttempts <= 0) {
-                log.error("Could not find the desired month and year: {}", monthYear);
-                throw new ExceptionHub.DatePickerException("Could not find the desired month and year: " + monthYear);
-            }
+        if (target.isPresent() && readDisplayedMonthsIfParseable(monthYearDetailList, false).isPresent()) {
+            navigateToMonth(monthYearDetailList, false, null, monthNavigator, null, null,
+                    target.get(), DatePickerStrategy.BIDIRECTIONAL);
+        } else {
+            navigateByHeaderText(monthYearDetailList,
+                    Collections.nCopies(monthYearDetailList.size(), monthYear.trim()), monthNavigator);
         }
         log.info("Selecting day: {}", day);
         interactionHandler.clickElement(dayLocator, day, DAY_LABEL);
     }
 
+    /**
+     * Selects a date from the described date picker using the fastest available strategy.
+     * <p>
+     * Direct input is used when the date picker has an editable input, jumping by year
+     * when it has year navigators, and bidirectional month navigation otherwise.
+     * </p>
+     *
+     * @param datePicker The description of the date picker elements.
+     * @param date       The date to select.
+     * @throws ExceptionHub.DatePickerException If the date cannot be reached with the described elements.
+     */
+    public void selectDate(DatePicker datePicker, LocalDate date) {
+        DatePickerStrategy strategy;
+        if (datePicker.getDateInput() != null) {
+            strategy = DatePickerStrategy.DIRECT_INPUT;
+        } else if (datePicker.getPreviousYear() != null || datePicker.getNextYear() != null) {
+            strategy = DatePickerStrategy.JUMP_BY_YEAR;
+        } else {
+            strategy = DatePickerStrategy.BIDIRECTIONAL;
+        }
+        selectDate(datePicker, date, strategy);
+    }
+
+    /**
+     * Selects a date from the described date picker using the given strategy.
+     * <p>
+     * For the navigation strategies, the displayed month is read once, the month delta
+     * to the target is computed up front and the navigators are clicked the exact number
+     * of times in the right direction, optionally jumping whole years first. The headers
+     * are then read again in a single script call to verify the result, and the
+     * remaining delta, if any, is corrected. There is no limit on how far away the date
+     * may be.
+     * </p>
+     *
+     * @param datePicker The description of the date picker elements.
+     * @param date       The date to select.
+     * @param strategy   The strategy used to reach the date.
+     * @throws ExceptionHub.DatePickerException If the date cannot be reached with the described elements.
+     */
+    public void selectDate(DatePicker datePicker, LocalDate date, DatePickerStrategy strategy) {
+        if (datePicker == null || date == null || strategy == null) {
+            log.error("Date picker, date and strategy must not be null.");
+            throw new ExceptionHub.DatePickerException("Date picker, date and strategy must not be null.");
+        }
+        log.info("Selecting date '{}' using the '{}' strategy", date, strategy.getStrategy());
+        if (strategy == DatePickerStrategy.DIRECT_INPUT) {
+            if (datePicker.getDateInput() == null) {
+                throw new ExceptionHub.DatePickerException("Direct input strategy requires a date input.");
+            }
+            String formattedDate = date.format(DateTimeFormatter.ofPattern(datePicker.getInputFormat(), Locale.ENGLISH));
+            executor().executeScript(SET_DATE_INPUT, datePicker.getDateInput(), formattedDate);
+            log.info("Entered the date '{}' into the date input", formattedDate);
+            return;
+        }
+        datePicker.getOpener().click();
+        verificationHandler.isElementDisplayed(datePicker.getDateDetailSection(), datePicker.getDateDetailSectionLabel());
+        navigateToMonth(datePicker.getHeaders(), datePicker.isSplitHeader(), datePicker.getPreviousMonth(),
+                datePicker.getNextMonth(), datePicker.getPreviousYear(), datePicker.getNextYear(),
+                YearMonth.from(date), strategy);
+        log.info("Selecting day: {}", date.getDayOfMonth());
+        interactionHandler.clickElement(datePicker.getDayLocator(), String.valueOf(date.getDayOfMonth()), DAY_LABEL);
+    }
+
+    /**
+     * Navigates a date picker to the target month.
+     * <p>
+     * Each round reads the headers in one script call, computes the month delta and
+     * clicks the navigators that many times. The target is reached when any pane shows
+     * the target month.
+     * </p>
+     *
+     * @param headers       The header elements of the date picker.
+     * @param splitHeader   Whether the headers are a separate month and year header.
+     * @param previousMonth The previous month navigator, or null.
+     * @param nextMonth     The next month navigator, or null.
+     * @param previousYear  The previous year navigator, or null.
+     * @param nextYear      The next year navigator, or null.
+     * @param target        The month to navigate to.
+     * @param strategy      The navigation strategy.
+     * @throws ExceptionHub.DatePickerException If the target month cannot be reached.
+     */
+    private void navigateToMonth(List<WebElement> headers, boolean splitHeader, WebElement previousMonth,
+                                 WebElement nextMonth, WebElement previousYear, WebElement nextYear,
+                                 YearMonth target, DatePickerStrategy strategy) {
+        for (int round = 0; round <= MAX_NAVIGATION_ROUNDS; round++) {
+            List<YearMonth> displayed = readDisplayedMonths(headers, splitHeader);
+            if (displayed.contains(target)) {
+                log.info("Date picker is showing '{}' after {} navigation round(s)", target, round);
+                return;
+            }
+            if (round == MAX_NAVIGATION_ROUNDS) {
+                break;
+            }
+            long delta = displayed.get(0).until(target, ChronoUnit.MONTHS);
+            log.info("Navigating {} month(s) from '{}' to '{}'", delta, displayed.get(0), target);
+            if (strategy == DatePickerStrategy.JUMP_BY_YEAR) {
+                WebElement yearNavigator = delta > 0 ? nextYear : previousYear;
+                if (yearNavigator != null) {
+                    long years = Math.abs(delta) / MONTHS_IN_YEAR;
+                    clickTimes(yearNavigator, years);
+                    delta -= Long.signum(delta) * years * MONTHS_IN_YEAR;
+                }
+            }
+            WebElement monthNavigator = delta > 0 ? nextMonth : previousMonth;
+            if (monthNavigator == null) {
+                log.error("The date picker cannot navigate {} to '{}'", delta > 0 ? "forward" : "backward", target);
+                throw new ExceptionHub.DatePickerException(String.format(
+                        "The date picker cannot navigate %s to %s", delta > 0 ? "forward" : "backward", target));
+            }
+            clickTimes(monthNavigator, Math.abs(delta));
+        }
+        log.error("Could not find the desired month and year: {}", target);
+        throw new ExceptionHub.DatePickerException("Could not find the desired month and year: " + target);
+    }
+
+    /**
+     * Reads the months displayed by the date picker headers in a single script call.
+     *
+     * @param headers     The header elements of the date picker.
+     * @param splitHeader Whether the headers are a separate month and year header.
+     * @return The displayed month of each pane.
+     */
+    private List<YearMonth> readDisplayedMonths(List<WebElement> headers, boolean splitHeader) {
+        return readHeaderTexts(headers, splitHeader).stream().map(this::parseHeader).toList();
+    }
+
+    /**
+     * Reads the texts of the date picker headers in a single script call.
+     *
+     * @param headers     The header elements of the date picker.
+     * @param splitHeader Whether the headers are a separate month and year header, which are joined.
+     * @return The month and year text of each pane.
+     */
+    private List<String> readHeaderTexts(List<WebElement> headers, boolean splitHeader) {
+        List<?> texts = (List<?>) executor().executeScript(READ_HEADERS, headers.toArray());
+        if (splitHeader) {
+            return List.of(texts.get(0) + " " + texts.get(1));
+        }
+        return texts.stream().map(String::valueOf).toList();
+    }
+
+    /**
+     * Reads the months displayed by the date picker headers, if every header can be parsed.
+     *
+     * @param headers     The header elements of the date picker.
+     * @param splitHeader Whether the headers are a separate month and year header.
+     * @return The displayed month of each pane, or an empty Optional if a header cannot be parsed.
+     */
+    private Optional<List<YearMonth>> readDisplayedMonthsIfParseable(List<WebElement> headers, boolean splitHeader) {
+        List<String> headerTexts = readHeaderTexts(headers, splitHeader);
+        List<YearMonth> months = headerTexts.stream().map(this::tryParseHeader)
+                .flatMap(Optional::stream).toList();
+        if (months.size() != headerTexts.size()) {
+            log.info("Date picker headers {} are not English month and year headers", headerTexts);
+            return Optional.empty();
+        }
+        return Optional.of(months);
+    }
+
+    /**
+     * Navigates a date picker by comparing the header texts with the expected texts,
+     * ignoring case, and clicking the month navigator until they match.
+     * <p>
+     * This is the navigation used for headers that cannot be parsed as an English month
+     * and year, such as localised headers, which can only be compared as text.
+     * </p>
+     *
+     * @param headers        The header elements of the date picker.
+     * @param expectedTexts  The expected text of each header.
+     * @param monthNavigator The navigator moving the date picker to the next month.
+     * @throws ExceptionHub.DatePickerException If the headers do not match within the maximum attempts.
+     */
+    private void navigateByHeaderText(List<WebElement> headers, List<String> expectedTexts, WebElement monthNavigator) {
+        int attempts = 0;
+        while (!headerTextsMatch(headers, expectedTexts)) {
+            if (++attempts > MAX_HEADER_TEXT_ATTEMPTS) {
+                log.error("Could not find the desired month and year: {}", expectedTexts);
+                throw new ExceptionHub.DatePickerException("Could not find the desired month and year: " + expectedTexts);
+            }
+            log.info("Navigating to the month and year: {}", expectedTexts);
+            monthNavigator.click();
+        }
+        log.info("Date picker is showing {} after {} click(s)", expectedTexts, attempts);
+    }
+
+    /**
+     * Checks whether the header texts match the expected texts, ignoring case.
+     *
+     * @param headers       The header elements of the date picker.
+     * @param expectedTexts The expected text of each header.
+     * @return true if every header shows its expected text.
+     */
+    private boolean headerTextsMatch(List<WebElement> headers, List<String> expectedTexts) {
+        List<String> texts = readHeaderTexts(headers, false);
+        for (int i = 0; i < expectedTexts.size(); i++) {
+            if (!texts.get(i).equalsIgnoreCase(expectedTexts.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a date picker header such as "January 2025" or "Jan 2025".
+     *
+     * @param header The header text.
+     * @return The month shown by the header.
+     * @throws ExceptionHub.DatePickerException If the header cannot be parsed.
+     */
+    private YearMonth parseHeader(String header) {
+        return tryParseHeader(header).orElseThrow(() -> {
+            log.error("Unable to parse the date picker header: '{}'", header);
+            return new ExceptionHub.DatePickerException("Unable to parse the date picker header: " + header);
+        });
+    }
+
+    /**
+     * Parses a date picker header such as "January 2025" or "Jan 2025" in English.
+     *
+     * @param header The header text.
+     * @return The month shown by the header, or an empty Optional if it cannot be parsed.
+     */
+    private Optional<YearMonth> tryParseHeader(String header) {
+        for (DateTimeFormatter format : HEADER_FORMATS) {
+            try {
+                return Optional.of(YearMonth.parse(header, format));
+            } catch (DateTimeParseException ex) {
+                log.debug("Header '{}' does not match the format '{}'", header, format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Clicks the navigator the given number of times.
+     *
+     * @param navigator The navigator element.
+     * @param times     The number of clicks.
+     */
+    private void clickTimes(WebElement navigator, long times) {
+        for (long i = 0; i < times; i++) {
+            navigator.click();
+        }
+    }
+
+    /**
+     * Retrieves the JavascriptExecutor of the scenario's WebDriver.
+     *
+     * @return The WebDriver as a JavascriptExecutor.
+     */
+    private JavascriptExecutor executor() {
+        return (JavascriptExecutor) testContext.getDriver();
+    }
+
     /**
      * Retrieves the current date in the default format "YYYY-MM-dd".
      * <p>
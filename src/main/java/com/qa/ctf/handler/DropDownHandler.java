@@ -6,6 +6,7 @@ import com.qa.ctf.util.ExceptionHub;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
@@ -53,13 +54,26 @@ import java.util.stream.Collectors;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.1
+ * @version 1.2
  */
 public class DropDownHandler {
 
     // Logger instance for the DropDownHandler class to enable logging during the execution
     private static final Logger log = LogManager.getLogger(DropDownHandler.class);
 
+    // JavaScript command that returns the normalized visible text of every option of a select element
+    private static final String READ_OPTION_TEXTS = "return Array.prototype.map.call(arguments[0].options, function (option) {" +
+            "  return option.text.replace(/\\s+/g, ' ').trim();" +
+            "});";
+
+    // JavaScript command that returns the index of the first element whose visible text matches, ignoring case, or -1
+    private static final String FIND_OPTION_BY_TEXT = "var options = arguments[0], text = arguments[1].toLowerCase();" +
+            "for (var i = 0; i < options.length; i++) {" +
+            "  var optionText = (options[i].innerText || options[i].textContent || '').replace(/\\s+/g, ' ').trim();" +
+            "  if (optionText.toLowerCase() === text) { return i; }" +
+            "}" +
+            "return -1;";
+
     // TestContext instance to manage shared test data and dependencies
     private final TestContext testContext;
 
@@ -151,8 +165,9 @@ public class DropDownHandler {
      * Selects an option from the dropdown based on a list of options.
      * <p>
      * This method attempts to click on the dropdown and select the specified option
-     * from a list of available options. If the dropdown or the option is not found,
-     * a BaseException is thrown.
+     * from a list of available options. The option is looked up, ignoring case, by a
+     * single script call over the whole list and then clicked. If the dropdown or the
+     * option is not found, a BaseException is thrown.
      * </p>
      *
      * @param dropdown     The WebElement representing the dropdown.
@@ -167,15 +182,14 @@ public class DropDownHandler {
         try {
             if (verificationHandler.isElementDisplayed(dropdown, elementLabel)) {
                 dropdown.click();
-                new WaitHandler(testContext).waitForElementVisible(dropdownLayout, elementLabel);
-                WebElement option = optionsList.stream()
-                        .filter(opt -> opt.getText().equalsIgnoreCase(value))
-                        .findFirst()
-                        .orElseThrow(() -> {
-                            log.error("'{}' option not found in the '{}' dropdown", value, elementLabel);
-                            return new ExceptionHub.OptionNotFoundException(value, elementLabel);
-                        });
-                option.click();
+                verificationHandler.getWaitHandler().waitForElementVisible(dropdownLayout, elementLabel);
+                // Find the matching option in one script call instead of a getText call per option
+                long index = (Long) executor().executeScript(FIND_OPTION_BY_TEXT, optionsList, value);
+                if (index < 0) {
+                    log.error("'{}' option not found in the '{}' dropdown", value, elementLabel);
+                    throw new ExceptionHub.OptionNotFoundException(value, elementLabel);
+                }
+                optionsList.get((int) index).click();
                 log.info("The option '{}' is selected from the '{}' dropdown", value, elementLabel);
             }
         } catch (ElementNotInteractableException ex) {
@@ -204,11 +218,21 @@ public class DropDownHandler {
         return value;
     }
 
+    /**
+     * Retrieves the JavascriptExecutor of the scenario's WebDriver.
+     *
+     * @return The WebDriver as a JavascriptExecutor.
+     */
+    private JavascriptExecutor executor() {
+        return (JavascriptExecutor) testContext.getDriver();
+    }
+
     /**
      * Retrieves all available options from the dropdown.
      * <p>
-     * This method attempts to retrieve all the option values from the dropdown as a list.
-     * If the dropdown is not displayed, a BaseException is thrown.
+     * This method attempts to retrieve all the option values from the dropdown as a list,
+     * reading the texts of all options in a single script call. If the dropdown is not
+     * displayed, a BaseException is thrown.
      * </p>
      *
      * @param dropdown     The WebElement representing the dropdown.
@@ -218,11 +242,12 @@ public class DropDownHandler {
     public List<String> getAllDropdownValues(WebElement dropdown, String elementLabel) {
         List<String> optionsList = null;
         if (verificationHandler.isElementDisplayed(dropdown, elementLabel)) {
-            Select select = new Select(dropdown);
-            optionsList = select.getOptions().stream()
-                    .map(WebElement::getText)
-                    .peek(option -> log.info("The '{}' dropdown has the option value '{}'", elementLabel, option))
+            // Read every option text in one script call instead of a getText call per option
+            List<?> optionTexts = (List<?>) executor().executeScript(READ_OPTION_TEXTS, dropdown);
+            optionsList = optionTexts.stream()
+                    .map(String::valueOf)
                     .collect(Collectors.toList());
+            log.info("The '{}' dropdown has the option values {}", elementLabel, optionsList);
         }
         return optionsList;
     }
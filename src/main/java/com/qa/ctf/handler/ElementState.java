@@ -0,0 +1,84 @@
+package com.qa.ctf.handler;
+
+/**
+ * The ElementState class is an immutable snapshot of the visibility, text and value
+ * of a web element, as read by {@link VerificationHandler#readElementStates}.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Holds the displayed state, visible text and value of an element read in a
+ *     single browser round-trip.</li>
+ *     <li>Keeps the label of the element for logging and assertion messages.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>The class performs no WebDriver calls and therefore throws no exceptions.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The snapshot is not refreshed when the page changes. The value is null for
+ * elements that have no value property, such as links and headings.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * ElementState state = verificationHandler.readElementStates(elements).get("Product Name");
+ * String productName = state.getText();
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class ElementState {
+
+    // Label of the element the state was read from
+    private final String label;
+
+    // Flag indicating whether the element was displayed
+    private final boolean displayed;
+
+    // Visible text of the element
+    private final String text;
+
+    // Value property of the element, or null if it has none
+    private final String value;
+
+    /**
+     * Constructs an ElementState snapshot.
+     *
+     * @param label     The label of the element.
+     * @param displayed Whether the element was displayed.
+     * @param text      The visible text of the element.
+     * @param value     The value property of the element, or null.
+     */
+    public ElementState(String label, boolean displayed, String text, String value) {
+        this.label = label;
+        this.displayed = displayed;
+        this.text = text;
+        this.value = value;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[displayed=%s, text='%s', value='%s']", label, displayed, text, value);
+    }
+
+}
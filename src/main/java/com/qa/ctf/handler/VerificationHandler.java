@@ -4,11 +4,21 @@ import com.qa.ctf.context.TestContext;
 import com.qa.ctf.util.ExceptionHub;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.qa.ctf.constant.TestConstants.EXPLICIT_WAIT_TIME;
 
 /**
  * The VerificationHandler class provides utility methods for validating and
@@ -25,6 +35,8 @@ import java.util.Objects;
  *   from elements.</li>
  *   <li>Element Validation: Utility methods to validate elements for null checks and
  *   visibility.</li>
+ *   <li>Batch Reads: A method to read the visibility, text and value of several
+ *   elements in a single script call.</li>
  * </ul>
  *
  * <p>Exception Handling:
@@ -53,7 +65,7 @@ import java.util.Objects;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.2
+ * @version 1.6
  */
 public class VerificationHandler {
 
@@ -63,13 +75,28 @@ public class VerificationHandler {
     // TestContext instance to manage shared test data and dependencies
     private final TestContext testContext;
 
+    // JavaScript command that returns the displayed state, visible text and value of each argument element
+    private static final String READ_ELEMENT_STATES = "return Array.prototype.map.call(arguments, function (el) {" +
+            "  var style = window.getComputedStyle(el);" +
+            "  var displayed = !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)" +
+            "      && style.visibility !== 'hidden' && style.display !== 'none';" +
+            "  var text = (el.innerText || '').replace(/\\s+/g, ' ').trim();" +
+            "  var value = ('value' in el && typeof el.value === 'string') ? el.value : null;" +
+            "  return [displayed, text, value];" +
+            "});";
+
+    // Instance of WaitHandler shared with the other handlers of the scenario
+    private final WaitHandler waitHandler;
+
     /**
      * Constructs a VerificationHandler instance and initializes it with the provided
      * TestContext.
      * <p>
      * This constructor ensures that the TestContext is not null before assigning
      * it to the instance variable. It is used for managing the WebDriver instance
-     * and shared test data across different page objects.
+     * and shared test data across different page objects. A WaitHandler for the
+     * driver of the context is created eagerly, so the handler can be shared between
+     * threads without a lazy initialization race.
      * </p>
      *
      * @param testContext The TestContext instance to be used for interacting with
@@ -77,10 +104,43 @@ public class VerificationHandler {
      * @throws IllegalArgumentException If the provided TestContext is null.
      */
     public VerificationHandler(TestContext testContext) {
+        this(testContext, new WaitHandler(testContext));
+    }
+
+    /**
+     * Constructs a VerificationHandler instance that uses the given WaitHandler.
+     * <p>
+     * This constructor lets all handlers of a scenario share one wait engine, so that
+     * the WebDriverWait is built once per scenario instead of once per verification.
+     * </p>
+     *
+     * @param testContext The TestContext instance to be used for interacting with
+     *                    the WebDriver.
+     * @param waitHandler The WaitHandler instance shared by the handlers of the scenario.
+     * @throws IllegalArgumentException If the provided TestContext or WaitHandler is null.
+     */
+    public VerificationHandler(TestContext testContext, WaitHandler waitHandler) {
         if (testContext == null) {
             throw new IllegalArgumentException("TestContext cannot be null.");
         }
+        if (waitHandler == null) {
+            throw new IllegalArgumentException("WaitHandler cannot be null.");
+        }
         this.testContext = testContext;
+        this.waitHandler = waitHandler;
+    }
+
+    /**
+     * Retrieves the WaitHandler used by this VerificationHandler.
+     * <p>
+     * The WaitHandler is the one provided or created at construction, and is shared
+     * with the handlers built on top of this VerificationHandler.
+     * </p>
+     *
+     * @return The WaitHandler instance of the scenario.
+     */
+    public WaitHandler getWaitHandler() {
+        return waitHandler;
     }
 
     /**
@@ -100,7 +160,39 @@ public class VerificationHandler {
      *                                               inaccessible.
      */
     public boolean isElementDisplayed(WebElement element, String elementLabel) {
-        new WaitHandler(testContext).waitForElementVisible(element, elementLabel);
+        getWaitHandler().waitForElementVisible(element, elementLabel);
+        return checkElementDisplayed(element, elementLabel);
+    }
+
+    /**
+     * Checks if the specified element is displayed, waiting up to the given timeout.
+     * <p>
+     * This method behaves like {@link #isElementDisplayed(WebElement, String)} but
+     * waits for the element with the given timeout instead of the default one.
+     * </p>
+     *
+     * @param element      The WebElement to check.
+     * @param elementLabel The label for logging purposes.
+     * @param timeout      The maximum duration to wait for the element to be visible.
+     * @return true if the element is displayed, false otherwise.
+     * @throws ExceptionHub.ElementNotFoundException If the element is not found or
+     *                                               inaccessible.
+     */
+    public boolean isElementDisplayed(WebElement element, String elementLabel, Duration timeout) {
+        getWaitHandler().waitForElementVisible(element, elementLabel, timeout);
+        return checkElementDisplayed(element, elementLabel);
+    }
+
+    /**
+     * Reads the displayed state of an element that has already been waited for.
+     *
+     * @param element      The WebElement to check.
+     * @param elementLabel The label for logging purposes.
+     * @return true if the element is displayed, false otherwise.
+     * @throws ExceptionHub.ElementNotFoundException If the element is not found or
+     *                                               inaccessible.
+     */
+    private boolean checkElementDisplayed(WebElement element, String elementLabel) {
         try {
             return element.isDisplayed();
         } catch (NoSuchElementException | StaleElementReferenceException ex) {
@@ -180,6 +272,61 @@ public class VerificationHandler {
         return value;
     }
 
+    /**
+     * Reads the visibility, text and value of several elements in one browser round-trip.
+     * <p>
+     * This method executes a single script that returns the displayed state, visible
+     * text and value of every element, and repeats it until all elements are displayed
+     * or the default timeout elapses. Each poll is one round-trip regardless of the
+     * number of elements, instead of a wait, an {@code isDisplayed} and a
+     * {@code getText} or {@code getDomAttribute} call per element. Like the single
+     * element waits, an element that is not displayed within the timeout is an error
+     * rather than a partial result.
+     * </p>
+     *
+     * @param elements The elements to read, keyed by their label, in the order to report them.
+     * @return The state of each element, keyed by its label.
+     * @throws ExceptionHub.ElementNotFoundException If an element is stale, cannot be located or
+     *                                               is not displayed within the timeout.
+     */
+    public Map<String, ElementState> readElementStates(Map<String, WebElement> elements) {
+        List<String> labels = new ArrayList<>(elements.keySet());
+        Object[] args = elements.values().toArray();
+        AtomicReference<List<?>> states = new AtomicReference<>(List.of());
+        try {
+            boolean allDisplayed = getWaitHandler().pauseUntil(driver -> {
+                List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(READ_ELEMENT_STATES, args);
+                states.set(result);
+                return result.stream().allMatch(state -> Boolean.TRUE.equals(((List<?>) state).get(0)));
+            }, Duration.ofSeconds(EXPLICIT_WAIT_TIME));
+            if (!allDisplayed && states.get().size() == labels.size()) {
+                List<String> hiddenLabels = new ArrayList<>();
+                for (int i = 0; i < labels.size(); i++) {
+                    if (!Boolean.TRUE.equals(((List<?>) states.get().get(i)).get(0))) {
+                        hiddenLabels.add(labels.get(i));
+                    }
+                }
+                log.error("The {} elements were not displayed within the timeout.", hiddenLabels);
+                throw new ExceptionHub.ElementNotFoundException(String.join(", ", hiddenLabels));
+            }
+        } catch (NoSuchElementException | StaleElementReferenceException | JavascriptException ex) {
+            log.error("Error occurred while reading the state of the {} elements. Exception: {}", labels, ex.getMessage(), ex);
+            throw new ExceptionHub.ElementNotFoundException(String.join(", ", labels), ex);
+        }
+        if (states.get().size() != labels.size()) {
+            log.error("The state of the {} elements could not be read.", labels);
+            throw new ExceptionHub.ElementNotFoundException(String.join(", ", labels));
+        }
+        Map<String, ElementState> elementStates = new LinkedHashMap<>();
+        for (int i = 0; i < labels.size(); i++) {
+            List<?> state = (List<?>) states.get().get(i);
+            elementStates.put(labels.get(i), new ElementState(labels.get(i), Boolean.TRUE.equals(state.get(0)),
+                    (String) state.get(1), (String) state.get(2)));
+        }
+        log.info("Element states read in a single round-trip: {}", elementStates.values());
+        return elementStates;
+    }
+
     /**
      * Checks if the element is not null and logs an error if it is.
      * <p>
@@ -1,7 +1,11 @@
 package com.qa.ctf.handler;
 
 import com.qa.ctf.context.TestContext;
+import com.qa.ctf.util.CdpSession;
 import com.qa.ctf.util.ExceptionHub;
+import com.qa.ctf.util.FileReader;
+import com.qa.ctf.util.NetworkMonitor;
+import com.qa.ctf.util.SleepLedger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
@@ -11,10 +15,13 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
-import static com.qa.ctf.constant.TestConstants.EXPLICIT_WAIT_TIME;
-import static com.qa.ctf.constant.TestConstants.WAIT_TIME;
+import static com.qa.ctf.constant.TestConstants.*;
 
 /**
  * The WaitHandler class provides utility methods for implementing explicit,
@@ -27,6 +34,10 @@ import static com.qa.ctf.constant.TestConstants.WAIT_TIME;
  *   such as element visibility, clickable, or presence in the DOM.</li>
  *   <li><b>Custom Waits:</b> Utility methods to define custom conditions for
  *   advanced synchronization needs.</li>
+ *   <li><b>DOM Stability:</b> An in-browser MutationObserver based quiet window
+ *   wait, with page source comparison kept as a fallback.</li>
+ *   <li><b>Network Idle:</b> An opt-in wait for in-flight requests to settle, driven
+ *   by the DevTools network events of the browser and never chained to page loads.</li>
  *   <li><b>Error Handling:</b> Graceful handling of timeout scenarios with
  *   descriptive error messages for improved debugging.</li>
  * </ul>
@@ -54,7 +65,7 @@ import static com.qa.ctf.constant.TestConstants.WAIT_TIME;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.2
+ * @version 1.9
  */
 public class WaitHandler {
 
@@ -64,9 +75,21 @@ public class WaitHandler {
     // WebDriver instance to interact with web elements on the web pages
     private final WebDriver driver;
 
+    // Default timeout of the explicit waits
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(EXPLICIT_WAIT_TIME);
+
     // Instance of WebDriverWait to handle waiting for elements to appear on the page
     private final WebDriverWait wait;
 
+    // JavaScript command that installs a MutationObserver once per document and returns the milliseconds since the last DOM mutation
+    private static final String DOM_IDLE_TIME = "var w = window;" +
+            "if (!w.__ctfDomObserver) {" +
+            "  w.__ctfLastMutation = Date.now();" +
+            "  w.__ctfDomObserver = new MutationObserver(function () { w.__ctfLastMutation = Date.now(); });" +
+            "  w.__ctfDomObserver.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});" +
+            "}" +
+            "return Date.now() - w.__ctfLastMutation;";
+
     /**
      * Constructs a WaitHandler instance and initializes it with the provided
      * TestContext.
@@ -85,8 +108,7 @@ public class WaitHandler {
             throw new IllegalArgumentException("TestContext cannot be null.");
         }
         this.driver = testContext.getDriver();
-        this.wait = new WebDriverWait(driver,
-                Duration.ofSeconds(EXPLICIT_WAIT_TIME));
+        this.wait = new WebDriverWait(driver, DEFAULT_TIMEOUT);
     }
 
     /**
@@ -104,11 +126,25 @@ public class WaitHandler {
      * @throws ExceptionHub                          if the provided element is null.
      */
     public void waitForElementVisible(WebElement element, String elementLabel) {
+        waitForElementVisible(element, elementLabel, null);
+    }
+
+    /**
+     * Waits for the specified element to be visible on the page within the given timeout.
+     *
+     * @param element      The WebElement to wait for.
+     * @param elementLabel The label or description of the element.
+     * @param timeout      The maximum duration to wait, or null for the default timeout.
+     * @throws ExceptionHub.ElementNotFoundException if the element is not found
+     *                                               within the timeout.
+     * @throws ExceptionHub                          if the provided element is null.
+     */
+    public void waitForElementVisible(WebElement element, String elementLabel, Duration timeout) {
         if (element == null) {
             throw new ExceptionHub(elementLabel + " element is null.");
         }
         try {
-            wait.until(ExpectedConditions.visibilityOf(element));
+            getWait(timeout).until(ExpectedConditions.visibilityOf(element));
             log.info("Element is visible: '{}'", elementLabel);
         } catch (NoSuchElementException ex) {
             log.error("Element not found: '{}'", elementLabel, ex);
@@ -132,11 +168,26 @@ public class WaitHandler {
      * @throws ExceptionHub                          if the provided element is null.
      */
     public void waitForPresenceOfElements(By locator, String elementLabel) {
+        waitForPresenceOfElements(locator, elementLabel, null);
+    }
+
+    /**
+     * Waits for the presence of all elements located by the specified locator within
+     * the given timeout.
+     *
+     * @param locator      The locator used to find the elements.
+     * @param elementLabel The label or description of the elements being waited for.
+     * @param timeout      The maximum duration to wait, or null for the default timeout.
+     * @throws ExceptionHub.ElementNotFoundException if the elements are not found
+     *                                               within the timeout.
+     * @throws ExceptionHub                          if the provided element is null.
+     */
+    public void waitForPresenceOfElements(By locator, String elementLabel, Duration timeout) {
         if (locator == null) {
             throw new ExceptionHub(elementLabel + " element is null.");
         }
         try {
-            wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+            getWait(timeout).until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
             log.info("Elements are present: '{}'", elementLabel);
         } catch (NoSuchElementException ex) {
             log.error("Elements not found: '{}'", elementLabel, ex);
@@ -160,11 +211,26 @@ public class WaitHandler {
      * @throws ExceptionHub                          if the provided element is null.
      */
     public void waitForElementToBeClickable(WebElement element, String elementLabel) {
+        waitForElementToBeClickable(element, elementLabel, null);
+    }
+
+    /**
+     * Waits for the specified element to become clickable within the given timeout.
+     *
+     * @param element      The WebElement to wait for.
+     * @param elementLabel The label or description of the element.
+     * @param timeout      The maximum duration to wait, or null for the default timeout.
+     * @throws ExceptionHub.ElementNotFoundException if the element is not found on the page.
+     * @throws ExceptionHub.TimeoutException         if the element does not become clickable
+     *                                               within the timeout.
+     * @throws ExceptionHub                          if the provided element is null.
+     */
+    public void waitForElementToBeClickable(WebElement element, String elementLabel, Duration timeout) {
         if (element == null) {
             throw new ExceptionHub(elementLabel + " element is null.");
         }
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(element));
+            getWait(timeout).until(ExpectedConditions.elementToBeClickable(element));
             log.info("Element is clickable: '{}'", elementLabel);
         } catch (NoSuchElementException ex) {
             log.error("Element not clickable: '{}'. Element was not found.", elementLabel, ex);
@@ -175,6 +241,103 @@ public class WaitHandler {
         }
     }
 
+    /**
+     * Retrieves the wait to use for the given timeout.
+     * <p>
+     * The WebDriverWait built in the constructor is reused for the default timeout,
+     * so only calls with a custom timeout pay for a new wait instance.
+     * </p>
+     *
+     * @param timeout The maximum duration to wait, or null for the default timeout.
+     * @return The WebDriverWait for the timeout.
+     */
+    private WebDriverWait getWait(Duration timeout) {
+        if (timeout == null || timeout.equals(DEFAULT_TIMEOUT)) {
+            return wait;
+        }
+        return new WebDriverWait(driver, timeout);
+    }
+
+    /**
+     * Waits for the DOM to stabilize using the default quiet window.
+     * <p>
+     * This method delegates to {@link #waitForDOMToBeStable(Duration)} with the quiet
+     * window defined by {@code DOM_QUIET_WINDOW}.
+     * </p>
+     *
+     * @throws ExceptionHub.TimeoutException if the DOM does not stabilize within the timeout period.
+     * @throws ExceptionHub                  if any unexpected error occurs during the DOM stability check.
+     */
+    public void waitForDOMToBeStable() {
+        waitForDOMToBeStable(Duration.ofMillis(DOM_QUIET_WINDOW));
+    }
+
+    /**
+     * Waits until the DOM has not changed for the given quiet window.
+     * <p>
+     * By default this method installs a MutationObserver in the page which records
+     * the time of the last child list, attribute or text mutation, and each poll only
+     * returns the milliseconds elapsed since then. When the {@code DomStability}
+     * configuration key is set to {@code PageSource}, or the observer cannot be
+     * installed, the page source comparison is used instead. The latency, number of
+     * polls and payload exchanged with the browser are logged for either approach.
+     * </p>
+     *
+     * @param quietWindow The duration the DOM must stay unchanged to be considered stable.
+     * @throws ExceptionHub.TimeoutException if the DOM does not stabilize within the timeout period.
+     * @throws ExceptionHub                  if any unexpected error occurs during the DOM stability check.
+     */
+    public void waitForDOMToBeStable(Duration quietWindow) {
+        if (DOM_STABILITY_PAGE_SOURCE.equalsIgnoreCase(
+                FileReader.getConfig().getString(DOM_STABILITY_MODE, DOM_STABILITY_MUTATION_OBSERVER))) {
+            waitForPageSourceToBeStable();
+            return;
+        }
+        try {
+            waitForMutationsToSettle(quietWindow);
+        } catch (JavascriptException | ClassCastException ex) {
+            log.warn("MutationObserver could not be used, falling back to page source comparison: {}",
+                    ex.getMessage());
+            waitForPageSourceToBeStable();
+        }
+    }
+
+    /**
+     * Waits for the MutationObserver installed in the page to report a quiet window.
+     * <p>
+     * The payload of each poll is the observer script sent to the browser plus the
+     * idle time it returns, independent of the size of the page.
+     * </p>
+     *
+     * @param quietWindow The duration the DOM must stay unchanged to be considered stable.
+     * @return The time, number of polls and payload of the wait.
+     * @throws ExceptionHub.TimeoutException if the DOM does not stabilize within the timeout period.
+     */
+    DomStability waitForMutationsToSettle(Duration quietWindow) {
+        long quietMillis = quietWindow.toMillis();
+        long start = System.nanoTime();
+        AtomicLong polls = new AtomicLong();
+        AtomicLong payload = new AtomicLong();
+        WebDriverWait observerWait = new WebDriverWait(driver,
+                Duration.ofSeconds(EXPLICIT_WAIT_TIME).plus(quietWindow), Duration.ofMillis(DOM_POLL_INTERVAL));
+        try {
+            observerWait.until(wd -> {
+                Object idleTime = ((JavascriptExecutor) wd).executeScript(DOM_IDLE_TIME);
+                polls.incrementAndGet();
+                payload.addAndGet(DOM_IDLE_TIME.length() + String.valueOf(idleTime).length());
+                return ((Number) idleTime).longValue() >= quietMillis;
+            });
+            DomStability stability = new DomStability(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), polls.get(), payload.get());
+            log.info("DOM has stabilized successfully in '{}' ms using MutationObserver ({} polls, {} chars exchanged).",
+                    stability.millis(), stability.polls(), stability.payload());
+            return stability;
+        } catch (TimeoutException ex) {
+            log.error("DOM did not stay quiet for '{}' ms within the timeout period.", quietMillis, ex);
+            throw new ExceptionHub.TimeoutException("DOM did not stabilize within the timeout period.", ex);
+        }
+    }
+
     /**
      * Waits for the DOM to stabilize by continuously comparing its current state
      * with its previous state.
@@ -182,24 +345,33 @@ public class WaitHandler {
      * This method repeatedly checks the DOM's page source at regular intervals until
      * the DOM stops changing or the specified timeout is reached. It uses an
      * AtomicReference to manage the previous state of the DOM to ensure compatibility
-     * with lambda expressions.
+     * with lambda expressions. The payload of each poll is the whole page source, and
+     * changes that are reverted between two polls are not detected by this approach.
      * </p>
      *
-     * @throws TimeoutException if the DOM does not stabilize within the timeout period.
-     * @throws ExceptionHub     if any unexpected error occurs during the DOM stability check.
+     * @return The time, number of polls and payload of the wait.
+     * @throws ExceptionHub.TimeoutException if the DOM does not stabilize within the timeout period.
+     * @throws ExceptionHub                  if any unexpected error occurs during the DOM stability check.
      */
-    public void waitForDOMToBeStable() {
+    DomStability waitForPageSourceToBeStable() {
+        long start = System.nanoTime();
+        AtomicLong polls = new AtomicLong(1);
         try {
             AtomicReference<String> initialDom = new AtomicReference<>(driver.getPageSource());
-            boolean isStable = wait.until(driver -> {
+            AtomicLong payload = new AtomicLong(initialDom.get() == null ? 0 : initialDom.get().length());
+            wait.until(driver -> {
                 String currentDom = driver.getPageSource();
+                polls.incrementAndGet();
+                payload.addAndGet(currentDom == null ? 0 : currentDom.length());
                 boolean domChanged = !Objects.equals(currentDom, initialDom.get());
                 initialDom.set(currentDom); // Update initial DOM for the next comparison
                 return !domChanged;
             });
-            if (isStable) {
-                log.info("DOM has stabilized successfully.");
-            }
+            DomStability stability = new DomStability(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), polls.get(), payload.get());
+            log.info("DOM has stabilized successfully in '{}' ms using page source ({} polls, {} chars exchanged).",
+                    stability.millis(), stability.polls(), stability.payload());
+            return stability;
         } catch (TimeoutException ex) {
             log.error("DOM did not stabilize within the timeout period.", ex);
             throw new ExceptionHub.TimeoutException("DOM did not stabilize within the timeout period.", ex);
@@ -212,20 +384,98 @@ public class WaitHandler {
     /**
      * Waits for the page to load by checking the document's ready state.
      * <p>
-     * This method waits for the page to reach either the "loading" or "complete" state
-     * by executing JavaScript in the browser.
+     * This method waits for the page to reach the "complete" state by executing
+     * JavaScript in the browser. It does not wait for the network, as pages with
+     * beacons, long polling requests or websockets would hold every page load for the
+     * whole timeout; callers that need the network to settle opt in with
+     * {@link #waitForNetworkIdle()}.
      * </p>
      *
      * @throws TimeoutException if the page does not load within the specified timeout.
      */
     public void waitForPageToLoad() {
+        log.info("Waiting for the page to reach 'complete' state.");
+        waitForPageReadyState("complete");
+    }
+
+    /**
+     * Waits until the network is idle, allowing a few long-lived requests to stay open.
+     * <p>
+     * This method waits for a quiet window of {@code NETWORK_QUIET_WINDOW} ms with at
+     * most {@code NETWORK_MAX_INFLIGHT} requests in flight, such as a beacon or a long
+     * polling request, and gives up after the short {@code NETWORK_IDLE_TIMEOUT}.
+     * </p>
+     *
+     * @throws ExceptionHub.TimeoutException if the network does not become idle within the timeout.
+     */
+    public void waitForNetworkIdle() {
+        waitForNetworkIdle(NETWORK_QUIET_WINDOW, NETWORK_MAX_INFLIGHT, Duration.ofMillis(NETWORK_IDLE_TIMEOUT));
+    }
+
+    /**
+     * Waits until the browser has no more than the given number of requests in flight
+     * for the given quiet window, within the default explicit wait timeout.
+     *
+     * @param quietMillis The milliseconds without any network activity required.
+     * @param maxInflight The maximum number of requests allowed to remain in flight,
+     *                    e.g. long polling connections.
+     * @throws ExceptionHub.TimeoutException if the network does not become idle within the timeout.
+     */
+    public void waitForNetworkIdle(long quietMillis, int maxInflight) {
+        waitForNetworkIdle(quietMillis, maxInflight, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Waits until the browser has no more than the given number of requests in flight
+     * for the given quiet window.
+     * <p>
+     * In-flight requests are tracked through the DevTools network events of the browser,
+     * by the network monitor attached to the session. A monitor attached by this call
+     * only sees the requests sent from then on, so scenarios that wait for the network
+     * set {@code NetworkMonitor=Yes} to attach it before the first navigation. When
+     * DevTools is not available, e.g. for Firefox, the wait is skipped and logged, since
+     * the caller already relies on the document ready state or element conditions.
+     * </p>
+     *
+     * @param quietMillis The milliseconds without any network activity required.
+     * @param maxInflight The maximum number of requests allowed to remain in flight,
+     *                    e.g. long polling connections.
+     * @param timeout     The maximum duration to wait, on top of the quiet window.
+     * @throws ExceptionHub.TimeoutException if the network does not become idle within the timeout.
+     */
+    public void waitForNetworkIdle(long quietMillis, int maxInflight, Duration timeout) {
+        awaitNetworkIdle(quietMillis, maxInflight, timeout).ifPresent(inflight -> {
+            log.error("Network did not become idle within the timeout period, '{}' request(s) in flight.", inflight);
+            throw new ExceptionHub.TimeoutException(String.format(
+                    "Network did not become idle within the timeout period: %d request(s) in flight", inflight));
+        });
+    }
+
+    /**
+     * Waits for the network to become idle, leaving the handling of a timeout to the caller.
+     *
+     * @param quietMillis The milliseconds without any network activity required.
+     * @param maxInflight The maximum number of requests allowed to remain in flight.
+     * @param timeout     The maximum duration to wait, on top of the quiet window.
+     * @return The number of requests still in flight if the network did not become idle
+     * within the timeout, or an empty Optional if it did or DevTools is not supported.
+     */
+    private Optional<Integer> awaitNetworkIdle(long quietMillis, int maxInflight, Duration timeout) {
+        Optional<CdpSession> cdpSession = CdpSession.of(driver);
+        if (cdpSession.isEmpty()) {
+            log.info("Network idle wait skipped as DevTools is not supported by the browser.");
+            return Optional.empty();
+        }
+        NetworkMonitor networkMonitor = cdpSession.get().getNetworkMonitor();
+        long start = System.nanoTime();
+        WebDriverWait networkWait = new WebDriverWait(driver,
+                timeout.plusMillis(quietMillis), Duration.ofMillis(DOM_POLL_INTERVAL));
         try {
-            log.info("Waiting for the page to reach 'loading' state.");
-            waitForPageReadyState("loading");
+            networkWait.until(wd -> networkMonitor.isIdle(quietMillis, maxInflight));
+            log.info("Network became idle in '{}' ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return Optional.empty();
         } catch (TimeoutException ex) {
-            log.error("Timeout occurred while waiting for the 'loading' state. " +
-                    "Now checking for the 'complete' state.", ex);
-            waitForPageReadyState("complete");
+            return Optional.of(networkMonitor.getInflightCount());
         }
     }
 
@@ -271,21 +521,63 @@ public class WaitHandler {
         log.info("Page title contains: '{}'", title);
     }
 
+    /**
+     * Pauses the execution until the given condition holds or the maximum wait elapses.
+     * <p>
+     * This method polls the condition at a short interval and returns as soon as it
+     * returns true, so the caller only waits as long as the application needs. Unlike
+     * the other waits, running out of time is not an error; the caller decides what
+     * to do based on the returned value.
+     * </p>
+     *
+     * @param condition The condition to evaluate against the WebDriver.
+     * @param maxWait   The upper bound of the pause.
+     * @return true if the condition held within the maximum wait, false otherwise.
+     */
+    public boolean pauseUntil(Function<? super WebDriver, Boolean> condition, Duration maxWait) {
+        long start = System.nanoTime();
+        try {
+            new WebDriverWait(driver, maxWait, Duration.ofMillis(DOM_POLL_INTERVAL)).until(condition);
+            log.info("Pause condition met in '{}' ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return true;
+        } catch (TimeoutException ex) {
+            log.warn("Pause condition not met within '{}' ms.", maxWait.toMillis());
+            return false;
+        }
+    }
+
     /**
      * Pauses the execution for 5 seconds.
      * <p>
-     * This method uses the Uninterruptibles.sleepUninterruptibly method to make the
-     * current thread sleep for 5 seconds without being interrupted.
+     * This method makes the current thread sleep for 5 seconds without holding any
+     * lock on the WebDriver. Every call is recorded in the {@link SleepLedger} so that
+     * the remaining call sites show up in the sleep report.
      * </p>
+     *
+     * @deprecated Use {@link #pauseUntil(Function, Duration)} with a condition describing
+     * what the caller is actually waiting for.
      */
+    @Deprecated
     public void waitForSeconds() {
-        synchronized (driver) {
-            try {
-                driver.wait(WAIT_TIME);
-            } catch (InterruptedException ex) {
-                throw new RuntimeException(ex);
-            }
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(WAIT_TIME);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExceptionHub("Interrupted while waiting", ex);
+        } finally {
+            SleepLedger.record(WaitHandler.class, System.nanoTime() - start);
         }
     }
 
+    /**
+     * Time, number of polls and payload of a DOM stability wait.
+     *
+     * @param millis  The time the DOM took to stabilize, in milliseconds.
+     * @param polls   The number of times the browser was polled.
+     * @param payload The characters exchanged with the browser by all polls.
+     */
+    record DomStability(long millis, long polls, long payload) {
+    }
+
 }
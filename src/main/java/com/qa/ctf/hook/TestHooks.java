@@ -2,18 +2,19 @@ package com.qa.ctf.hook;
 
 import com.qa.ctf.context.TestContext;
 import com.qa.ctf.factory.DriverFactory;
+import com.qa.ctf.util.CdpSession;
 import com.qa.ctf.util.ExceptionHub;
-import com.qa.ctf.util.FileReader;
+import com.qa.ctf.util.ScenarioLogBuffer;
 import com.qa.ctf.util.ScreenCapture;
+import com.qa.ctf.util.ScreenshotWriter;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
 
-import java.io.File;
+import java.nio.charset.StandardCharsets;
 
 import static com.qa.ctf.constant.TestConstants.*;
 
@@ -24,7 +25,10 @@ import static com.qa.ctf.constant.TestConstants.*;
  * <p>Features:
  * <ul>
  *     <li>Initializes WebDriver before each scenario and ensures cleanup after.</li>
- *     <li>Captures and attaches screenshots for failed scenarios.</li>
+ *     <li>Captures screenshots of failed scenarios in memory, attaches them and saves
+ *     them in the background.</li>
+ *     <li>Attaches the buffered scenario log to failed scenarios.</li>
+ *     <li>Resets and logs the blocked request counters of each scenario.</li>
  *     <li>Logs detailed information on scenario success or failure.</li>
  * </ul>
  *
@@ -56,7 +60,7 @@ import static com.qa.ctf.constant.TestConstants.*;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.1
+ * @version 1.6
  */
 public class TestHooks {
 
@@ -86,8 +90,8 @@ public class TestHooks {
     /**
      * Executes before each scenario starts.
      * <p>
-     * This method logs the scenario details, loads the property file, and initializes
-     * the WebDriver instance. If WebDriver initialization fails, it throws an
+     * This method logs the scenario details and initializes the WebDriver instance;
+     * the configuration is loaded once per JVM on first use. If WebDriver initialization fails, it throws an
      * {@link ExceptionHub}.
      * </p>
      *
@@ -96,17 +100,22 @@ public class TestHooks {
      */
     @Before
     public void before(Scenario scenario) {
+        ScenarioLogBuffer.startCapture();
         log.info("BEFORE SCENARIO - THREAD ID: {} & SCENARIO NAME: {}",
                 Thread.currentThread().threadId(), scenario.getName());
         try {
             // FileUtils.cleanDirectory(new File(SCREENSHOT_PATH));
-            FileReader.loadPropertyFile();
             DriverFactory.getInstance().initializeDriver();
-            log.info("DRIVER FROM FACTORY: {}",DriverFactory.getInstance().getDriver());
             this.driver = DriverFactory.getInstance().getDriver();
-            log.info("DRIVER IN HOOK: {}",this.driver);
             testContext.setDriver(this.driver);
-            log.info("TestContext DRIVER: {}",testContext.getDriver());
+            log.debug("Driver of the scenario: {}", this.driver);
+            if (DriverFactory.isNetworkMonitorEnabled()) {
+                // Attach the network monitor before the first navigation so that no request is missed
+                CdpSession.of(this.driver).ifPresent(CdpSession::getNetworkMonitor);
+            }
+            if (DriverFactory.isRequestBlockingEnabled()) {
+                CdpSession.of(this.driver).ifPresent(session -> session.getRequestBlocker().startScenario());
+            }
         } catch (Exception ex) {
             log.error("Error initializing WebDriver: {}", ex.getMessage(), ex);
             throw new ExceptionHub("WebDriver initialization failed", ex);
@@ -116,8 +125,9 @@ public class TestHooks {
     /**
      * Executes after each scenario ends.
      * <p>
-     * This method logs the scenario details, captures a screenshot if the scenario
-     * fails, and ensures the WebDriver instance is properly closed.
+     * This method logs the scenario details, captures a screenshot and attaches the
+     * buffered scenario log if the scenario fails, and ensures the WebDriver instance
+     * is properly closed.
      * </p>
      *
      * @param scenario The Cucumber {@link Scenario} that has just finished execution.
@@ -136,6 +146,12 @@ public class TestHooks {
         } catch (Exception ex) {
             log.warn("Error while capturing screenshot: {}", ex.getMessage(), ex);
         } finally {
+            attachLogToScenario(scenario);
+            if (DriverFactory.isRequestBlockingEnabled()) {
+                // The scenario may have moved to a fresh driver, so read the current one
+                CdpSession.of(DriverFactory.getInstance().getDriver())
+                        .ifPresent(session -> session.getRequestBlocker().finishScenario(scenario.getName()));
+            }
             DriverFactory.quitDriver();
         }
     }
@@ -143,18 +159,41 @@ public class TestHooks {
     /**
      * Captures a screenshot and attaches it to the scenario report.
      * <p>
-     * This method utilizes the {@link ScreenCapture} utility to take a screenshot
-     * and attach it to the given Cucumber scenario for reporting purposes.
+     * This method utilizes the {@link ScreenCapture} utility to capture the screenshot
+     * in memory and attaches the bytes to the given Cucumber scenario. Saving the
+     * screenshot to disk is left to the {@link ScreenshotWriter} in the background.
      * </p>
      *
      * @param scenario The Cucumber {@link Scenario} to which the screenshot should
      *                 be attached.
      */
     private void attachScreenToScenario(Scenario scenario) {
-        ScreenCapture screenCapture = new ScreenCapture(DriverFactory.getInstance());
-        byte[] screenshot = screenCapture.convertImageToByteArray(screenCapture.takeScreenshot());
+        byte[] screenshot = new ScreenCapture(DriverFactory.getInstance()).captureScreenshot();
         scenario.attach(screenshot, IMG_PNG_FORMAT, scenario.getName());
         log.info("Screenshot attached for scenario: {}", scenario.getName());
+        if (ScreenshotWriter.isEnabled()) {
+            ScreenshotWriter.getInstance().write(screenshot, scenario.getName());
+        }
+    }
+
+    /**
+     * Attaches the buffered log of a failed scenario to the scenario report.
+     * <p>
+     * The log is only buffered when the {@link ScenarioLogBuffer} appender is
+     * configured. The buffer is discarded for passing scenarios.
+     * </p>
+     *
+     * @param scenario The Cucumber {@link Scenario} that has just finished execution.
+     */
+    private void attachLogToScenario(Scenario scenario) {
+        if (!scenario.isFailed()) {
+            ScenarioLogBuffer.discard();
+            return;
+        }
+        String scenarioLog = ScenarioLogBuffer.drain();
+        if (!scenarioLog.isEmpty()) {
+            scenario.attach(scenarioLog.getBytes(StandardCharsets.UTF_8), TEXT_PLAIN_FORMAT, scenario.getName() + " log");
+        }
     }
 
 }
@@ -0,0 +1,102 @@
+package com.qa.ctf.listener;
+
+import com.qa.ctf.util.CommandMetrics;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CommandTimingListener class measures the latency of every command sent
+ * through a WebDriver decorated by {@code DriverFactory} and records it in
+ * {@link CommandMetrics}.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Times calls on the driver and on every object it hands out, such as
+ *     elements, navigation, windows and alerts.</li>
+ *     <li>Names the commands after the interface and method, e.g.
+ *     "WebElement.click" or "JavascriptExecutor.executeScript".</li>
+ *     <li>Records failed commands too, so that implicit waits ending in an exception
+ *     are not hidden.</li>
+ *     <li>Measures its own bookkeeping time as the instrumentation overhead; the
+ *     dispatch through the decorator proxy is estimated by {@link CommandMetrics}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>The listener never throws; the exceptions of failed commands are rethrown
+ *   by the decorator.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * A single stateless instance is shared by all drivers; the start times are kept
+ * per thread.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * WebDriver driver = new EventFiringDecorator<>(CommandTimingListener.getInstance())
+ *         .decorate(new ChromeDriver());
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public final class CommandTimingListener implements WebDriverListener {
+
+    // Shared instance of the listener
+    private static final CommandTimingListener instance = new CommandTimingListener();
+
+    // Command names per method, built once to avoid string concatenation per call
+    private static final Map<Method, String> commandNames = new ConcurrentHashMap<>();
+
+    // Start times of the commands in progress on the current thread
+    private static final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private CommandTimingListener() {
+    }
+
+    public static CommandTimingListener getInstance() {
+        return instance;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    /**
+     * Records the latency of the command that has just finished.
+     *
+     * @param method The method of the command.
+     */
+    private void finish(Method method) {
+        long end = System.nanoTime();
+        Long start = startTimes.get().poll();
+        if (start == null) {
+            return;
+        }
+        String command = commandNames.computeIfAbsent(method,
+                key -> key.getDeclaringClass().getSimpleName() + "." + key.getName());
+        CommandMetrics.record(command, TimeUnit.NANOSECONDS.toMicros(end - start));
+        CommandMetrics.recordOverhead(System.nanoTime() - end);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.qa.ctf.listener;
+
+import com.qa.ctf.util.CommandMetrics;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * The CommandTimingPlugin class is a Cucumber plugin that gives the WebDriver
+ * command timings collected by {@link CommandMetrics} their scenario and step
+ * context, and writes the command timing report at the end of the run.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Starts and finishes the per-scenario histograms with each test case.</li>
+ *     <li>Attributes the commands to the step or hook being executed.</li>
+ *     <li>Writes {@code command-timing.json} next to the Cucumber JSON report.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>The plugin never throws; report failures are logged by {@link CommandMetrics}.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Cucumber publishes the test case and step events on the thread executing the
+ * scenario, which is what allows the context to be kept per thread. Commands are only
+ * timed when {@code CommandTiming} is set to {@code Yes}; otherwise nothing is recorded
+ * and no report is written.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * @CucumberOptions(plugin = {"com.qa.ctf.listener.CommandTimingPlugin"})
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public class CommandTimingPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class,
+                event -> CommandMetrics.startScenario(event.getTestCase().getName()));
+        publisher.registerHandlerFor(TestStepStarted.class, event -> {
+            if (event.getTestStep() instanceof PickleStepTestStep step) {
+                CommandMetrics.startStep(step.getStep().getKeyword() + step.getStep().getText());
+            } else if (event.getTestStep() instanceof HookTestStep hook) {
+                CommandMetrics.startStep(hook.getHookType().name());
+            }
+        });
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> CommandMetrics.finishScenario());
+        publisher.registerHandlerFor(TestRunFinished.class, event -> CommandMetrics.writeReport());
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.qa.ctf.listener;
+
+import com.qa.ctf.util.FileReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ScenarioThreadListener class implements the TestNG {@link ISuiteListener}
+ * interface to control how many Cucumber scenarios run concurrently.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Reads the scenario thread count from the {@code ScenarioThreads} system
+ *     	property before the suite starts.</li>
+ *     <li>Applies the thread count to the data provider thread pool that runs the
+ *     	parallel scenarios data provider of the Cucumber runner.</li>
+ *     <li>Falls back to a single thread, i.e. serial execution, when the property is
+ *     	not set or is invalid.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>An invalid or non-positive thread count is logged as a warning and the
+ *   	default thread count is used instead.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The listener must be registered in the TestNG suite file. Every shared object used
+ * by the steps must be thread-confined, which is why the WebDriver, page objects and
+ * handlers are held in {@link ThreadLocal} variables. The services shared by the
+ * suite are started and released by the {@link SuiteLifecycleListener}.
+ *
+ * <p>Example Usage:
+ * <pre>
+ * {@code
+ * mvn clean test -DScenarioThreads=4
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.5
+ */
+public class ScenarioThreadListener implements ISuiteListener {
+
+    // Logger instance for the ScenarioThreadListener class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ScenarioThreadListener.class);
+
+    /**
+     * Sets the data provider thread count of the suite before any scenario runs.
+     *
+     * @param suite The {@link ISuite} that is about to start.
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        int threadCount = getScenarioThreadCount();
+        suite.getXmlSuite().setDataProviderThreadCount(threadCount);
+        log.info("Scenarios of suite '{}' will run on '{}' thread(s)", suite.getName(), threadCount);
+    }
+
+    /**
+     * Resolves the scenario thread count from the configuration snapshot, where the
+     * system property overrides the configuration files.
+     *
+     * @return The configured thread count, or the default thread count if it is invalid.
+     */
+    public static int getScenarioThreadCount() {
+        String value = FileReader.getConfig().getString(SCENARIO_THREADS, "");
+        if (value == null || value.isBlank()) {
+            return DEFAULT_SCENARIO_THREADS;
+        }
+        try {
+            int threadCount = Integer.parseInt(value.strip());
+            if (threadCount > 0) {
+                return threadCount;
+            }
+        } catch (NumberFormatException ex) {
+            log.debug("Scenario thread count '{}' is not a number", value, ex);
+        }
+        log.warn("Invalid scenario thread count '{}', using '{}' thread(s)", value, DEFAULT_SCENARIO_THREADS);
+        return DEFAULT_SCENARIO_THREADS;
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.qa.ctf.listener;
+
+import com.qa.ctf.util.LatencyHistogram;
+import com.qa.ctf.util.ShardPlan;
+import com.qa.ctf.util.TimingHistory;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The StepTimingPlugin class is a Cucumber plugin that records the wall time of every
+ * step, hook and scenario, stores it in the {@link TimingHistory} and flags the steps
+ * whose p50 or p95 regressed against the baseline of the previous runs.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Aggregates the durations of each step text, hook and scenario of the run
+ *     into histograms.</li>
+ *     <li>Compares the p50 and p95 of each key with the median of the latest runs and
+ *     flags the ones that grew by more than the threshold.</li>
+ *     <li>Writes the flagged regressions to {@code target/perf/step-regressions.txt}
+ *     and appends the run to the history.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>The plugin never fails the run; regressions are reported as warnings and
+ *   failures while writing the report are logged.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Only passed steps and hooks are timed, as failed and skipped ones do not represent
+ * their usual duration. A regression must exceed both the relative threshold
+ * ({@code -DStepRegressionThreshold}, in percent) and an absolute minimum, so that
+ * fast steps do not produce noise.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * @CucumberOptions(plugin = {"com.qa.ctf.listener.StepTimingPlugin"})
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public class StepTimingPlugin implements ConcurrentEventListener {
+
+    // Logger instance for the StepTimingPlugin class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(StepTimingPlugin.class);
+
+    // Durations of the run in milliseconds, keyed by kind and key
+    private final Map<TimedKey, LatencyHistogram> timings = new ConcurrentHashMap<>();
+
+    // Identifier of the run, shared by all shards of a sharded run, or the time the plugin was created
+    private final String runId = System.getProperty(RUN_ID, Instant.now().toString());
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> onRunFinished());
+    }
+
+    /**
+     * Records the duration of a passed step or hook.
+     *
+     * @param event The event of the finished step.
+     */
+    private void onStepFinished(TestStepFinished event) {
+        if (event.getResult().getStatus() != Status.PASSED) {
+            return;
+        }
+        long millis = event.getResult().getDuration().toMillis();
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            record(TimingHistory.Type.STEP, step.getStep().getKeyword() + step.getStep().getText(), millis);
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            record(TimingHistory.Type.HOOK, hook.getHookType() + " " + hook.getCodeLocation(), millis);
+        }
+    }
+
+    /**
+     * Records the duration of a passed or failed scenario.
+     *
+     * @param event The event of the finished scenario.
+     */
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Status status = event.getResult().getStatus();
+        if (status == Status.PASSED || status == Status.FAILED) {
+            TestCase testCase = event.getTestCase();
+            record(TimingHistory.Type.SCENARIO,
+                    TimingHistory.scenarioKey(testCase.getUri(), testCase.getLocation().getLine(), testCase.getName()),
+                    event.getResult().getDuration().toMillis());
+        }
+    }
+
+    /**
+     * Records a duration of the run.
+     *
+     * @param type   The kind of timed item.
+     * @param key    The step text, hook location or scenario key.
+     * @param millis The duration in milliseconds.
+     */
+    private void record(TimingHistory.Type type, String key, long millis) {
+        timings.computeIfAbsent(new TimedKey(type, key), timedKey -> new LatencyHistogram()).recordValue(millis);
+    }
+
+    /**
+     * Compares the run with the baseline, writes the regression report and appends
+     * the run to the history.
+     */
+    private void onRunFinished() {
+        if (timings.isEmpty()) {
+            return;
+        }
+        TimingHistory history = TimingHistory.load();
+        List<TimingHistory.Entry> runEntries = new ArrayList<>();
+        timings.forEach((timedKey, histogram) -> runEntries.add(new TimingHistory.Entry(runId, timedKey.type(),
+                timedKey.key(), histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(95))));
+
+        List<String> regressions = new ArrayList<>();
+        for (TimingHistory.Type type : TimingHistory.Type.values()) {
+            Map<String, TimingHistory.Baseline> baselines = history.getBaselines(type);
+            runEntries.stream()
+                    .filter(entry -> entry.type() == type && baselines.containsKey(entry.key()))
+                    .sorted(Comparator.comparing(TimingHistory.Entry::key))
+                    .forEach(entry -> {
+                        TimingHistory.Baseline baseline = baselines.get(entry.key());
+                        if (isRegression(entry.p50(), baseline.p50()) || isRegression(entry.p95(), baseline.p95())) {
+                            regressions.add(String.format("%s %s: p50 %d ms (baseline %d ms), p95 %d ms (baseline %d ms) over %d runs",
+                                    type, entry.key(), entry.p50(), baseline.p50(), entry.p95(), baseline.p95(), baseline.runs()));
+                        }
+                    });
+        }
+        regressions.forEach(regression -> log.warn("Slow step regression - {}", regression));
+        log.info("Step timing recorded for {} keys, {} regressions against the baseline", runEntries.size(), regressions.size());
+        writeReport(regressions);
+        history.append(runEntries);
+    }
+
+    /**
+     * Checks whether a duration regressed against its baseline by more than both the
+     * relative threshold and the absolute minimum.
+     *
+     * @param current  The duration of the run in milliseconds.
+     * @param baseline The baseline duration in milliseconds.
+     * @return true if the duration regressed.
+     */
+    private static boolean isRegression(long current, long baseline) {
+        long threshold = Long.getLong(STEP_REGRESSION_THRESHOLD, DEFAULT_STEP_REGRESSION_THRESHOLD);
+        return current - baseline >= STEP_REGRESSION_MIN_MILLIS
+                && current * 100 > baseline * (100 + threshold);
+    }
+
+    /**
+     * Writes the flagged regressions of the run to the regression report.
+     *
+     * @param regressions The descriptions of the regressions.
+     */
+    private static void writeReport(List<String> regressions) {
+        Path reportPath = ShardPlan.outputPath(PERF_REPORT_PATH + STEP_REGRESSION_FILE_NAME);
+        List<String> lines = new ArrayList<>();
+        lines.add("Step timing regressions: " + regressions.size());
+        lines.addAll(regressions);
+        try {
+            Files.createDirectories(reportPath.getParent());
+            Files.write(reportPath, lines, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            log.warn("Failed to write the step regression report: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Kind and key of a timed item.
+     */
+    private record TimedKey(TimingHistory.Type type, String key) {
+    }
+
+}
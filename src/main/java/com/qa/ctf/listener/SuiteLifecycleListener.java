@@ -0,0 +1,98 @@
+package com.qa.ctf.listener;
+
+import com.qa.ctf.factory.DriverFactory;
+import com.qa.ctf.util.PerfReportWriter;
+import com.qa.ctf.util.ReplayServer;
+import com.qa.ctf.util.ScenarioScheduler;
+import com.qa.ctf.util.ScreenshotWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * The SuiteLifecycleListener class implements the TestNG {@link ISuiteListener}
+ * interface to start the shared services of the suite and to release them and write
+ * the performance reports once the suite ends.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Starts the replay server for the suite when {@code ReplayMode} is configured.</li>
+ *     <li>Reports the predicted and actual makespan of the scheduled scenarios.</li>
+ *     <li>Waits for the screenshots still being written in the background.</li>
+ *     <li>Shuts down the driver pool, context isolation and driver pipeline, then writes
+ *     the reports registered with the {@link PerfReportWriter}.</li>
+ *     <li>Stops the replay server.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>A failure of one finish step is logged and does not prevent the remaining steps,
+ *   so the browsers are quit and the reports written even if a previous step fails.</li>
+ *   <li>{@link com.qa.ctf.util.ExceptionHub} from starting the replay server is propagated,
+ *   as the scenarios cannot run without it.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The listener must be registered in the TestNG suite file, next to the
+ * {@link ScenarioThreadListener} that sets the scenario thread count. The sessions are
+ * shut down before the reports are written, so the statistics of their final quits are
+ * included.
+ *
+ * <p>Example Usage:
+ * <pre>
+ * {@code
+ * <listener class-name="com.qa.ctf.listener.SuiteLifecycleListener" />
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public class SuiteLifecycleListener implements ISuiteListener {
+
+    // Logger instance for the SuiteLifecycleListener class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(SuiteLifecycleListener.class);
+
+    /**
+     * Starts the replay server, if configured, before any scenario runs.
+     *
+     * @param suite The {@link ISuite} that is about to start.
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        ReplayServer.startIfConfigured();
+    }
+
+    /**
+     * Reports the makespan, waits for the pending screenshots, shuts down the shared
+     * browser sessions, writes the performance reports and stops the replay server once
+     * the suite ends.
+     *
+     * @param suite The {@link ISuite} that has finished.
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        runQuietly("report the makespan", ScenarioScheduler::reportMakespan);
+        runQuietly("flush the screenshots", () -> ScreenshotWriter.getInstance().flush());
+        runQuietly("shut down the browser sessions", () -> DriverFactory.getInstance().shutdownSessions());
+        runQuietly("write the performance reports", PerfReportWriter::writeAll);
+        runQuietly("stop the replay server", ReplayServer::stopServer);
+        log.info("Suite '{}' finished", suite.getName());
+    }
+
+    /**
+     * Runs one finish step, logging instead of propagating its failure.
+     *
+     * @param step   The description of the step, used in the log.
+     * @param action The step to run.
+     */
+    private static void runQuietly(String step, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to {} at the end of the suite: {}", step, ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.qa.ctf.util;
+
+import com.qa.ctf.constant.FullPageStrategy;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * The CdpFullPageCapture class captures the whole scrollable page in one DevTools
+ * command, without scrolling the page, on Chromium based browsers.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Reads the content size of the page with {@code Page.getLayoutMetrics}.</li>
+ *     <li>Renders the page beyond the viewport with {@code Page.captureScreenshot}
+ *     and {@code captureBeyondViewport}, clipped to the content size.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Protocol failures are thrown as they are, so that {@link FullPageScreenshot}
+ *   can fall back to another strategy.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Only browsers with a {@link CdpSession}, such as Chrome and Edge, are supported.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * byte[] screenshot = new CdpFullPageCapture().capture(driver);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public class CdpFullPageCapture implements FullPageCapture {
+
+    @Override
+    public FullPageStrategy getStrategy() {
+        return FullPageStrategy.CDP;
+    }
+
+    @Override
+    public boolean supports(WebDriver driver) {
+        return CdpSession.of(driver).isPresent();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] capture(WebDriver driver) {
+        CdpSession session = CdpSession.of(driver)
+                .orElseThrow(() -> new ExceptionHub.ScreenshotException("DevTools is not supported by the browser."));
+        Map<String, Object> metrics = session.sendForResult("Page.getLayoutMetrics", Map.of());
+        Map<String, Object> contentSize = (Map<String, Object>) metrics.getOrDefault("cssContentSize",
+                metrics.get("contentSize"));
+        double width = ((Number) contentSize.get("width")).doubleValue();
+        double height = ((Number) contentSize.get("height")).doubleValue();
+        Map<String, Object> result = session.sendForResult("Page.captureScreenshot", Map.of(
+                "format", "png",
+                "captureBeyondViewport", true,
+                "clip", Map.of("x", 0, "y", 0, "width", width, "height", height, "scale", 1)));
+        return Base64.getDecoder().decode((String) result.get("data"));
+    }
+
+}
@@ -0,0 +1,232 @@
+package com.qa.ctf.util;
+
+import com.qa.ctf.factory.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The CdpSession class provides a cached Chrome DevTools Protocol session for a
+ * WebDriver instance, using version independent commands and events so that the
+ * framework is not tied to a specific browser version.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Opens one DevTools session per WebDriver and reuses it for every caller.</li>
+ *     <li>Unwraps decorated drivers and augments remote drivers to reach DevTools.</li>
+ *     <li>Sends raw protocol commands by method name and parameters.</li>
+ *     <li>Lazily attaches a {@link NetworkMonitor} tracking in-flight requests.</li>
+ *     <li>Lazily attaches a {@link RequestBlocker} failing the requests of the block lists.</li>
+ *     <li>Moves to another window, such as the window of an isolated browser context.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Browsers without DevTools support, such as Firefox, yield an empty
+ *   {@link Optional} so that callers can fall back to WebDriver commands.</li>
+ *   <li>Failures while opening a session are logged and treated as unsupported.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Sessions must be released with {@link #release(WebDriver)} when the WebDriver is
+ * quit, otherwise the cached session keeps the connection open.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * CdpSession.of(driver).ifPresent(session ->
+ *         session.send("Network.clearBrowserCache", Map.of()));
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.2
+ */
+public class CdpSession {
+
+    // Logger instance for the CdpSession class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(CdpSession.class);
+
+    // Cache of DevTools sessions keyed by the WebDriver that owns them
+    private static final Map<WebDriver, Optional<CdpSession>> sessions = new ConcurrentHashMap<>();
+
+    // DevTools connection used to send commands and receive events
+    private final DevTools devTools;
+
+    // Network monitor attached to the session, created on first use
+    private volatile NetworkMonitor networkMonitor;
+
+    // Request blocker attached to the session, created on first use
+    private volatile RequestBlocker requestBlocker;
+
+    private CdpSession(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Retrieves the DevTools session of the given WebDriver, opening it on first use.
+     *
+     * @param driver The WebDriver instance, possibly decorated.
+     * @return The cached session, or an empty Optional if DevTools is not supported.
+     */
+    public static Optional<CdpSession> of(WebDriver driver) {
+        if (driver == null) {
+            return Optional.empty();
+        }
+        return sessions.computeIfAbsent(DriverFactory.unwrapDriver(driver), CdpSession::open);
+    }
+
+    /**
+     * Closes and forgets the DevTools session of the given WebDriver.
+     *
+     * @param driver The WebDriver instance that is about to be quit.
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        Optional<CdpSession> session = sessions.remove(DriverFactory.unwrapDriver(driver));
+        if (session != null) {
+            session.ifPresent(cdpSession -> {
+                try {
+                    cdpSession.devTools.close();
+                } catch (WebDriverException ex) {
+                    log.debug("Failed to close the DevTools session: {}", ex.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Retrieves the underlying DevTools connection.
+     *
+     * @return The DevTools instance of this session.
+     */
+    public DevTools getDevTools() {
+        return devTools;
+    }
+
+    /**
+     * Sends a raw protocol command that does not return a result.
+     *
+     * @param method The protocol method, e.g. {@code Network.enable}.
+     * @param params The parameters of the command.
+     */
+    public void send(String method, Map<String, Object> params) {
+        devTools.send(new Command<Void>(method, params));
+    }
+
+    /**
+     * Sends a raw protocol command and returns its result as a map.
+     *
+     * @param method The protocol method, e.g. {@code Page.captureScreenshot}.
+     * @param params The parameters of the command.
+     * @return The result of the command.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> sendForResult(String method, Map<String, Object> params) {
+        return devTools.send(new Command<Map<String, Object>>(method, params, Map.class));
+    }
+
+    /**
+     * Moves the session to another window of the browser, e.g. a window opened in a new
+     * browser context.
+     * <p>
+     * The listeners of the previous window are cleared, so the network monitor and the
+     * request blocker are attached again on their next use.
+     * </p>
+     *
+     * @param windowHandle The handle of the window, which is its DevTools target id.
+     */
+    public synchronized void switchTarget(String windowHandle) {
+        devTools.clearListeners();
+        devTools.disconnectSession();
+        devTools.createSession(windowHandle);
+        networkMonitor = null;
+        requestBlocker = null;
+    }
+
+    /**
+     * Retrieves the network monitor of this session, attaching it on first use.
+     *
+     * @return The NetworkMonitor tracking the requests of this session.
+     */
+    public NetworkMonitor getNetworkMonitor() {
+        NetworkMonitor monitor = networkMonitor;
+        if (monitor == null) {
+            synchronized (this) {
+                monitor = networkMonitor;
+                if (monitor == null) {
+                    monitor = new NetworkMonitor(this);
+                    networkMonitor = monitor;
+                }
+            }
+        }
+        return monitor;
+    }
+
+    /**
+     * Retrieves the request blocker of this session, attaching it on first use.
+     * <p>
+     * The block lists are read from the {@code BlockedUrlPatterns} and
+     * {@code BlockedResourceTypes} configuration keys.
+     * </p>
+     *
+     * @return The RequestBlocker failing the blocked requests of this session.
+     */
+    public RequestBlocker getRequestBlocker() {
+        RequestBlocker blocker = requestBlocker;
+        if (blocker == null) {
+            synchronized (this) {
+                blocker = requestBlocker;
+                if (blocker == null) {
+                    ConfigSnapshot config = FileReader.getConfig();
+                    blocker = new RequestBlocker(this, config.getString(BLOCKED_URL_PATTERNS, ""),
+                            config.getString(BLOCKED_RESOURCE_TYPES, ""));
+                    requestBlocker = blocker;
+                }
+            }
+        }
+        return blocker;
+    }
+
+    /**
+     * Opens a DevTools session for the given WebDriver.
+     *
+     * @param driver The undecorated WebDriver instance.
+     * @return The opened session, or an empty Optional if DevTools is not supported.
+     */
+    private static Optional<CdpSession> open(WebDriver driver) {
+        WebDriver target = driver;
+        try {
+            if (!(target instanceof HasDevTools) && target instanceof RemoteWebDriver) {
+                target = new Augmenter().augment(target);
+            }
+            if (target instanceof HasDevTools hasDevTools) {
+                Optional<DevTools> devTools = hasDevTools.maybeGetDevTools();
+                if (devTools.isPresent()) {
+                    devTools.get().createSessionIfThereIsNotOne();
+                    log.info("DevTools session opened for the browser.");
+                    return Optional.of(new CdpSession(devTools.get()));
+                }
+            }
+        } catch (WebDriverException ex) {
+            log.warn("DevTools session could not be opened: {}", ex.getMessage());
+        }
+        log.info("DevTools is not supported by the browser, falling back to WebDriver commands.");
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,334 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The CommandMetrics class collects the latency of every WebDriver command into
+ * per-scenario and per-run histograms and exports them as a JSON report.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Keeps one {@link LatencyHistogram} per command for the whole run and for the
+ *     scenario running on each thread.</li>
+ *     <li>Attributes each command to the current step and the label of the element the
+ *     page object is working with, to report the slowest commands by step and label.</li>
+ *     <li>Tracks the time spent on the instrumentation itself, the recording measured per
+ *     command and the dispatch through the decorator proxy estimated with a stub
+ *     driver, and compares it with the overhead budget.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Failures while writing the report are logged and never fail the test run.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The commands are recorded by {@code CommandTimingListener}, the scenario and step
+ * context is set by {@code CommandTimingPlugin}, and the element label is set by
+ * {@code PageComponent} for the duration of each of its calls. Latencies are recorded
+ * in microseconds. The dispatch cost is an estimate, as the decorator wraps the real
+ * driver and its own time cannot be told apart from the command's.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * CommandMetrics.startScenario("Add product to cart");
+ * CommandMetrics.startStep("user adds the product to the cart");
+ * CommandMetrics.setLabel("Add To Cart Button");
+ * CommandMetrics.record("WebElement.click", 5400);
+ * CommandMetrics.clearLabel();
+ * CommandMetrics.finishScenario();
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public final class CommandMetrics {
+
+    // Logger instance for the CommandMetrics class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(CommandMetrics.class);
+
+    // Label used when a command runs outside a step or without an element label
+    private static final String NO_CONTEXT = "-";
+
+    // Histogram per command for the whole run
+    private static final Map<String, LatencyHistogram> runHistograms = new ConcurrentHashMap<>();
+
+    // Histogram per command, step and element label for the whole run
+    private static final Map<CallSite, LatencyHistogram> callSiteHistograms = new ConcurrentHashMap<>();
+
+    // Summaries of the finished scenarios
+    private static final Queue<Map<String, Object>> scenarioSummaries = new ConcurrentLinkedQueue<>();
+
+    // Nanoseconds spent by the instrumentation itself
+    private static final LongAdder overheadNanos = new LongAdder();
+
+    // Context of the scenario running on the current thread
+    private static final ThreadLocal<ScenarioContext> scenarioLocal = ThreadLocal.withInitial(ScenarioContext::new);
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Starts collecting the commands of a scenario on the current thread.
+     *
+     * @param scenarioName The name of the scenario.
+     */
+    public static void startScenario(String scenarioName) {
+        ScenarioContext context = new ScenarioContext();
+        context.scenario = scenarioName;
+        scenarioLocal.set(context);
+    }
+
+    /**
+     * Sets the step the following commands of the current thread belong to.
+     *
+     * @param stepText The text of the step.
+     */
+    public static void startStep(String stepText) {
+        ScenarioContext context = scenarioLocal.get();
+        context.step = stepText;
+        context.label = NO_CONTEXT;
+    }
+
+    /**
+     * Sets the label of the element the following commands of the current thread work on.
+     *
+     * @param label The label of the element.
+     */
+    public static void setLabel(String label) {
+        scenarioLocal.get().label = label == null ? NO_CONTEXT : label;
+    }
+
+    /**
+     * Clears the element label of the current thread, so that the following commands
+     * are not attributed to an element they do not work on.
+     */
+    public static void clearLabel() {
+        scenarioLocal.get().label = NO_CONTEXT;
+    }
+
+    /**
+     * Records the latency of a command run on the current thread.
+     *
+     * @param command The name of the command, e.g. "WebElement.click".
+     * @param micros  The latency in microseconds.
+     */
+    public static void record(String command, long micros) {
+        ScenarioContext context = scenarioLocal.get();
+        runHistograms.computeIfAbsent(command, key -> new LatencyHistogram()).recordValue(micros);
+        context.histograms.computeIfAbsent(command, key -> new LatencyHistogram()).recordValue(micros);
+        callSiteHistograms.computeIfAbsent(new CallSite(command, context.step, context.label),
+                key -> new LatencyHistogram()).recordValue(micros);
+    }
+
+    /**
+     * Adds the time spent by the instrumentation on a command.
+     *
+     * @param nanos The overhead in nanoseconds.
+     */
+    public static void recordOverhead(long nanos) {
+        overheadNanos.add(nanos);
+    }
+
+    /**
+     * Finishes the scenario of the current thread and keeps its summary for the report.
+     */
+    public static void finishScenario() {
+        ScenarioContext context = scenarioLocal.get();
+        scenarioLocal.remove();
+        if (context.histograms.isEmpty()) {
+            return;
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", context.scenario);
+        summary.put("commands", summarize(context.histograms));
+        scenarioSummaries.add(summary);
+    }
+
+    /**
+     * Writes the run histograms, the slowest call sites, the scenario summaries and
+     * the instrumentation overhead to a JSON report.
+     *
+     * @param reportPath The path of the JSON report.
+     */
+    public static void writeReport(Path reportPath) {
+        if (runHistograms.isEmpty()) {
+            return;
+        }
+        long commandCount = runHistograms.values().stream().mapToLong(LatencyHistogram::getTotalCount).sum();
+        long commandMicros = runHistograms.values().stream().mapToLong(LatencyHistogram::getTotalValue).sum();
+        long recordingMicros = TimeUnit.NANOSECONDS.toMicros(overheadNanos.sum());
+        double dispatchMicrosPerCommand = measureDispatchNanos() / 1000.0;
+        long dispatchMicros = Math.round(dispatchMicrosPerCommand * commandCount);
+        long overheadMicros = recordingMicros + dispatchMicros;
+        double overheadPercent = commandMicros == 0 ? 0 : 100.0 * overheadMicros / commandMicros;
+        boolean withinBudget = overheadPercent <= COMMAND_TIMING_OVERHEAD_BUDGET;
+        if (!withinBudget) {
+            log.warn("Command timing overhead of {}% exceeds the budget of {}%",
+                    String.format("%.3f", overheadPercent), COMMAND_TIMING_OVERHEAD_BUDGET);
+        }
+
+        Map<String, Object> overhead = new LinkedHashMap<>();
+        overhead.put("commandCount", commandCount);
+        overhead.put("commandMicros", commandMicros);
+        overhead.put("recordingMicros", recordingMicros);
+        overhead.put("dispatchMicrosPerCommand", dispatchMicrosPerCommand);
+        overhead.put("dispatchMicros", dispatchMicros);
+        overhead.put("dispatchEstimated", true);
+        overhead.put("overheadMicros", overheadMicros);
+        overhead.put("overheadPercent", overheadPercent);
+        overhead.put("budgetPercent", COMMAND_TIMING_OVERHEAD_BUDGET);
+        overhead.put("withinBudget", withinBudget);
+
+        List<Map<String, Object>> slowest = callSiteHistograms.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<CallSite, LatencyHistogram> entry) -> entry.getValue().getTotalValue()).reversed())
+                .limit(COMMAND_TIMING_TOP_N)
+                .map(entry -> {
+                    Map<String, Object> callSite = new LinkedHashMap<>();
+                    callSite.put("command", entry.getKey().command());
+                    callSite.put("step", entry.getKey().step());
+                    callSite.put("label", entry.getKey().label());
+                    callSite.putAll(summarize(entry.getValue()));
+                    return callSite;
+                })
+                .toList();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("overhead", overhead);
+        report.put("commands", summarize(runHistograms));
+        report.put("slowestCallSites", slowest);
+        report.put("scenarios", List.copyOf(scenarioSummaries));
+        try {
+            Files.createDirectories(reportPath.getParent());
+            Files.writeString(reportPath, new Json().toJson(report), StandardCharsets.UTF_8);
+            log.info("Command timing report written to {} with {} commands", reportPath, commandCount);
+        } catch (IOException ex) {
+            log.warn("Failed to write the command timing report: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Estimates the time the {@link EventFiringDecorator} proxy adds to each command.
+     * <p>
+     * A stub driver answering {@code getTitle} in place is called bare and decorated
+     * with a listener doing nothing, after a warm-up of the same number of calls. The
+     * difference per call is the dispatch cost; the listener's own bookkeeping is
+     * measured separately per command.
+     * </p>
+     *
+     * @return The dispatch cost per command in nanoseconds, or 0 if it could not be
+     * measured.
+     */
+    private static long measureDispatchNanos() {
+        try {
+            WebDriver stub = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                    new Class<?>[]{WebDriver.class},
+                    (proxy, method, args) -> "getTitle".equals(method.getName()) ? "" : null);
+            WebDriver decorated = new EventFiringDecorator<>(new WebDriverListener() {
+            }).decorate(stub);
+            timeTitleCalls(stub);
+            timeTitleCalls(decorated);
+            long bareNanos = timeTitleCalls(stub);
+            long decoratedNanos = timeTitleCalls(decorated);
+            return Math.max(0, decoratedNanos - bareNanos) / COMMAND_TIMING_DISPATCH_CALLS;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to measure the command timing dispatch overhead: {}", ex.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Times repeated {@code getTitle} calls on a driver.
+     *
+     * @param driver The WebDriver instance.
+     * @return The time of the calls in nanoseconds.
+     */
+    private static long timeTitleCalls(WebDriver driver) {
+        long start = System.nanoTime();
+        for (int i = 0; i < COMMAND_TIMING_DISPATCH_CALLS; i++) {
+            driver.getTitle();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Writes the report to its default location next to the Cucumber JSON report.
+     */
+    public static void writeReport() {
+        writeReport(ShardPlan.outputPath(COMMAND_TIMING_REPORT));
+    }
+
+    /**
+     * Summarizes histograms per command, sorted by command name.
+     *
+     * @param histograms The histograms keyed by command.
+     * @return The summaries keyed by command.
+     */
+    private static Map<String, Object> summarize(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> summaries = new TreeMap<>();
+        histograms.forEach((command, histogram) -> summaries.put(command, summarize(histogram)));
+        return summaries;
+    }
+
+    /**
+     * Summarizes a histogram.
+     *
+     * @param histogram The histogram.
+     * @return The count, total, mean, percentiles and maximum in microseconds.
+     */
+    private static Map<String, Object> summarize(LatencyHistogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("totalMicros", histogram.getTotalValue());
+        summary.put("meanMicros", Math.round(histogram.getMean()));
+        summary.put("p50Micros", histogram.getValueAtPercentile(50));
+        summary.put("p95Micros", histogram.getValueAtPercentile(95));
+        summary.put("p99Micros", histogram.getValueAtPercentile(99));
+        summary.put("maxMicros", histogram.getMaxValue());
+        return summary;
+    }
+
+    /**
+     * Command attributed to a step and element label.
+     */
+    private record CallSite(String command, String step, String label) {
+    }
+
+    /**
+     * Scenario, step and element label of the current thread, with the histograms of
+     * the scenario.
+     */
+    private static final class ScenarioContext {
+        private String scenario = NO_CONTEXT;
+        private String step = NO_CONTEXT;
+        private String label = NO_CONTEXT;
+        private final Map<String, LatencyHistogram> histograms = new TreeMap<>();
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.qa.ctf.util;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * The ConfigSnapshot class is an immutable, typed view of the framework configuration
+ * at the time it was loaded, combining defaults, the environment file and system
+ * properties.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Layers the configuration so that system properties override the environment
+ *     file, which overrides the defaults.</li>
+ *     <li>Offers typed getters for strings, integers, booleans and durations.</li>
+ *     <li>Provides lock-free lookups with no logging, as the snapshot never changes
+ *     after it is built.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub.InvalidDataException} is thrown when a required key is
+ *   missing or a value cannot be converted to the requested type.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Only system properties whose keys appear in the defaults or the environment file are
+ * captured, so that the snapshot stays small. A changed file or system property is only
+ * seen after {@link FileReader#reloadPropertyFile()}.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * ConfigSnapshot config = FileReader.getConfig();
+ * String baseUrl = config.getString("BaseURL");
+ * int capacity = config.getInt("DriverPoolCapacity", 2);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class ConfigSnapshot {
+
+    // Immutable key-value pairs of the snapshot
+    private final Map<String, String> values;
+
+    // Name of the environment the snapshot was loaded for
+    private final String envType;
+
+    private ConfigSnapshot(Map<String, String> values, String envType) {
+        this.values = Map.copyOf(values);
+        this.envType = envType;
+    }
+
+    /**
+     * Builds a snapshot from the configuration layers.
+     *
+     * @param defaults         The default properties, lowest precedence.
+     * @param envProperties    The properties of the environment file.
+     * @param systemProperties The system properties, highest precedence.
+     * @param envType          The name of the environment.
+     * @return The immutable snapshot.
+     */
+    static ConfigSnapshot of(Properties defaults, Properties envProperties, Properties systemProperties,
+                             String envType) {
+        Map<String, String> layered = new HashMap<>();
+        defaults.stringPropertyNames().forEach(key -> layered.put(key, defaults.getProperty(key).strip()));
+        envProperties.stringPropertyNames().forEach(key -> layered.put(key, envProperties.getProperty(key).strip()));
+        layered.keySet().stream()
+                .filter(systemProperties::containsKey)
+                .toList()
+                .forEach(key -> layered.put(key, systemProperties.getProperty(key).strip()));
+        return new ConfigSnapshot(layered, envType);
+    }
+
+    /**
+     * Retrieves the name of the environment the snapshot was loaded for.
+     *
+     * @return The environment name, e.g. "stage".
+     */
+    public String getEnvType() {
+        return envType;
+    }
+
+    /**
+     * Retrieves an optional value.
+     *
+     * @param key The configuration key.
+     * @return The value, or an empty Optional if the key is not configured.
+     */
+    public Optional<String> find(String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    /**
+     * Retrieves a required string value.
+     *
+     * @param key The configuration key.
+     * @return The value of the key.
+     * @throws ExceptionHub.InvalidDataException If the key is not configured.
+     */
+    public String getString(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new ExceptionHub.InvalidDataException(key, new NullPointerException());
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves a string value, falling back to the given default.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The value of the key, or the default value.
+     */
+    public String getString(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Retrieves an integer value, falling back to the given default.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The value of the key, or the default value.
+     * @throws ExceptionHub.InvalidDataException If the value is not an integer.
+     */
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new ExceptionHub.InvalidDataException(key, ex);
+        }
+    }
+
+    /**
+     * Retrieves a boolean value, where "Yes" and "true" are treated as true.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The value of the key, or the default value.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value.equalsIgnoreCase("Yes") || value.equalsIgnoreCase("true");
+    }
+
+    /**
+     * Retrieves a duration configured in seconds, falling back to the given default.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The value of the key, or the default value.
+     * @throws ExceptionHub.InvalidDataException If the value is not a number of seconds.
+     */
+    public Duration getSeconds(String key, Duration defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value));
+        } catch (NumberFormatException ex) {
+            throw new ExceptionHub.InvalidDataException(key, ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConfigSnapshot[env=%s, keys=%s]", envType, values.keySet());
+    }
+
+}
@@ -4,7 +4,9 @@ import io.restassured.http.Cookies;
 import org.openqa.selenium.Cookie;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class CookieUtil {
 
@@ -27,4 +29,32 @@ public class CookieUtil {
         return seleniumCookieList;
      }
 
+    public List<Map<String, Object>> convertRestAssuredCookieToCdp(Cookies cookies, String url) {
+
+        List<Map<String, Object>> cdpCookieList = new ArrayList<>();
+        for(io.restassured.http.Cookie cookie : cookies.asList()) {
+            Map<String, Object> cdpCookie = new LinkedHashMap<>();
+            cdpCookie.put("name", cookie.getName());
+            cdpCookie.put("value", cookie.getValue());
+            // Host only cookies have no domain and are scoped by the URL instead
+            if (cookie.hasDomain()) {
+                cdpCookie.put("domain", cookie.getDomain());
+            } else {
+                cdpCookie.put("url", url);
+            }
+            cdpCookie.put("path", cookie.hasPath() ? cookie.getPath() : "/");
+            cdpCookie.put("secure", cookie.isSecured());
+            cdpCookie.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.hasSameSite()) {
+                String sameSite = cookie.getSameSite().toLowerCase();
+                cdpCookie.put("sameSite", Character.toUpperCase(sameSite.charAt(0)) + sameSite.substring(1));
+            }
+            if (cookie.hasExpiryDate()) {
+                cdpCookie.put("expires", cookie.getExpiryDate().getTime() / 1000.0);
+            }
+            cdpCookieList.add(cdpCookie);
+        }
+        return cdpCookieList;
+    }
+
 }
@@ -4,6 +4,10 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.Properties;
 
 import com.qa.ctf.constant.TestConstants;
@@ -18,8 +22,9 @@ import static com.qa.ctf.constant.TestConstants.*;
  *
  * <p>Features:
  * <ul>
- *     <li>Load a properties file from a specified path into a {@code Properties}
- *      object.</li>
+ *     <li>Load the configuration once per JVM into an immutable {@link ConfigSnapshot},
+ *      layering system properties over the environment file over the defaults.</li>
+ *     <li>Reload the configuration explicitly for long-running processes.</li>
  *     <li>Retrieve configuration values associated with specific keys from the
  *      properties file.</li>
  *     <li>Handle exceptions related to file reading and key retrieval with custom
@@ -40,82 +45,147 @@ import static com.qa.ctf.constant.TestConstants.*;
  * <p>Note:
  * This class relies on the {@link TestConstants} class for file path and configuration
  * details. Ensure that the correct configuration file path is provided and that the
- * Apache Log4j library is properly set up for logging.
+ * Apache Log4j library is properly set up for logging. A system property only overrides
+ * a key declared in a configuration file, so every framework key is declared in
+ * {@code default.properties}; {@code EnvType} alone is read directly, as it selects the file.
  *
  * <p>Example:
  * <pre>
  * {@code
- * FileReader.loadPropertyFile(); // Load properties file
- * String apiUrl = FileReader.getDataFromPropFile("api.url"); // Get value for key 'api.url'
+ * FileReader.loadPropertyFile(); // Load the configuration once
+ * String apiUrl = FileReader.fetchDataFromPropFile("api.url"); // Get value for key 'api.url'
  * System.out.println(apiUrl);
  * }
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.1
+ * @version 1.4
  */
 public class FileReader {
 
     // Logger instance for the FileReader class to enable logging during execution
     private static final Logger log = LogManager.getLogger(FileReader.class);
 
-    // Properties object to store key-value pairs from a properties file
-    public static Properties properties = new Properties();
+    // Immutable configuration snapshot, loaded once per JVM and replaced as a whole on reload
+    private static volatile ConfigSnapshot snapshot;
 
     /**
-     * Loads the configuration property file into the {@code properties} object.
+     * Loads the configuration once per JVM.
      * <p>
-     * This method attempts to read the configuration file from the specified path and
-     * load its key-value pairs into the {@code properties} object. If the file is not
-     * found or an error occurs during the loading process, it throws a custom exception
-     * with relevant details.
+     * The first call reads the defaults, the configuration file of the environment and
+     * the overriding system properties into an immutable {@link ConfigSnapshot}. Later
+     * calls return immediately, and {@link #getConfig()} calls it on first use. Use
+     * {@link #reloadPropertyFile()} to pick up changes.
      * </p>
      *
      * @throws ExceptionHub.ConfigTypeException If the file is not found or an error
      *                                          occurs while loading it.
      */
     public static void loadPropertyFile() {
-        String envType = System.getProperty(ENV_TYPE, STAGE).toLowerCase();
-        String updatedFilePath = CONFIG_FILE_PATH.replace("$", envType);
-        FileInputStream fileInputStream;
-        try {
-            fileInputStream = new FileInputStream(CWD + updatedFilePath);
-            properties.load(fileInputStream);
-            log.info("The configuration file is loaded!!");
-        } catch (FileNotFoundException ex) {
-            log.error("The configuration file not found on the given path: '{}'", CONFIG_FILE_PATH, ex);
-            throw new ExceptionHub.ConfigTypeException(CONFIG_FILE_PATH, ex);
-        } catch (IOException ex) {
-            log.error("Error occurred while loading the configuration file", ex);
-            throw new ExceptionHub.ConfigTypeException("Error occurred while loading configuration file", ex);
+        if (snapshot == null) {
+            synchronized (FileReader.class) {
+                if (snapshot == null) {
+                    snapshot = readSnapshot();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reloads the configuration, replacing the current snapshot.
+     * <p>
+     * This method is intended for long-running processes whose configuration file or
+     * system properties change while they run. Readers see either the old or the new
+     * snapshot, never a mix of both.
+     * </p>
+     *
+     * @throws ExceptionHub.ConfigTypeException If the file is not found or an error
+     *                                          occurs while loading it.
+     */
+    public static void reloadPropertyFile() {
+        synchronized (FileReader.class) {
+            snapshot = readSnapshot();
+        }
+    }
+
+    /**
+     * Retrieves the configuration snapshot, loading it on first use.
+     *
+     * @return The immutable configuration snapshot.
+     */
+    public static ConfigSnapshot getConfig() {
+        ConfigSnapshot config = snapshot;
+        if (config == null) {
+            loadPropertyFile();
+            config = snapshot;
         }
+        return config;
     }
 
     /**
-     * Retrieves the value associated with the specified key from the property file.
+     * Retrieves the value associated with the specified key from the configuration.
      * <p>
-     * This method fetches the value corresponding to the given key from the loaded configuration
-     * property file. If the key or its value is not present, it logs an error and throws a custom
-     * exception. The fetched value is stripped of leading and trailing spaces before being returned.
+     * This method fetches the value corresponding to the given key from the configuration
+     * snapshot. If the key or its value is not present, it logs an error and throws a custom
+     * exception. The values are stripped of leading and trailing spaces when loaded.
      * </p>
      *
-     * @param key The key to search for in the property file.
+     * @param key The key to search for in the configuration.
      * @return The stripped value associated with the key, or {@code null} if the key is not provided.
-     * @throws ExceptionHub.InvalidDataException If the key is not found in the property file.
+     * @throws ExceptionHub.InvalidDataException If the key is not found in the configuration.
      */
     public static String fetchDataFromPropFile(String key) {
-        String data = null;
-        if (key != null) {
-            data = properties.getProperty(key);
-            if (data != null) {
-                data = data.strip();
-                log.info("The '{}' data fetched from the configuration file", data);
-            } else {
-                log.error("The key '{}' is not present in the configuration file", key);
-                throw new ExceptionHub.InvalidDataException(key, new NullPointerException());
-            }
+        if (key == null) {
+            return null;
+        }
+        Optional<String> data = getConfig().find(key);
+        if (data.isEmpty()) {
+            log.error("The key '{}' is not present in the configuration file", key);
+            throw new ExceptionHub.InvalidDataException(key, new NullPointerException());
+        }
+        return data.get();
+    }
+
+    /**
+     * Reads the configuration layers into a new snapshot.
+     *
+     * @return The configuration snapshot.
+     * @throws ExceptionHub.ConfigTypeException If the file is not found or an error
+     *                                          occurs while loading it.
+     */
+    private static ConfigSnapshot readSnapshot() {
+        String envType = System.getProperty(ENV_TYPE, STAGE).toLowerCase();
+        Properties defaults = new Properties();
+        Path defaultsPath = Paths.get(CWD + DEFAULT_CONFIG_FILE_PATH);
+        if (Files.exists(defaultsPath)) {
+            defaults = readProperties(defaultsPath.toString());
+        }
+        Properties envProperties = readProperties(CWD + CONFIG_FILE_PATH.replace("$", envType));
+        ConfigSnapshot config = ConfigSnapshot.of(defaults, envProperties, System.getProperties(), envType);
+        log.info("The configuration file is loaded!! {}", config);
+        return config;
+    }
+
+    /**
+     * Reads a properties file, closing it afterwards.
+     *
+     * @param filePath The absolute path of the properties file.
+     * @return The properties read from the file.
+     * @throws ExceptionHub.ConfigTypeException If the file is not found or an error
+     *                                          occurs while loading it.
+     */
+    private static Properties readProperties(String filePath) {
+        try (FileInputStream fileInputStream = new FileInputStream(filePath)) {
+            Properties properties = new Properties();
+            properties.load(fileInputStream);
+            return properties;
+        } catch (FileNotFoundException ex) {
+            log.error("The configuration file not found on the given path: '{}'", filePath, ex);
+            throw new ExceptionHub.ConfigTypeException(filePath, ex);
+        } catch (IOException ex) {
+            log.error("Error occurred while loading the configuration file", ex);
+            throw new ExceptionHub.ConfigTypeException("Error occurred while loading configuration file", ex);
         }
-        return data;
     }
 
 }
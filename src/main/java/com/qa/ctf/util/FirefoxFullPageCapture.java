@@ -0,0 +1,78 @@
+package com.qa.ctf.util;
+
+import com.qa.ctf.constant.FullPageStrategy;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.firefox.HasFullPageScreenshot;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * The FirefoxFullPageCapture class captures the whole scrollable page with the native
+ * full page screenshot API of Firefox.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Uses {@link HasFullPageScreenshot} of local Firefox drivers.</li>
+ *     <li>Augments remote Firefox drivers to reach the same API on a grid.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Driver failures are thrown as they are, so that {@link FullPageScreenshot}
+ *   can fall back to another strategy.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Only Firefox is supported.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * byte[] screenshot = new FirefoxFullPageCapture().capture(driver);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public class FirefoxFullPageCapture implements FullPageCapture {
+
+    @Override
+    public FullPageStrategy getStrategy() {
+        return FullPageStrategy.FIREFOX;
+    }
+
+    @Override
+    public boolean supports(WebDriver driver) {
+        return asFullPageScreenshot(driver) != null;
+    }
+
+    @Override
+    public byte[] capture(WebDriver driver) {
+        HasFullPageScreenshot firefox = asFullPageScreenshot(driver);
+        if (firefox == null) {
+            throw new ExceptionHub.ScreenshotException("Full page screenshots are not supported by the browser.");
+        }
+        return firefox.getFullPageScreenshotAs(OutputType.BYTES);
+    }
+
+    /**
+     * Resolves the full page screenshot API of the driver.
+     *
+     * @param driver The undecorated WebDriver instance.
+     * @return The driver as {@link HasFullPageScreenshot}, or null if it is not a Firefox driver.
+     */
+    private static HasFullPageScreenshot asFullPageScreenshot(WebDriver driver) {
+        if (driver instanceof HasFullPageScreenshot firefox) {
+            return firefox;
+        }
+        if (driver instanceof RemoteWebDriver remote
+                && "firefox".equalsIgnoreCase(remote.getCapabilities().getBrowserName())
+                && new Augmenter().augment(remote) instanceof HasFullPageScreenshot firefox) {
+            return firefox;
+        }
+        return null;
+    }
+
+}
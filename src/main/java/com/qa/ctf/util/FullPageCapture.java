@@ -0,0 +1,37 @@
+package com.qa.ctf.util;
+
+import com.qa.ctf.constant.FullPageStrategy;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Interface for the strategies capturing a screenshot of the whole scrollable page.
+ * Implementations are selected and timed by {@link FullPageScreenshot}.
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public interface FullPageCapture {
+
+    /**
+     * Retrieves the strategy implemented by this capture.
+     *
+     * @return the {@link FullPageStrategy} of this capture
+     */
+    FullPageStrategy getStrategy();
+
+    /**
+     * Checks whether this capture can be used with the given driver.
+     *
+     * @param driver the undecorated {@link WebDriver} instance
+     * @return true if the browser supports this capture
+     */
+    boolean supports(WebDriver driver);
+
+    /**
+     * Captures the whole scrollable page.
+     *
+     * @param driver the undecorated {@link WebDriver} instance
+     * @return the PNG bytes of the screenshot
+     */
+    byte[] capture(WebDriver driver);
+}
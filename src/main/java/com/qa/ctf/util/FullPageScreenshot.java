@@ -0,0 +1,184 @@
+package com.qa.ctf.util;
+
+import com.qa.ctf.constant.FullPageStrategy;
+import com.qa.ctf.factory.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The FullPageScreenshot class captures the whole scrollable page with the fastest
+ * {@link FullPageCapture} strategy the browser supports and reports the time and
+ * memory each strategy costs.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Prefers the native captures of the browser, {@link CdpFullPageCapture} for
+ *     Chromium and {@link FirefoxFullPageCapture} for Firefox, and falls back to the
+ *     {@link StitchedFullPageCapture} when they are unsupported or fail.</li>
+ *     <li>Accepts additional strategies through {@link #register(FullPageCapture)},
+ *     tried before the built-in ones.</li>
+ *     <li>Records the duration, the heap allocated by the capturing thread and the
+ *     image size of every capture per strategy, and registers the report with the
+ *     {@link PerfReportWriter}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub.ScreenshotException} is thrown when no strategy could
+ *   capture the page, with the failure of the last strategy tried as its cause.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The strategy can be forced with the system property {@code FullPageStrategy} set to
+ * "Cdp", "Firefox" or "Stitch"; the stitcher stays the fallback of a forced native
+ * strategy. The report is written to {@code target/perf/full-page-screenshots.txt}.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * byte[] screenshot = FullPageScreenshot.capture(driver);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.2
+ */
+public final class FullPageScreenshot {
+
+    // Logger instance for the FullPageScreenshot class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(FullPageScreenshot.class);
+
+    // Strategies in order of preference, the stitcher last
+    private static final List<FullPageCapture> captures = new CopyOnWriteArrayList<>(List.of(
+            new CdpFullPageCapture(), new FirefoxFullPageCapture(), new StitchedFullPageCapture()));
+
+    // Time and memory recorded per strategy
+    private static final Map<FullPageStrategy, CaptureStats> stats = new ConcurrentHashMap<>();
+
+    // Thread bean measuring the heap allocated by the capturing thread, if the JVM supports it
+    private static final com.sun.management.ThreadMXBean threadBean =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() ? bean : null;
+
+    static {
+        PerfReportWriter.register(FULL_PAGE_REPORT_FILE_NAME, FullPageScreenshot::getReportLines);
+    }
+
+    private FullPageScreenshot() {
+    }
+
+    /**
+     * Registers an additional strategy, tried before the built-in strategies.
+     *
+     * @param capture The full page capture strategy.
+     */
+    public static void register(FullPageCapture capture) {
+        captures.add(0, capture);
+    }
+
+    /**
+     * Captures the whole scrollable page of the given driver.
+     *
+     * @param driver The WebDriver instance, possibly decorated.
+     * @return The PNG bytes of the screenshot.
+     * @throws ExceptionHub.ScreenshotException If no strategy could capture the page.
+     */
+    public static byte[] capture(WebDriver driver) {
+        WebDriver target = DriverFactory.unwrapDriver(driver);
+        FullPageStrategy requested = FullPageStrategy.from(
+                FileReader.getConfig().getString(FULL_PAGE_STRATEGY, FullPageStrategy.AUTO.getStrategy()));
+        RuntimeException lastFailure = null;
+        for (FullPageCapture capture : captures) {
+            FullPageStrategy strategy = capture.getStrategy();
+            if (requested != FullPageStrategy.AUTO && strategy != requested && strategy != FullPageStrategy.STITCH) {
+                continue;
+            }
+            if (!capture.supports(target)) {
+                continue;
+            }
+            CaptureStats captureStats = stats.computeIfAbsent(strategy, key -> new CaptureStats());
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            try {
+                byte[] screenshot = capture.capture(target);
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                long allocated = allocatedBytes() - allocatedBefore;
+                captureStats.record(millis, allocated, screenshot.length);
+                log.info("Full page screenshot captured with '{}' in '{}' ms, '{}' KB allocated",
+                        strategy.getStrategy(), millis, allocated / 1024);
+                return screenshot;
+            } catch (RuntimeException ex) {
+                captureStats.failures.increment();
+                log.warn("Full page screenshot with '{}' failed: {}", strategy.getStrategy(), ex.getMessage());
+                lastFailure = ex;
+            }
+        }
+        throw new ExceptionHub.ScreenshotException("No full page screenshot strategy could capture the page", lastFailure);
+    }
+
+    /**
+     * Retrieves the heap allocated by the current thread so far.
+     *
+     * @return The allocated bytes, or 0 if the JVM does not measure them.
+     */
+    private static long allocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Builds the time and memory report of the strategies used during the run.
+     *
+     * @return The report lines, or an empty list if no full page screenshot was captured.
+     */
+    private static List<String> getReportLines() {
+        if (stats.isEmpty()) {
+            return List.of();
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("strategy | captures | failures | mean ms | max ms | mean allocated KB | max allocated KB | mean image KB");
+        stats.forEach((strategy, captureStats) -> {
+            long count = Math.max(1, captureStats.count.sum());
+            lines.add(String.format("%s | %d | %d | %d | %d | %d | %d | %d", strategy.getStrategy(),
+                    captureStats.count.sum(), captureStats.failures.sum(),
+                    captureStats.millis.sum() / count, captureStats.maxMillis.get(),
+                    captureStats.allocated.sum() / count / 1024, captureStats.maxAllocated.get() / 1024,
+                    captureStats.imageBytes.sum() / count / 1024));
+        });
+        return lines;
+    }
+
+    /**
+     * Time, memory and image size of the captures of one strategy.
+     */
+    private static final class CaptureStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder millis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private final LongAdder allocated = new LongAdder();
+        private final LongAccumulator maxAllocated = new LongAccumulator(Math::max, 0);
+        private final LongAdder imageBytes = new LongAdder();
+
+        private void record(long captureMillis, long allocatedBytes, long imageSize) {
+            count.increment();
+            millis.add(captureMillis);
+            maxMillis.accumulate(captureMillis);
+            allocated.add(allocatedBytes);
+            maxAllocated.accumulate(allocatedBytes);
+            imageBytes.add(imageSize);
+        }
+    }
+
+}
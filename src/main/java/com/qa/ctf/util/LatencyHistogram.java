@@ -0,0 +1,172 @@
+package com.qa.ctf.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * The LatencyHistogram class is a compact, thread-safe log-linear histogram of
+ * latencies in microseconds, in the style of an HDR histogram.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Records values exactly below 64 microseconds and with a relative error
+ *     below about 3% above, using a fixed array of counters.</li>
+ *     <li>Records from many threads without locking.</li>
+ *     <li>Reports the count, mean, maximum and any percentile of the recorded
+ *     values.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link IllegalArgumentException} is thrown for percentiles outside 0 to 100.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Percentiles are reported as the highest value equivalent to the bucket they fall
+ * in, so they never understate a latency. Negative values are recorded as zero.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.recordValue(1250);
+ * long p95 = histogram.getValueAtPercentile(95.0);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    // Number of buckets per power of two above the linear range
+    private static final int SUB_BUCKETS = 32;
+
+    // Values below this limit are recorded in their own bucket
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+
+    // Number of buckets needed to cover every positive long value
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - 6) * SUB_BUCKETS;
+
+    // Count of recorded values per bucket
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    // Total number of recorded values
+    private final AtomicLong totalCount = new AtomicLong();
+
+    // Sum of the recorded values
+    private final AtomicLong totalValue = new AtomicLong();
+
+    // Largest recorded value
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency.
+     *
+     * @param micros The latency in microseconds.
+     */
+    public void recordValue(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(bucketOf(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+        maxValue.accumulate(value);
+    }
+
+    /**
+     * Adds the values recorded by another histogram to this histogram.
+     *
+     * @param other The histogram to add.
+     */
+    public void add(LatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            long count = other.counts.get(bucket);
+            if (count > 0) {
+                counts.addAndGet(bucket, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalValue.addAndGet(other.totalValue.get());
+        maxValue.accumulate(other.maxValue.get());
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getTotalValue() {
+        return totalValue.get();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * Retrieves the mean of the recorded values.
+     *
+     * @return The mean in microseconds, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * Retrieves the value below which the given percentage of the recorded values fall.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The value at the percentile in microseconds, or 0 if nothing was recorded.
+     * @throws IllegalArgumentException If the percentile is outside 0 to 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(bucket), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    /**
+     * Finds the bucket of a value.
+     *
+     * @param value The non-negative value.
+     * @return The index of the bucket.
+     */
+    private static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 5;
+        int top = (int) (value >>> shift);
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (top - SUB_BUCKETS);
+    }
+
+    /**
+     * Finds the highest value recorded in a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The highest value of the bucket.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long top = (bucket - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The NetworkMonitor class tracks the in-flight network requests of a browser by
+ * listening to the DevTools network events of a {@link CdpSession}.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Counts requests between {@code Network.requestWillBeSent} and
+ *     {@code Network.loadingFinished} or {@code Network.loadingFailed}.</li>
+ *     <li>Records the time of the last network activity so that callers can wait
+ *     for a quiet window.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Events that cannot be parsed are ignored, as a missed event only makes the
+ *   network idle wait more conservative.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The monitor only sees requests issued after it is attached, which is why it is
+ * attached as soon as a scenario obtains its WebDriver.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * NetworkMonitor monitor = CdpSession.of(driver).orElseThrow().getNetworkMonitor();
+ * boolean idle = monitor.isIdle(500, 0);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public class NetworkMonitor {
+
+    // Logger instance for the NetworkMonitor class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(NetworkMonitor.class);
+
+    // Identifiers of the requests that have been sent but not yet finished or failed
+    private final Set<String> inflightRequests = ConcurrentHashMap.newKeySet();
+
+    // Time of the last request or response event, in System.nanoTime() units
+    private volatile long lastActivity = System.nanoTime();
+
+    /**
+     * Constructs a NetworkMonitor and subscribes it to the network events of the session.
+     *
+     * @param cdpSession The DevTools session to listen to.
+     */
+    NetworkMonitor(CdpSession cdpSession) {
+        DevTools devTools = cdpSession.getDevTools();
+        cdpSession.send("Network.enable", Map.of());
+        devTools.addListener(new Event<>("Network.requestWillBeSent", NetworkMonitor::readRequestId), requestId -> {
+            inflightRequests.add(requestId);
+            lastActivity = System.nanoTime();
+        });
+        devTools.addListener(new Event<>("Network.loadingFinished", NetworkMonitor::readRequestId), this::complete);
+        devTools.addListener(new Event<>("Network.loadingFailed", NetworkMonitor::readRequestId), this::complete);
+        log.info("Network monitor attached to the DevTools session.");
+    }
+
+    /**
+     * Retrieves the number of requests that are still in flight.
+     *
+     * @return The in-flight request count.
+     */
+    public int getInflightCount() {
+        return inflightRequests.size();
+    }
+
+    /**
+     * Retrieves the time elapsed since the last network activity.
+     *
+     * @return The milliseconds since a request was last sent, finished or failed.
+     */
+    public long getQuietMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastActivity);
+    }
+
+    /**
+     * Checks whether the network has been quiet for long enough.
+     *
+     * @param quietMillis The minimum milliseconds without network activity.
+     * @param maxInflight The maximum number of requests allowed to remain in flight,
+     *                    e.g. long polling or analytics beacons.
+     * @return true if the network is considered idle.
+     */
+    public boolean isIdle(long quietMillis, int maxInflight) {
+        return getInflightCount() <= maxInflight && getQuietMillis() >= quietMillis;
+    }
+
+    /**
+     * Marks a request as finished or failed.
+     *
+     * @param requestId The identifier of the request.
+     */
+    private void complete(String requestId) {
+        inflightRequests.remove(requestId);
+        lastActivity = System.nanoTime();
+    }
+
+    /**
+     * Reads the request identifier from the parameters of a network event.
+     *
+     * @param input The JSON input of the event parameters.
+     * @return The request identifier.
+     */
+    private static String readRequestId(JsonInput input) {
+        Map<String, Object> params = input.read(Json.MAP_TYPE);
+        return String.valueOf(params.get("requestId"));
+    }
+
+}
@@ -41,7 +41,7 @@ public class Old_ExcelReaderUtility {
 			log.info("The extraction of data from excel sheet has end");
 			workbook.close();
 		} catch (Exception ex) {
-			log.info("Error occurred while read data from excel sheet" + "\n" + ex);
+			log.error("Error occurred while read data from excel sheet", ex);
 			Assert.fail();
 		}
 		return dataSet;
@@ -0,0 +1,100 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The PerfReportWriter class collects the performance reports of the framework components
+ * and writes them once, when the suite finishes.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Lets each component register the lines of its report under a file name.</li>
+ *     <li>Writes every non-empty report to the performance report folder of the current shard.</li>
+ *     <li>Is written once by the {@code SuiteLifecycleListener} when the suite finishes,
+ *     instead of one JVM shutdown hook per component.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Failures while building or writing a report are logged and never fail the test run
+ *   or the remaining reports.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Registering the same file name again replaces the previous report. The reports are
+ * written in file name order by {@code SuiteLifecycleListener.onFinish}, after the
+ * browser sessions are shut down so their statistics are complete.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * PerfReportWriter.register(SLEEP_REPORT_FILE_NAME, SleepLedger::getReportLines);
+ * PerfReportWriter.writeAll();
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public class PerfReportWriter {
+
+    // Logger instance for the PerfReportWriter class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(PerfReportWriter.class);
+
+    // Report line suppliers of the registered components, keyed by report file name
+    private static final Map<String, Supplier<List<String>>> reports = new ConcurrentSkipListMap<>();
+
+    private PerfReportWriter() {
+    }
+
+    /**
+     * Registers the report of a component.
+     *
+     * @param fileName The file name of the report inside the performance report folder.
+     * @param report   The supplier of the report lines, returning an empty list when there is nothing to report.
+     */
+    public static void register(String fileName, Supplier<List<String>> report) {
+        reports.put(fileName, report);
+    }
+
+    /**
+     * Writes every registered report that has lines to report.
+     */
+    public static void writeAll() {
+        reports.forEach(PerfReportWriter::write);
+    }
+
+    /**
+     * Writes one report, skipping it when it has no lines.
+     *
+     * @param fileName The file name of the report.
+     * @param report   The supplier of the report lines.
+     */
+    private static void write(String fileName, Supplier<List<String>> report) {
+        Path reportPath = ShardPlan.outputPath(PERF_REPORT_PATH + fileName);
+        try {
+            List<String> lines = report.get();
+            if (lines.isEmpty()) {
+                return;
+            }
+            Files.createDirectories(reportPath.getParent());
+            Files.write(reportPath, lines, StandardCharsets.UTF_8);
+            log.info("Performance report written to '{}'", reportPath);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to write the performance report '{}': {}", fileName, ex.getMessage());
+        }
+    }
+
+}
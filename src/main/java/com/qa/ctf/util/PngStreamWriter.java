@@ -0,0 +1,222 @@
+package com.qa.ctf.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * The PngStreamWriter class encodes a PNG image row by row, so that large images can be
+ * written without holding the whole bitmap in memory.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Writes 8 bit RGB images, one row of ARGB pixels at a time.</li>
+ *     <li>Applies the PNG Sub filter to each row and compresses the rows as they
+ *     arrive, emitting bounded IDAT chunks.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link IllegalStateException} is thrown when more rows than the image height
+ *   are written, or the writer is closed before all rows are written.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Only the compressed image and one row are held in memory. The alpha channel is
+ * dropped, as browser screenshots are opaque.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * try (PngStreamWriter png = new PngStreamWriter(outputStream, width, height)) {
+ *     png.writeRow(rowPixels);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public class PngStreamWriter implements Closeable {
+
+    // Signature every PNG file starts with
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+
+    // Maximum size of the data of one IDAT chunk
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    // Stream the chunks are written to
+    private final DataOutputStream out;
+
+    // Width of the image in pixels
+    private final int width;
+
+    // Height of the image in pixels
+    private final int height;
+
+    // Compressor of the filtered rows, feeding the IDAT chunks
+    private final DeflaterOutputStream idat;
+
+    // Deflater of the compressor, released on close
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    // Filter type and filtered RGB bytes of the current row
+    private final byte[] row;
+
+    // Number of rows written so far
+    private int rowCount;
+
+    /**
+     * Starts a PNG image and writes its header.
+     *
+     * @param out    The stream the image is written to.
+     * @param width  The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     * @throws IOException If the header cannot be written.
+     */
+    public PngStreamWriter(OutputStream out, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid image size " + width + "x" + height);
+        }
+        this.out = new DataOutputStream(out);
+        this.width = width;
+        this.height = height;
+        this.row = new byte[1 + width * 3];
+        this.out.write(SIGNATURE);
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerData = new DataOutputStream(header);
+        headerData.writeInt(width);
+        headerData.writeInt(height);
+        headerData.write(new byte[]{8, 2, 0, 0, 0});
+        writeChunk("IHDR", header.toByteArray(), header.size());
+        this.idat = new DeflaterOutputStream(new IdatStream(), deflater, CHUNK_SIZE);
+    }
+
+    /**
+     * Retrieves the number of rows written so far.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the next row of the image.
+     *
+     * @param pixels The ARGB pixels, at least as many as the image width.
+     * @throws IOException If the row cannot be written.
+     */
+    public void writeRow(int[] pixels) throws IOException {
+        if (rowCount >= height) {
+            throw new IllegalStateException("All " + height + " rows are already written");
+        }
+        row[0] = 1;
+        int previousRed = 0;
+        int previousGreen = 0;
+        int previousBlue = 0;
+        for (int pixel = 0, index = 1; pixel < width; pixel++) {
+            int red = (pixels[pixel] >> 16) & 0xFF;
+            int green = (pixels[pixel] >> 8) & 0xFF;
+            int blue = pixels[pixel] & 0xFF;
+            row[index++] = (byte) (red - previousRed);
+            row[index++] = (byte) (green - previousGreen);
+            row[index++] = (byte) (blue - previousBlue);
+            previousRed = red;
+            previousGreen = green;
+            previousBlue = blue;
+        }
+        idat.write(row);
+        rowCount++;
+    }
+
+    /**
+     * Finishes the image and writes its trailer. The underlying stream is not closed.
+     *
+     * @throws IOException If the image cannot be finished.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rowCount != height) {
+                throw new IllegalStateException("Only " + rowCount + " of " + height + " rows were written");
+            }
+            idat.finish();
+            idat.flush();
+            writeChunk("IEND", new byte[0], 0);
+            out.flush();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes a PNG chunk with its length and checksum.
+     *
+     * @param type   The chunk type.
+     * @param data   The chunk data.
+     * @param length The number of data bytes to write.
+     * @throws IOException If the chunk cannot be written.
+     */
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Stream wrapping the compressed bytes into IDAT chunks.
+     */
+    private final class IdatStream extends OutputStream {
+
+        // Compressed bytes of the chunk being filled
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+
+        // Number of bytes in the buffer
+        private int size;
+
+        @Override
+        public void write(int value) throws IOException {
+            write(new byte[]{(byte) value}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, CHUNK_SIZE - size);
+                System.arraycopy(data, offset, buffer, size, count);
+                size += count;
+                offset += count;
+                length -= count;
+                if (size == CHUNK_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (size > 0) {
+                writeChunk("IDAT", buffer, size);
+                size = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,371 @@
+package com.qa.ctf.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ReplayServer class is an embedded HTTP stand-in for the storefront, recording
+ * the pages and API responses of a live run and replaying them without network access.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>In record mode, forwards every request to the live site and stores the
+ *     exchange in a {@link ReplayStore}.</li>
+ *     <li>In replay mode, serves the recorded exchanges from memory.</li>
+ *     <li>Rewrites the absolute links of the site, redirects and cookies to the local
+ *     server, so that the browser stays on the stand-in.</li>
+ *     <li>Can be started by the suite from the configuration or on its own with
+ *     {@link #main(String[])}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub} is thrown when the server cannot be started.</li>
+ *   <li>Requests that were not recorded get a 404 response, and failures of the live
+ *   site a 502 response; both are logged.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The {@code replay} environment points {@code BaseURL} at the server. Record once with
+ * {@code -DEnvType=replay -DReplayMode=Record}, then run with {@code -DEnvType=replay}.
+ * The recording is kept in {@code src/test/resources/replay/<host>}. Resources of other
+ * hosts, such as fonts or analytics, are not recorded. The browser must run on the same
+ * machine as the server.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * ReplayServer.startIfConfigured();
+ * // run the scenarios against http://localhost:8089/
+ * ReplayServer.stopServer();
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public final class ReplayServer {
+
+    // Logger instance for the ReplayServer class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ReplayServer.class);
+
+    // Response headers that are recomputed by the server or do not apply to the stand-in
+    private static final Set<String> SKIPPED_HEADERS = Set.of("connection", "content-length", "content-encoding",
+            "transfer-encoding", "keep-alive", "strict-transport-security", "alt-svc", "date");
+
+    // Request headers the HTTP client sets itself or that must not be forwarded
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade", "accept-encoding");
+
+    // Server started by the suite, if any
+    private static ReplayServer instance;
+
+    // Whether the exchanges are recorded from the live site or replayed
+    private final boolean recording;
+
+    // Origin of the live site, e.g. https://askomdch.com
+    private final String upstreamOrigin;
+
+    // Origin of the local server, e.g. http://localhost:8089
+    private final String localOrigin;
+
+    // Recorded exchanges
+    private final ReplayStore store;
+
+    // Client forwarding the requests to the live site in record mode
+    private final HttpClient client;
+
+    // Embedded HTTP server and its request threads
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    static {
+        // Send the headers and the body of a response without waiting for an acknowledgement;
+        // read once by the JDK when its first HTTP server is created
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private ReplayServer(boolean recording, URI upstream, int port, Path directory) throws IOException {
+        this.recording = recording;
+        this.upstreamOrigin = upstream.getScheme() + "://" + upstream.getAuthority();
+        this.store = recording ? ReplayStore.create(directory) : ReplayStore.load(directory);
+        this.client = recording
+                ? HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NEVER).version(HttpClient.Version.HTTP_1_1).build()
+                : null;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.localOrigin = "http://localhost:" + server.getAddress().getPort();
+        this.executor = Executors.newFixedThreadPool(REPLAY_SERVER_THREADS);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts the server in the mode configured by {@code ReplayMode}, if any.
+     * <p>
+     * When the port is already in use, for example by the server of another shard or
+     * one started with {@link #main(String[])}, that server is used instead.
+     * </p>
+     *
+     * @return The started server, or an empty Optional if replay is not configured or
+     * another server already listens on the port.
+     * @throws ExceptionHub If the server cannot be started.
+     */
+    public static synchronized Optional<ReplayServer> startIfConfigured() {
+        ConfigSnapshot config = FileReader.getConfig();
+        String mode = config.getString(REPLAY_MODE, "");
+        if (!mode.equalsIgnoreCase(REPLAY_RECORD) && !mode.equalsIgnoreCase(REPLAY_REPLAY)) {
+            return Optional.empty();
+        }
+        if (instance == null) {
+            URI upstream = URI.create(config.getString(REPLAY_UPSTREAM));
+            try {
+                instance = start(mode.equalsIgnoreCase(REPLAY_RECORD), upstream,
+                        config.getInt(REPLAY_PORT, DEFAULT_REPLAY_PORT),
+                        Paths.get(CWD + REPLAY_PATH + upstream.getHost()));
+            } catch (ExceptionHub ex) {
+                if (!(ex.getCause() instanceof BindException)) {
+                    throw ex;
+                }
+                log.info("Replay port is in use, using the replay server already running on it");
+                return Optional.empty();
+            }
+        }
+        return Optional.of(instance);
+    }
+
+    /**
+     * Starts a server.
+     *
+     * @param recording true to record from the live site, false to replay the recording.
+     * @param upstream  The URL of the live site.
+     * @param port      The local port, 0 for any free port.
+     * @param directory The folder of the recording.
+     * @return The started server.
+     * @throws ExceptionHub If the server cannot be started.
+     */
+    public static ReplayServer start(boolean recording, URI upstream, int port, Path directory) {
+        try {
+            ReplayServer replayServer = new ReplayServer(recording, upstream, port, directory);
+            replayServer.server.start();
+            log.info("Replay server {} '{}' on '{}'", recording ? "recording" : "replaying",
+                    replayServer.upstreamOrigin, replayServer.localOrigin);
+            return replayServer;
+        } catch (IOException ex) {
+            log.error("Failed to start the replay server: {}", ex.getMessage(), ex);
+            throw new ExceptionHub("Failed to start the replay server on port " + port, ex);
+        }
+    }
+
+    /**
+     * Stops the server started by the suite, if any.
+     */
+    public static synchronized void stopServer() {
+        if (instance != null) {
+            instance.stop();
+            instance = null;
+        }
+    }
+
+    /**
+     * Runs a server until a line is entered on the standard input or the input is closed.
+     * <p>
+     * Every exchange is saved as soon as it is recorded, so stopping the JVM instead
+     * loses no recording.
+     * </p>
+     *
+     * @param args The mode ("Record" or "Replay"), the URL of the live site and optionally the port.
+     */
+    public static void main(String[] args) {
+        URI upstream = URI.create(args[1]);
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REPLAY_PORT;
+        ReplayServer replayServer = start(args[0].equalsIgnoreCase(REPLAY_RECORD), upstream, port,
+                Paths.get(CWD + REPLAY_PATH + upstream.getHost()));
+        log.info("Replay server running on '{}', press Enter to stop it", replayServer.getBaseUrl());
+        try {
+            System.in.read();
+        } catch (IOException ex) {
+            log.warn("Failed to read the standard input: {}", ex.getMessage());
+        } finally {
+            replayServer.stop();
+        }
+    }
+
+    /**
+     * Retrieves the base URL of the server.
+     *
+     * @return The URL of the local server, ending with '/'.
+     */
+    public String getBaseUrl() {
+        return localOrigin + "/";
+    }
+
+    /**
+     * Stops the server and its request threads.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        log.info("Replay server on '{}' stopped", localOrigin);
+    }
+
+    /**
+     * Serves one request, from the live site in record mode or from the recording.
+     *
+     * @param http The HTTP exchange of the request.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handle(HttpExchange http) throws IOException {
+        try (http) {
+            byte[] requestBody = http.getRequestBody().readAllBytes();
+            String method = http.getRequestMethod();
+            String uri = http.getRequestURI().toString();
+            ReplayStore.Exchange exchange;
+            if (recording) {
+                try {
+                    exchange = forward(http, method, uri, requestBody);
+                    store.save(exchange);
+                } catch (IOException | InterruptedException ex) {
+                    log.warn("Failed to record '{} {}': {}", method, uri, ex.getMessage());
+                    sendText(http, 502, "Live site unavailable: " + ex.getMessage());
+                    return;
+                }
+            } else {
+                Optional<ReplayStore.Exchange> recorded = store.find(method, uri, ReplayStore.bodyHash(requestBody));
+                if (recorded.isEmpty()) {
+                    log.warn("No recorded response for '{} {}'", method, uri);
+                    sendText(http, 404, "Not recorded: " + method + " " + uri);
+                    return;
+                }
+                exchange = recorded.get();
+            }
+            send(http, exchange);
+        }
+    }
+
+    /**
+     * Forwards a request to the live site.
+     *
+     * @param http        The HTTP exchange of the request.
+     * @param method      The request method.
+     * @param uri         The request path and query.
+     * @param requestBody The request body.
+     * @return The exchange with the response of the live site.
+     * @throws IOException          If the live site cannot be reached.
+     * @throws InterruptedException If the thread is interrupted while waiting for the response.
+     */
+    private ReplayStore.Exchange forward(HttpExchange http, String method, String uri, byte[] requestBody)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upstreamOrigin + uri))
+                .method(method, requestBody.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        http.getRequestHeaders().forEach((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                values.forEach(value -> request.header(name, value.replace(localOrigin, upstreamOrigin)));
+            }
+        });
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":")) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        return new ReplayStore.Exchange(method, uri, ReplayStore.bodyHash(requestBody), response.statusCode(),
+                headers, response.body());
+    }
+
+    /**
+     * Sends a recorded response, pointing its links, redirects and cookies to the local server.
+     *
+     * @param http     The HTTP exchange of the request.
+     * @param exchange The recorded exchange.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void send(HttpExchange http, ReplayStore.Exchange exchange) throws IOException {
+        boolean text = false;
+        for (Map.Entry<String, List<String>> header : exchange.headers().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (SKIPPED_HEADERS.contains(name)) {
+                continue;
+            }
+            List<String> values = new ArrayList<>();
+            for (String value : header.getValue()) {
+                values.add(switch (name) {
+                    case "location" -> rewrite(value);
+                    case "set-cookie" -> value.replaceAll("(?i);\\s*(domain=[^;]*|secure)", "")
+                            .replaceAll("(?i)samesite=none", "SameSite=Lax");
+                    default -> value;
+                });
+            }
+            if (name.equals("content-type")) {
+                String contentType = values.get(0).toLowerCase(Locale.ROOT);
+                text = contentType.startsWith("text/") || contentType.contains("json")
+                        || contentType.contains("javascript") || contentType.contains("xml");
+            }
+            http.getResponseHeaders().put(header.getKey(), values);
+        }
+        byte[] body = text
+                ? rewrite(new String(exchange.body(), StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8)
+                : exchange.body();
+        boolean noBody = body.length == 0 || http.getRequestMethod().equalsIgnoreCase("HEAD")
+                || exchange.status() == 204 || exchange.status() == 304;
+        http.sendResponseHeaders(exchange.status(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = http.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Points the absolute links of the live site to the local server.
+     *
+     * @param content The text of a page, script, style sheet or header.
+     * @return The rewritten text.
+     */
+    private String rewrite(String content) {
+        String host = upstreamOrigin.substring(upstreamOrigin.indexOf("://") + 3);
+        return content
+                .replace("https://" + host, localOrigin)
+                .replace("http://" + host, localOrigin)
+                .replace("https:\\/\\/" + host, localOrigin.replace("/", "\\/"))
+                .replace("http:\\/\\/" + host, localOrigin.replace("/", "\\/"))
+                .replace("//" + host, localOrigin);
+    }
+
+    private static void sendText(HttpExchange http, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        http.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        http.sendResponseHeaders(status, body.length);
+        try (OutputStream out = http.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * The ReplayStore class keeps the HTTP exchanges recorded by {@link ReplayServer} on
+ * disk and looks them up for replay.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Stores each exchange as a JSON file with the request line, the status and the
+ *     headers, next to a file with the raw response body.</li>
+ *     <li>Matches a request by method, path, query and a hash of the request body, then
+ *     by method, path and query, then by method and path alone, so that changing form
+ *     data or query values such as nonces still replay.</li>
+ *     <li>Loads all exchanges into memory once, so that replay never reads the disk.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub} is thrown when the recording cannot be read; failures while
+ *   saving an exchange are logged and never fail the recording run.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The file names are derived from the request key, so recording the same request again
+ * replaces the previous exchange.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * ReplayStore store = ReplayStore.load(Paths.get("src/test/resources/replay/askomdch.com"));
+ * Optional<ReplayStore.Exchange> exchange = store.find("GET", "/store", "");
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+final class ReplayStore {
+
+    // Logger instance for the ReplayStore class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ReplayStore.class);
+
+    // Extension of the files holding the exchange metadata
+    private static final String META_EXTENSION = ".json";
+
+    // Extension of the files holding the response bodies
+    private static final String BODY_EXTENSION = ".body";
+
+    /**
+     * Recorded HTTP exchange.
+     *
+     * @param method   The request method.
+     * @param uri      The request path and query.
+     * @param bodyHash The hash of the request body, empty if the request had no body.
+     * @param status   The response status code.
+     * @param headers  The response headers.
+     * @param body     The raw response body.
+     */
+    record Exchange(String method, String uri, String bodyHash, int status,
+                    Map<String, List<String>> headers, byte[] body) {
+    }
+
+    // Folder of the recording
+    private final Path directory;
+
+    // Exchanges keyed by method, path, query and body hash
+    private final Map<String, Exchange> exact = new ConcurrentHashMap<>();
+
+    // Latest exchange keyed by method, path and query
+    private final Map<String, Exchange> byUri = new ConcurrentHashMap<>();
+
+    // Latest exchange keyed by method and path
+    private final Map<String, Exchange> byPath = new ConcurrentHashMap<>();
+
+    private ReplayStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates an empty store writing to the given folder.
+     *
+     * @param directory The folder of the recording.
+     * @return The empty store.
+     */
+    static ReplayStore create(Path directory) {
+        return new ReplayStore(directory);
+    }
+
+    /**
+     * Loads all exchanges of a recording into memory.
+     *
+     * @param directory The folder of the recording.
+     * @return The store holding the recorded exchanges.
+     * @throws ExceptionHub If the recording cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    static ReplayStore load(Path directory) {
+        ReplayStore store = new ReplayStore(directory);
+        if (!Files.isDirectory(directory)) {
+            log.warn("No recording found in '{}'", directory);
+            return store;
+        }
+        Json json = new Json();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path meta : files.filter(file -> file.toString().endsWith(META_EXTENSION)).sorted().toList()) {
+                Map<String, Object> fields = json.toType(Files.readString(meta, StandardCharsets.UTF_8), Map.class);
+                Path body = Path.of(meta.toString().replace(META_EXTENSION, BODY_EXTENSION));
+                store.index(new Exchange((String) fields.get("method"), (String) fields.get("uri"),
+                        (String) fields.get("bodyHash"), ((Number) fields.get("status")).intValue(),
+                        (Map<String, List<String>>) fields.get("headers"),
+                        Files.exists(body) ? Files.readAllBytes(body) : new byte[0]));
+            }
+        } catch (IOException ex) {
+            throw new ExceptionHub("Failed to load the recording in " + directory, ex);
+        }
+        log.info("Loaded '{}' recorded exchanges from '{}'", store.exact.size(), directory);
+        return store;
+    }
+
+    /**
+     * Finds the exchange recorded for a request.
+     *
+     * @param method   The request method.
+     * @param uri      The request path and query.
+     * @param bodyHash The hash of the request body, empty if the request has no body.
+     * @return The exactly matching exchange, else the latest one with the same method, path
+     * and query, else with the same method and path, or an empty Optional if none was recorded.
+     */
+    Optional<Exchange> find(String method, String uri, String bodyHash) {
+        Exchange exchange = exact.get(key(method, uri, bodyHash));
+        if (exchange == null) {
+            exchange = byUri.get(method + " " + uri);
+        }
+        if (exchange == null) {
+            exchange = byPath.get(method + " " + path(uri));
+        }
+        return Optional.ofNullable(exchange);
+    }
+
+    /**
+     * Stores an exchange in memory and on disk.
+     *
+     * @param exchange The exchange to store.
+     */
+    void save(Exchange exchange) {
+        index(exchange);
+        String name = hash(key(exchange.method(), exchange.uri(), exchange.bodyHash()).getBytes(StandardCharsets.UTF_8))
+                .substring(0, 20);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("method", exchange.method());
+        fields.put("uri", exchange.uri());
+        fields.put("bodyHash", exchange.bodyHash());
+        fields.put("status", exchange.status());
+        fields.put("headers", exchange.headers());
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(name + BODY_EXTENSION), exchange.body());
+            Files.writeString(directory.resolve(name + META_EXTENSION), new Json().toJson(fields), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            log.warn("Failed to save the exchange '{} {}': {}", exchange.method(), exchange.uri(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Computes the hash identifying a request body.
+     *
+     * @param body The request body.
+     * @return The hex encoded SHA-256 hash, or an empty string if the body is empty.
+     */
+    static String bodyHash(byte[] body) {
+        return body.length == 0 ? "" : hash(body);
+    }
+
+    private void index(Exchange exchange) {
+        exact.put(key(exchange.method(), exchange.uri(), exchange.bodyHash()), exchange);
+        byUri.put(exchange.method() + " " + exchange.uri(), exchange);
+        byPath.put(exchange.method() + " " + path(exchange.uri()), exchange);
+    }
+
+    private static String key(String method, String uri, String bodyHash) {
+        return method + " " + uri + " " + bodyHash;
+    }
+
+    private static String path(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+
+    private static String hash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
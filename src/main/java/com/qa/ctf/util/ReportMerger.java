@@ -0,0 +1,237 @@
+package com.qa.ctf.util;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ReportMerger class combines the Cucumber JSON, JUnit XML and Extent output of
+ * the shards of a sharded run into one report of each kind.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Merges the Cucumber JSON reports, combining the scenarios of a feature run
+ *     on several shards into one feature.</li>
+ *     <li>Merges the JUnit XML reports into one test suite, summing the test, failure,
+ *     error and skipped counts and the time.</li>
+ *     <li>Rebuilds one Extent Spark report from the Extent JSON archives of the
+ *     shards.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub} is thrown when a shard report cannot be read or the
+ *   merged report cannot be written.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The merged Cucumber JSON and JUnit XML reports are written to the default report
+ * folder, where the Maven Cucumber reporting plugin picks them up. Only the folders
+ * {@code shard-0} to {@code shard-<total - 1>} are read, so that leftovers of a run with
+ * more shards are ignored. The merger can be run on its own with
+ * {@code java com.qa.ctf.util.ReportMerger <total>}.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * ReportMerger.merge(Paths.get("target/shards"), 3, Paths.get("target/cucumber/report"));
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public final class ReportMerger {
+
+    // Logger instance for the ReportMerger class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ReportMerger.class);
+
+    private ReportMerger() {
+    }
+
+    /**
+     * Merges the reports of the shards below the default shard folder.
+     *
+     * @param args The number of shards.
+     */
+    public static void main(String[] args) {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SHARD_COUNT;
+        merge(Paths.get(CWD + SHARD_ROOT_PATH), total, Paths.get(CWD + "/" + CUCUMBER_REPORT_PATH));
+    }
+
+    /**
+     * Merges the reports of the shards {@code 0} to {@code total - 1} below the given folder.
+     *
+     * @param shardRoot The folder holding one output folder per shard.
+     * @param total     The number of shards of the run.
+     * @param outputDir The folder the merged reports are written to.
+     * @throws ExceptionHub If a report cannot be read or written.
+     */
+    public static void merge(Path shardRoot, int total, Path outputDir) {
+        try {
+            List<Path> shardDirs = getShardDirs(shardRoot, total);
+            Files.createDirectories(outputDir);
+            mergeCucumberJson(find(shardDirs, CUCUMBER_JSON_REPORT), outputDir.resolve(CUCUMBER_JSON_REPORT));
+            mergeJunitXml(find(shardDirs, CUCUMBER_JUNIT_REPORT), outputDir.resolve(CUCUMBER_JUNIT_REPORT));
+            mergeExtent(find(shardDirs, EXTENT_JSON_REPORT), outputDir.resolve(MERGED_EXTENT_REPORT));
+        } catch (Exception ex) {
+            log.error("Failed to merge the shard reports: {}", ex.getMessage(), ex);
+            throw new ExceptionHub("Failed to merge the shard reports", ex);
+        }
+    }
+
+    /**
+     * Merges Cucumber JSON reports, combining the elements of features with the same URI.
+     *
+     * @param reports The shard reports.
+     * @param output  The merged report.
+     * @throws IOException If a report cannot be read or written.
+     */
+    @SuppressWarnings("unchecked")
+    private static void mergeCucumberJson(List<Path> reports, Path output) throws IOException {
+        Json json = new Json();
+        Map<Object, Map<String, Object>> features = new LinkedHashMap<>();
+        for (Path report : reports) {
+            List<Map<String, Object>> shardFeatures = json.toType(Files.readString(report, StandardCharsets.UTF_8), List.class);
+            for (Map<String, Object> feature : shardFeatures) {
+                Map<String, Object> merged = features.computeIfAbsent(feature.get("uri"), uri -> {
+                    Map<String, Object> copy = new LinkedHashMap<>(feature);
+                    copy.put("elements", new ArrayList<>());
+                    return copy;
+                });
+                ((List<Object>) merged.get("elements")).addAll((List<Object>) feature.getOrDefault("elements", List.of()));
+            }
+        }
+        Files.writeString(output, json.toJson(new ArrayList<>(features.values())), StandardCharsets.UTF_8);
+        log.info("Merged {} Cucumber JSON reports into {}", reports.size(), output);
+    }
+
+    /**
+     * Merges JUnit XML reports into one test suite.
+     *
+     * @param reports The shard reports.
+     * @param output  The merged report.
+     * @throws Exception If a report cannot be parsed or written.
+     */
+    private static void mergeJunitXml(List<Path> reports, Path output) throws Exception {
+        if (reports.isEmpty()) {
+            return;
+        }
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        Document merged = factory.newDocumentBuilder().parse(reports.get(0).toFile());
+        Element suite = merged.getDocumentElement();
+        for (Path report : reports.subList(1, reports.size())) {
+            Element shardSuite = factory.newDocumentBuilder().parse(report.toFile()).getDocumentElement();
+            for (String counter : List.of("tests", "failures", "errors", "skipped")) {
+                suite.setAttribute(counter, String.valueOf(
+                        parseCount(suite.getAttribute(counter)) + parseCount(shardSuite.getAttribute(counter))));
+            }
+            suite.setAttribute("time", parseTime(suite.getAttribute("time")).add(parseTime(shardSuite.getAttribute("time")))
+                    .toPlainString());
+            NodeList testCases = shardSuite.getElementsByTagName("testcase");
+            for (int item = 0; item < testCases.getLength(); item++) {
+                Node testCase = merged.importNode(testCases.item(item), true);
+                suite.appendChild(testCase);
+            }
+        }
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(output.toFile()));
+        log.info("Merged {} JUnit XML reports into {}", reports.size(), output);
+    }
+
+    /**
+     * Rebuilds one Extent Spark report from the Extent JSON archives of the shards.
+     *
+     * @param archives The Extent JSON archives.
+     * @param output   The merged Spark report.
+     * @throws IOException If an archive cannot be read.
+     */
+    private static void mergeExtent(List<Path> archives, Path output) throws IOException {
+        if (archives.isEmpty()) {
+            return;
+        }
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(new ExtentSparkReporter(output.toFile()));
+        for (Path archive : archives) {
+            extent.createDomainFromJsonArchive(archive.toFile());
+        }
+        extent.flush();
+        log.info("Merged {} Extent archives into {}", archives.size(), output);
+    }
+
+    /**
+     * Retrieves the output folders of the shards of the run, in shard order.
+     *
+     * @param shardRoot The folder holding one output folder per shard.
+     * @param total     The number of shards of the run.
+     * @return The shard folders that exist; missing ones are logged.
+     */
+    private static List<Path> getShardDirs(Path shardRoot, int total) {
+        List<Path> shardDirs = new ArrayList<>();
+        for (int index = 0; index < total; index++) {
+            Path shardDir = shardRoot.resolve(SHARD_FOLDER_PREFIX + index);
+            if (Files.isDirectory(shardDir)) {
+                shardDirs.add(shardDir);
+            } else {
+                log.warn("The output folder of shard {} is missing: {}", index, shardDir);
+            }
+        }
+        return shardDirs;
+    }
+
+    /**
+     * Finds the reports with the given file name below the shard folders, in shard
+     * order and path order within a shard.
+     *
+     * @param shardDirs The shard folders to search.
+     * @param fileName  The file name of the reports.
+     * @return The paths of the reports.
+     * @throws IOException If a folder cannot be read.
+     */
+    private static List<Path> find(List<Path> shardDirs, String fileName) throws IOException {
+        List<Path> reports = new ArrayList<>();
+        for (Path shardDir : shardDirs) {
+            try (Stream<Path> paths = Files.walk(shardDir)) {
+                paths.filter(path -> path.getFileName().toString().equals(fileName)).sorted().forEach(reports::add);
+            }
+        }
+        return reports;
+    }
+
+    private static long parseCount(String value) {
+        return value == null || value.isBlank() ? 0 : Long.parseLong(value);
+    }
+
+    private static BigDecimal parseTime(String value) {
+        return value == null || value.isBlank() ? BigDecimal.ZERO : new BigDecimal(value.replace(",", ""));
+    }
+
+}
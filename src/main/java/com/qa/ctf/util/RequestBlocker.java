@@ -0,0 +1,324 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The RequestBlocker class fails the requests of a browser that match a URL pattern or
+ * resource type block list before they are sent, through the Fetch domain of a
+ * {@link CdpSession}, and counts what was blocked in each scenario.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Blocks requests matching the {@code BlockedUrlPatterns} wildcards, e.g.
+ *     {@code *google-analytics.com/*}, and the {@code BlockedResourceTypes}, e.g.
+ *     {@code Image,Font}. Both lists are empty by default, so nothing is blocked until
+ *     a run opts in.</li>
+ *     <li>Only matching requests are paused by the browser, so the other requests of
+ *     the page pay no interception round trip.</li>
+ *     <li>Counts the blocked requests per scenario and reason, and estimates the bytes
+ *     saved from the average size of the loaded requests of the same resource type.</li>
+ *     <li>Reports one line per scenario to {@code target/perf/blocked-requests.txt}
+ *     through the {@link PerfReportWriter}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub.InvalidDataException} is thrown for an unknown resource type
+ *   or for {@code Document}, as blocking documents would break navigation.</li>
+ *   <li>Events that cannot be parsed are ignored. A request that cannot be failed is
+ *   logged as a warning and continued unchanged; only if that also fails is it left to
+ *   time out in the browser.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The blocker is attached by {@code DriverFactory} to every session it creates, unless
+ * {@code -DRequestBlocking=No} is set. Browsers without DevTools support, such as
+ * Firefox, are not blocked. Sizes are learned from the requests that are loaded, so no
+ * estimate is made for a resource type that is always blocked.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * RequestBlocker blocker = CdpSession.of(driver).orElseThrow().getRequestBlocker();
+ * blocker.startScenario();
+ * driver.get("https://askomdch.com/store");
+ * blocker.finishScenario("Add product to cart");
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.2
+ */
+public class RequestBlocker {
+
+    // Logger instance for the RequestBlocker class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(RequestBlocker.class);
+
+    // Resource types of the DevTools protocol that may be blocked
+    private static final Set<String> RESOURCE_TYPES = Set.of("Stylesheet", "Image", "Media", "Font", "Script",
+            "TextTrack", "XHR", "Fetch", "Prefetch", "EventSource", "WebSocket", "Manifest", "SignedExchange", "Ping",
+            "CSPViolationReport", "Preflight", "Other");
+
+    // Resource type that is never blocked, as blocking it breaks navigation
+    private static final String DOCUMENT = "Document";
+
+    // Number of loaded requests per resource type, shared by all sessions
+    private static final Map<String, LongAdder> loadedCounts = new ConcurrentHashMap<>();
+
+    // Encoded bytes of the loaded requests per resource type, shared by all sessions
+    private static final Map<String, LongAdder> loadedBytes = new ConcurrentHashMap<>();
+
+    // Report lines of the finished scenarios
+    private static final Queue<String> scenarioLines = new ConcurrentLinkedQueue<>();
+
+    static {
+        PerfReportWriter.register(BLOCKED_REQUEST_REPORT_FILE_NAME, RequestBlocker::getReportLines);
+    }
+
+    // DevTools session the requests are intercepted on
+    private final CdpSession cdpSession;
+
+    // URL patterns to block, with the regular expression matching each
+    private final Map<String, Pattern> urlPatterns = new LinkedHashMap<>();
+
+    // Resource types to block
+    private final Set<String> resourceTypes;
+
+    // Resource type of the requests that have received a response but not finished loading
+    private final Map<String, String> loadingTypes = new ConcurrentHashMap<>();
+
+    // Number of requests blocked in the current scenario, per reason
+    private final Map<String, LongAdder> blockedCounts = new ConcurrentHashMap<>();
+
+    // Estimated bytes saved in the current scenario
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Constructs a RequestBlocker and enables the interception of the blocked requests.
+     * With empty block lists, neither the Network nor the Fetch domain is enabled.
+     *
+     * @param cdpSession     The DevTools session to intercept the requests of.
+     * @param urlPatterns    The comma separated URL wildcards to block.
+     * @param resourceTypes  The comma separated resource types to block.
+     * @throws ExceptionHub.InvalidDataException If a resource type is unknown or is {@code Document}.
+     */
+    RequestBlocker(CdpSession cdpSession, String urlPatterns, String resourceTypes) {
+        this.cdpSession = cdpSession;
+        split(urlPatterns).forEach(urlPattern -> this.urlPatterns.put(urlPattern, toRegex(urlPattern)));
+        this.resourceTypes = split(resourceTypes).stream().map(RequestBlocker::validateResourceType)
+                .collect(Collectors.toUnmodifiableSet());
+
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        this.urlPatterns.keySet().forEach(urlPattern -> patterns.add(Map.of("urlPattern", urlPattern)));
+        this.resourceTypes.forEach(type -> patterns.add(Map.of("urlPattern", "*", "resourceType", type)));
+        if (patterns.isEmpty()) {
+            log.info("Request blocker attached with empty block lists, no request is intercepted");
+            return;
+        }
+
+        DevTools devTools = cdpSession.getDevTools();
+        cdpSession.send("Network.enable", Map.of());
+        devTools.addListener(new Event<>("Network.responseReceived", RequestBlocker::readParams),
+                params -> loadingTypes.put(String.valueOf(params.get("requestId")), String.valueOf(params.get("type"))));
+        devTools.addListener(new Event<>("Network.loadingFinished", RequestBlocker::readParams),
+                this::recordLoaded);
+        devTools.addListener(new Event<>("Network.loadingFailed", RequestBlocker::readRequestId),
+                requestId -> loadingTypes.remove(requestId));
+        devTools.addListener(new Event<>("Fetch.requestPaused", RequestBlocker::readParams),
+                this::block);
+        cdpSession.send("Fetch.enable", Map.of("patterns", patterns));
+        log.info("Request blocker attached with {} URL pattern(s) and resource type(s) {}",
+                this.urlPatterns.size(), this.resourceTypes);
+    }
+
+    /**
+     * Resets the counters at the start of a scenario, dropping what was blocked while
+     * the session was created or reset.
+     */
+    public void startScenario() {
+        blockedCounts.clear();
+        bytesSaved.reset();
+    }
+
+    /**
+     * Logs the counters of the finished scenario, keeps them for the report and resets them.
+     *
+     * @param scenarioName The name of the scenario.
+     * @return The number of requests blocked in the scenario.
+     */
+    public long finishScenario(String scenarioName) {
+        long blocked = blockedCounts.values().stream().mapToLong(LongAdder::sum).sum();
+        long savedKilobytes = bytesSaved.sum() / 1024;
+        String reasons = blockedCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                        (first, second) -> Long.compare(second.sum(), first.sum())))
+                .map(entry -> entry.getKey() + " x" + entry.getValue().sum())
+                .collect(Collectors.joining(", "));
+        startScenario();
+        if (blocked > 0) {
+            log.info("Blocked {} request(s), about {} KB, in scenario '{}': {}", blocked, savedKilobytes, scenarioName,
+                    reasons);
+            scenarioLines.add(String.format("%s | %d | %d | %s", scenarioName, blocked, savedKilobytes, reasons));
+        }
+        return blocked;
+    }
+
+    /**
+     * Fails a paused request and counts it against the reason it was blocked for.
+     *
+     * @param params The parameters of the {@code Fetch.requestPaused} event.
+     */
+    @SuppressWarnings("unchecked")
+    private void block(Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        String type = String.valueOf(params.get("resourceType"));
+        String url = String.valueOf(((Map<String, Object>) params.getOrDefault("request", Map.of())).get("url"));
+        try {
+            cdpSession.send("Fetch.failRequest", Map.of("requestId", requestId, "errorReason", BLOCKED_REQUEST_ERROR));
+        } catch (WebDriverException ex) {
+            log.warn("Failed to block the request '{}', letting it through: {}", url, ex.getMessage());
+            resume(requestId, url);
+            return;
+        }
+        blockedCounts.computeIfAbsent(getReason(url, type), key -> new LongAdder()).increment();
+        bytesSaved.add(getAverageSize(type));
+    }
+
+    /**
+     * Lets a paused request continue unchanged, so a request that could not be failed is
+     * not left paused until the browser times it out.
+     *
+     * @param requestId The id of the paused request.
+     * @param url       The URL of the request, used in the log.
+     */
+    private void resume(String requestId, String url) {
+        try {
+            cdpSession.send("Fetch.continueRequest", Map.of("requestId", requestId));
+        } catch (WebDriverException ex) {
+            log.warn("Failed to continue the request '{}', it stays paused until it times out: {}", url,
+                    ex.getMessage());
+        }
+    }
+
+    /**
+     * Adds a loaded request to the sizes of its resource type.
+     *
+     * @param params The parameters of the {@code Network.loadingFinished} event.
+     */
+    private void recordLoaded(Map<String, Object> params) {
+        String type = loadingTypes.remove(String.valueOf(params.get("requestId")));
+        if (type != null && params.get("encodedDataLength") instanceof Number length) {
+            loadedCounts.computeIfAbsent(type, key -> new LongAdder()).increment();
+            loadedBytes.computeIfAbsent(type, key -> new LongAdder()).add(length.longValue());
+        }
+    }
+
+    /**
+     * Resolves why a request was blocked.
+     *
+     * @param url  The URL of the request.
+     * @param type The resource type of the request.
+     * @return The blocked resource type, or the first URL pattern matching the URL.
+     */
+    private String getReason(String url, String type) {
+        if (resourceTypes.contains(type)) {
+            return type;
+        }
+        return urlPatterns.entrySet().stream()
+                .filter(entry -> entry.getValue().matcher(url).matches())
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(type);
+    }
+
+    /**
+     * Retrieves the average size of the loaded requests of a resource type.
+     *
+     * @param type The resource type.
+     * @return The average encoded bytes, or 0 if no request of the type has been loaded.
+     */
+    private static long getAverageSize(String type) {
+        LongAdder count = loadedCounts.get(type);
+        long loaded = count == null ? 0 : count.sum();
+        return loaded == 0 ? 0 : loadedBytes.get(type).sum() / loaded;
+    }
+
+    /**
+     * Builds the report of the blocked requests of every scenario.
+     *
+     * @return The report lines, or an empty list if no scenario was reported.
+     */
+    private static List<String> getReportLines() {
+        if (scenarioLines.isEmpty()) {
+            return List.of();
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("scenario | blocked | estimated KB saved | blocked by");
+        lines.addAll(scenarioLines);
+        return lines;
+    }
+
+    private static List<String> split(String values) {
+        if (values == null || values.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(values.split(",")).map(String::strip).filter(value -> !value.isEmpty()).toList();
+    }
+
+    private static String validateResourceType(String type) {
+        return RESOURCE_TYPES.stream()
+                .filter(resourceType -> resourceType.equalsIgnoreCase(type))
+                .findFirst()
+                .orElseThrow(() -> new ExceptionHub.InvalidDataException(BLOCKED_RESOURCE_TYPES + "=" + type
+                        + (DOCUMENT.equalsIgnoreCase(type) ? " would block navigation" : "")));
+    }
+
+    /**
+     * Converts a DevTools URL wildcard, where '*' matches any characters and '?' one
+     * character, to a regular expression.
+     *
+     * @param urlPattern The URL wildcard.
+     * @return The regular expression matching the same URLs.
+     */
+    private static Pattern toRegex(String urlPattern) {
+        StringBuilder regex = new StringBuilder();
+        for (String literal : urlPattern.split("((?<=[*?])|(?=[*?]))")) {
+            switch (literal) {
+                case "*" -> regex.append(".*");
+                case "?" -> regex.append('.');
+                default -> regex.append(Pattern.quote(literal));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static Map<String, Object> readParams(JsonInput input) {
+        return input.read(Json.MAP_TYPE);
+    }
+
+    private static String readRequestId(JsonInput input) {
+        return String.valueOf(readParams(input).get("requestId"));
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ScenarioLogBuffer class is a Log4j2 appender that keeps the most recent log
+ * events of the scenario running on each thread in an in-memory ring buffer, so that
+ * they can be attached to the report when the scenario fails.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Captures log events only for threads that have started a capture, so that
+ *     framework start-up and shutdown logging is not buffered.</li>
+ *     <li>Bounds the memory used per scenario by dropping the oldest events once the
+ *     configured capacity is reached.</li>
+ *     <li>Formats the events only when the buffer is drained, so that passing
+ *     scenarios never pay for the layout.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>The appender never throws; events of threads without a capture are ignored.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The appender must be referenced directly by a logger rather than through an
+ * Async appender, so that every event of a scenario is buffered before the scenario
+ * ends. It is configured in {@code log4j2-perf.properties}.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * ScenarioLogBuffer.startCapture();
+ * // Scenario steps
+ * String scenarioLog = ScenarioLogBuffer.drain();
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+@Plugin(name = "ScenarioLogBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class ScenarioLogBuffer extends AbstractAppender {
+
+    // Ring buffers of the threads that have started a capture, keyed by thread id
+    private static final Map<Long, Deque<LogEvent>> buffers = new ConcurrentHashMap<>();
+
+    // Layout used to format the events when the buffer is drained
+    private static final PatternLayout drainLayout = PatternLayout.newBuilder()
+            .withPattern(LOG_BUFFER_PATTERN)
+            .build();
+
+    // Maximum number of events kept per scenario
+    private static volatile int capacity = DEFAULT_LOG_BUFFER_CAPACITY;
+
+    private ScenarioLogBuffer(String name, Filter filter) {
+        super(name, filter, null, true, Property.EMPTY_ARRAY);
+    }
+
+    /**
+     * Creates the appender from the Log4j2 configuration.
+     *
+     * @param name       The name of the appender.
+     * @param bufferSize The maximum number of events kept per scenario.
+     * @param filter     The optional filter of the appender.
+     * @return The ScenarioLogBuffer appender.
+     */
+    @PluginFactory
+    public static ScenarioLogBuffer createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "capacity", defaultInt = DEFAULT_LOG_BUFFER_CAPACITY) int bufferSize,
+            @PluginElement("Filter") Filter filter) {
+        capacity = Math.max(1, bufferSize);
+        return new ScenarioLogBuffer(name, filter);
+    }
+
+    /**
+     * Buffers the event if its thread has started a capture.
+     *
+     * @param event The log event.
+     */
+    @Override
+    public void append(LogEvent event) {
+        Deque<LogEvent> buffer = buffers.get(event.getThreadId());
+        if (buffer == null) {
+            return;
+        }
+        LogEvent snapshot = event.toImmutable();
+        synchronized (buffer) {
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+            }
+            buffer.addLast(snapshot);
+        }
+    }
+
+    /**
+     * Starts capturing the log events of the current thread, discarding any events
+     * left over from a previous scenario.
+     */
+    public static void startCapture() {
+        buffers.put(Thread.currentThread().threadId(), new ArrayDeque<>());
+    }
+
+    /**
+     * Stops capturing the log events of the current thread and discards them.
+     */
+    public static void discard() {
+        buffers.remove(Thread.currentThread().threadId());
+    }
+
+    /**
+     * Stops capturing the log events of the current thread and returns them formatted.
+     *
+     * @return The formatted log of the scenario, or an empty string if nothing was
+     * captured.
+     */
+    public static String drain() {
+        Deque<LogEvent> buffer = buffers.remove(Thread.currentThread().threadId());
+        if (buffer == null) {
+            return "";
+        }
+        StringBuilder scenarioLog = new StringBuilder();
+        synchronized (buffer) {
+            buffer.forEach(event -> scenarioLog.append(drainLayout.toSerializable(event)));
+        }
+        return scenarioLog.toString();
+    }
+
+}
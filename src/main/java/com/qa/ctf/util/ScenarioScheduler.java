@@ -0,0 +1,203 @@
+package com.qa.ctf.util;
+
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ScenarioScheduler class orders the scenarios of the Cucumber runner longest
+ * first, using the durations recorded in the {@link TimingHistory}, so that the
+ * makespan of a parallel run is as short as possible.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Estimates each scenario from the median duration of its latest runs, falling
+ *     back to the median of all known scenarios, or to a static estimate when there is
+ *     no history at all.</li>
+ *     <li>Orders the scenarios longest processing time first, which the thread pool of
+ *     the parallel data provider turns into a greedy bin-packing over the threads.</li>
+ *     <li>Predicts the makespan for the thread count and reports it against the actual
+ *     makespan at the end of the suite.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Scheduling never fails the run; rows without a scenario get the fallback
+ *   estimate and failures while writing the report are logged.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Ties are broken by feature file and line, so the order is deterministic for the
+ * same history. Scheduling is disabled with {@code -DDurationScheduling=No}.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * @Override
+ * @DataProvider(parallel = true)
+ * public Object[][] scenarios() {
+ *     return ScenarioScheduler.schedule(super.scenarios(), threadCount);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class ScenarioScheduler {
+
+    // Logger instance for the ScenarioScheduler class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ScenarioScheduler.class);
+
+    // Predicted makespan of the scheduled run in milliseconds, or -1 if nothing was scheduled
+    private static volatile long predictedMakespan = -1;
+
+    // Time the scheduled run started, in nanoseconds
+    private static volatile long scheduledAt;
+
+    // Per-thread plan of the scheduled run, for the report
+    private static volatile List<String> plan = List.of();
+
+    private ScenarioScheduler() {
+    }
+
+    /**
+     * Estimated duration of a data provider row.
+     *
+     * @param row      The data provider row.
+     * @param key      The scenario key.
+     * @param millis   The estimated duration in milliseconds.
+     * @param measured Whether the estimate comes from the history of the scenario.
+     */
+    public record Estimate(Object[] row, String key, long millis, boolean measured) {
+    }
+
+    /**
+     * Orders the scenarios longest first for the given thread count.
+     *
+     * @param scenarios   The rows of the Cucumber data provider.
+     * @param threadCount The number of threads running the scenarios.
+     * @return The reordered rows.
+     */
+    public static Object[][] schedule(Object[][] scenarios, int threadCount) {
+        List<Estimate> estimates = estimate(scenarios);
+        long predicted = simulate(estimates, Math.max(1, threadCount));
+        predictedMakespan = predicted;
+        scheduledAt = System.nanoTime();
+        long measured = estimates.stream().filter(Estimate::measured).count();
+        log.info("Scheduled {} scenarios longest first on {} thread(s), {} from history, predicted makespan {} s",
+                estimates.size(), threadCount, measured, Duration.ofMillis(predicted).toSeconds());
+        return estimates.stream().map(Estimate::row).toArray(Object[][]::new);
+    }
+
+    /**
+     * Estimates the duration of the scenarios and sorts them longest first.
+     *
+     * @param scenarios The rows of the Cucumber data provider.
+     * @return The estimates, longest first.
+     */
+    public static List<Estimate> estimate(Object[][] scenarios) {
+        Map<String, TimingHistory.Baseline> baselines = TimingHistory.load().getBaselines(TimingHistory.Type.SCENARIO);
+        long fallback = baselines.isEmpty()
+                ? DEFAULT_SCENARIO_ESTIMATE_MILLIS
+                : baselines.values().stream().mapToLong(TimingHistory.Baseline::p50).sorted()
+                .skip(baselines.size() / 2).findFirst().orElse(DEFAULT_SCENARIO_ESTIMATE_MILLIS);
+        List<Estimate> estimates = new ArrayList<>();
+        for (Object[] row : scenarios) {
+            String key = scenarioKey(row);
+            TimingHistory.Baseline baseline = baselines.get(key);
+            estimates.add(baseline != null
+                    ? new Estimate(row, key, baseline.p50(), true)
+                    : new Estimate(row, key, fallback, false));
+        }
+        estimates.sort(Comparator.comparingLong(Estimate::millis).reversed().thenComparing(Estimate::key));
+        return estimates;
+    }
+
+    /**
+     * Logs and writes the predicted and actual makespan of the scheduled run.
+     */
+    public static void reportMakespan() {
+        long predicted = predictedMakespan;
+        if (predicted < 0) {
+            return;
+        }
+        long actual = Duration.ofNanos(System.nanoTime() - scheduledAt).toMillis();
+        log.info("Scenario makespan: predicted {} s, actual {} s",
+                Duration.ofMillis(predicted).toSeconds(), Duration.ofMillis(actual).toSeconds());
+        List<String> lines = new ArrayList<>();
+        lines.add("Predicted makespan ms: " + predicted);
+        lines.add("Actual makespan ms: " + actual);
+        lines.addAll(plan);
+        Path reportPath = ShardPlan.outputPath(PERF_REPORT_PATH + SCHEDULE_REPORT_FILE_NAME);
+        try {
+            Files.createDirectories(reportPath.getParent());
+            Files.write(reportPath, lines, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            log.warn("Failed to write the schedule report: {}", ex.getMessage());
+        }
+        predictedMakespan = -1;
+    }
+
+    /**
+     * Simulates the thread pool taking the scenarios in order, each thread picking the
+     * next scenario when it becomes free.
+     *
+     * @param estimates   The estimates in execution order.
+     * @param threadCount The number of threads.
+     * @return The predicted makespan in milliseconds.
+     */
+    private static long simulate(List<Estimate> estimates, int threadCount) {
+        PriorityQueue<long[]> threads = new PriorityQueue<>(
+                Comparator.<long[]>comparingLong(thread -> thread[0]).thenComparingLong(thread -> thread[1]));
+        List<List<String>> assignments = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            threads.add(new long[]{0, thread});
+            assignments.add(new ArrayList<>());
+        }
+        long makespan = 0;
+        for (Estimate estimate : estimates) {
+            long[] thread = threads.poll();
+            thread[0] += estimate.millis();
+            makespan = Math.max(makespan, thread[0]);
+            assignments.get((int) thread[1]).add(estimate.key() + " (" + estimate.millis() + " ms)");
+            threads.add(thread);
+        }
+        List<String> threadPlan = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            threadPlan.add("Thread " + (thread + 1) + ": " + String.join(", ", assignments.get(thread)));
+        }
+        plan = threadPlan;
+        return makespan;
+    }
+
+    /**
+     * Builds the key of the scenario of a data provider row.
+     *
+     * @param row The data provider row.
+     * @return The scenario key, or the row contents if it holds no pickle.
+     */
+    private static String scenarioKey(Object[] row) {
+        if (row.length > 0 && row[0] instanceof PickleWrapper pickleWrapper) {
+            Pickle pickle = pickleWrapper.getPickle();
+            return TimingHistory.scenarioKey(pickle.getUri(), pickle.getLine(), pickle.getName());
+        }
+        return Arrays.toString(row);
+    }
+
+}
@@ -1,24 +1,15 @@
 package com.qa.ctf.util;
 
 import com.qa.ctf.factory.DriverFactory;
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
-import ru.yandex.qatools.ashot.AShot;
-import ru.yandex.qatools.ashot.Screenshot;
-import ru.yandex.qatools.ashot.shooting.ShootingStrategies;
 
-import javax.imageio.ImageIO;
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
 import java.util.Base64;
-import java.util.Calendar;
-import java.util.UUID;
 
 import static com.qa.ctf.constant.TestConstants.*;
 
@@ -28,10 +19,13 @@ import static com.qa.ctf.constant.TestConstants.*;
  *
  * <p>Features:
  * <ul>
- *   <li><b>Full Page Screenshot:</b> Captures the entire scrollable page using the
- *   AShot library when the system property {@code FULL_PAGE_SCREENSHOT} is set to "Yes".</li>
+ *   <li><b>Full Page Screenshot:</b> Captures the entire scrollable page with the fastest
+ *   strategy of {@link FullPageScreenshot} when the system property
+ *   {@code FULL_PAGE_SCREENSHOT} is set to "Yes".</li>
  *   <li><b>Regular Screenshot:</b> Captures only the visible portion of the browser
  *   window using Selenium’s {@code TakesScreenshot} interface.</li>
+ *   <li><b>In-Memory Capture:</b> Returns the PNG bytes straight from the driver, so
+ *   that they can be attached to a report without a round trip through the disk.</li>
  *   <li><b>Base64 Image Conversion:</b> Converts a saved screenshot to a Base64-encoded
  *   string, useful for embedding images in reports or logs.</li>
  *   <li><b>Byte Array Image Conversion:</b> Converts an image file to a byte array
@@ -53,6 +47,8 @@ import static com.qa.ctf.constant.TestConstants.*;
  * <pre>
  * {@code
  * ScreenCapture screenCapture = new ScreenCapture(driverFactory);
+ * byte[] screenshot = screenCapture.captureScreenshot();
+ *
  * String screenshotPath = screenCapture.takeScreenshot();
  * System.out.println("Screenshot saved at: " + screenshotPath);
  *
@@ -62,7 +58,7 @@ import static com.qa.ctf.constant.TestConstants.*;
  * </pre>
  *
  * @author Jagatheshwaran N
- * @version 1.1
+ * @version 1.4
  */
 public class ScreenCapture {
 
@@ -72,15 +68,6 @@ public class ScreenCapture {
     // Instance of DriverFactory to manage the WebDriver for interacting with the browser
     private final DriverFactory driverFactory;
 
-    // Path to store the screenshot files, constructed using the project's root directory and a constant path
-    private static final String SCREENSHOT_PATH = CWD + SNAPSHOT_PATH;
-
-    // Constant representing the image format for the screenshots
-    private static final String IMG_FORMAT = ".png";
-
-    // Constant representing the image format for the Ashot screenshots
-    private static final String PNG_IMG_FORMAT = "png";
-
     /**
      * Constructs a ScreenCapture instance and initializes it with the provided
      * DriverManager.
@@ -100,18 +87,37 @@ public class ScreenCapture {
     }
 
     /**
-     * Captures a screenshot of the current browser window and saves it to the specified
-     * directory.
+     * Captures a screenshot of the current browser window in memory.
      * <p>
      * This method supports two types of screenshots:
      * <ul>
-     *     <li><b>Full Page Screenshot:</b> Captures the entire scrollable page using the
-     *     AShot library when the system property {@code FULL_PAGE_SCREENSHOT} is set to
-     *     "Yes".</li>
+     *     <li><b>Full Page Screenshot:</b> Captures the entire scrollable page with
+     *     {@link FullPageScreenshot} when the system property {@code FULL_PAGE_SCREENSHOT}
+     *     is set to "Yes".</li>
      *     <li><b>Regular Screenshot:</b> Captures only the visible portion of the screen
-     *     using Selenium's {@code TakesScreenshot} interface.</li>
+     *     as PNG bytes straight from the driver, without a temporary file.</li>
      * </ul>
-     * The screenshot is saved with a unique filename containing a timestamp and a UUID.
+     * </p>
+     *
+     * @return The PNG bytes of the screenshot.
+     * @throws ExceptionHub.ScreenshotException If an error occurs while capturing the
+     *                                          screenshot.
+     */
+    public byte[] captureScreenshot() {
+        if (FileReader.getConfig().getBoolean(FULL_PAGE_SCREENSHOT, false)) {
+            return FullPageScreenshot.capture(driverFactory.getDriver());
+        }
+        byte[] screenshot = ((TakesScreenshot) driverFactory.getDriver()).getScreenshotAs(OutputType.BYTES);
+        log.info("Screenshot captured.");
+        return screenshot;
+    }
+
+    /**
+     * Captures a screenshot of the current browser window and saves it to the specified
+     * directory.
+     * <p>
+     * The screenshot is captured with {@link #captureScreenshot()} and written with a
+     * unique filename containing a timestamp and a UUID.
      * </p>
      *
      * @return The absolute file path of the saved screenshot.
@@ -119,24 +125,7 @@ public class ScreenCapture {
      *                                          the screenshot.
      */
     public String takeScreenshot() {
-        String timestamp = new SimpleDateFormat(DATE_FORMAT).format(Calendar.getInstance().getTime());
-        String uniqueId = UUID.randomUUID().toString();
-        File destination = new File(SCREENSHOT_PATH + timestamp + "_" + uniqueId + IMG_FORMAT);
-        try {
-            if(System.getProperty(FULL_PAGE_SCREENSHOT).equalsIgnoreCase(OPTION_YES)) {
-                Screenshot screenshot = new AShot().shootingStrategy(ShootingStrategies.viewportPasting(100)).takeScreenshot(driverFactory.getDriver());
-                ImageIO.write(screenshot.getImage(), PNG_IMG_FORMAT, destination);
-                log.info("Full page screenshot saved: '{}'", destination.getAbsolutePath());
-            } else {
-                File source = ((TakesScreenshot) driverFactory.getDriver()).getScreenshotAs(OutputType.FILE);
-                FileUtils.copyFile(source, destination);
-                log.info("Screenshot saved: '{}'", destination.getAbsolutePath());
-            }
-        } catch (IOException ex) {
-            log.error("Failed to save screenshot: {}", ex.getMessage(), ex);
-            throw new ExceptionHub.ScreenshotException("Failed to create the screenshot", ex);
-        }
-        return destination.getAbsolutePath();
+        return ScreenshotWriter.getInstance().writeNow(captureScreenshot(), null).toAbsolutePath().toString();
     }
 
     /**
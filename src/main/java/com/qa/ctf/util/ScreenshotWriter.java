@@ -0,0 +1,177 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ScreenshotWriter class persists captured screenshots to the screenshot folder
+ * on a background thread, so that saving a screenshot never delays the scenario that
+ * failed.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Writes the PNG bytes handed over by {@link ScreenCapture} on a single daemon
+ *     thread.</li>
+ *     <li>Builds a unique file name per screenshot from the scenario name, a timestamp
+ *     and a UUID, and never overwrites an existing file, so that concurrent failures
+ *     do not collide in the shared folder.</li>
+ *     <li>Bounds the number of pending screenshots; when the queue is full the caller
+ *     writes the screenshot itself instead of holding more images in memory.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Failures while writing a screenshot are logged and never fail the test run.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Screenshots are saved unless the system property {@code SaveScreenshots} is set to
+ * "No". Call {@link #flush()} once the run ends so that no pending screenshot is lost
+ * when the JVM exits.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * byte[] screenshot = screenCapture.captureScreenshot();
+ * ScreenshotWriter.getInstance().write(screenshot, scenario.getName());
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public final class ScreenshotWriter {
+
+    // Logger instance for the ScreenshotWriter class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ScreenshotWriter.class);
+
+    // Single instance shared by all scenarios of the run
+    private static final ScreenshotWriter instance = new ScreenshotWriter();
+
+    // Constant representing the image format for the screenshots
+    private static final String IMG_FORMAT = ".png";
+
+    // Folder the screenshots are written to
+    private final Path screenshotDir = Paths.get(CWD + SNAPSHOT_PATH);
+
+    // Background thread writing the screenshots, with a bounded queue of pending ones
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(SCREENSHOT_WRITER_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private ScreenshotWriter() {
+    }
+
+    /**
+     * Retrieves the writer shared by all scenarios.
+     *
+     * @return The ScreenshotWriter instance.
+     */
+    public static ScreenshotWriter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Checks whether screenshots should be saved to disk.
+     *
+     * @return true unless {@code SaveScreenshots} is set to "No" in the configuration snapshot.
+     */
+    public static boolean isEnabled() {
+        return FileReader.getConfig().getBoolean(SAVE_SCREENSHOTS, true);
+    }
+
+    /**
+     * Queues a screenshot to be written in the background.
+     *
+     * @param screenshot The PNG bytes of the screenshot.
+     * @param name       The name of the scenario or step the screenshot belongs to.
+     * @return The path the screenshot will be written to.
+     */
+    public Path write(byte[] screenshot, String name) {
+        Path destination = newPath(name);
+        executor.execute(() -> {
+            try {
+                save(screenshot, destination);
+            } catch (IOException ex) {
+                log.warn("Failed to save screenshot '{}': {}", destination, ex.getMessage());
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * Writes a screenshot on the calling thread.
+     *
+     * @param screenshot The PNG bytes of the screenshot.
+     * @param name       The name of the scenario or step the screenshot belongs to.
+     * @return The path the screenshot was written to.
+     * @throws ExceptionHub.ScreenshotException If the screenshot cannot be written.
+     */
+    public Path writeNow(byte[] screenshot, String name) {
+        Path destination = newPath(name);
+        try {
+            save(screenshot, destination);
+        } catch (IOException ex) {
+            log.error("Failed to save screenshot: {}", ex.getMessage(), ex);
+            throw new ExceptionHub.ScreenshotException("Failed to create the screenshot", ex);
+        }
+        return destination;
+    }
+
+    /**
+     * Waits until the pending screenshots are written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> {
+            }).get(SCREENSHOT_WRITER_FLUSH_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception ex) {
+            log.warn("Pending screenshots were not written: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Builds a unique path in the screenshot folder.
+     *
+     * @param name The name of the scenario or step the screenshot belongs to.
+     * @return The path of the screenshot.
+     */
+    private Path newPath(String name) {
+        String timestamp = new SimpleDateFormat(DATE_FORMAT).format(Calendar.getInstance().getTime());
+        String prefix = name == null || name.isBlank() ? "" : name.replaceAll("[^A-Za-z0-9]+", "_") + "_";
+        return screenshotDir.resolve(prefix + timestamp + "_" + UUID.randomUUID() + IMG_FORMAT);
+    }
+
+    /**
+     * Writes a screenshot to a new file.
+     *
+     * @param screenshot  The PNG bytes of the screenshot.
+     * @param destination The path of the screenshot, which must not exist yet.
+     * @throws IOException If the file exists or cannot be written.
+     */
+    private static void save(byte[] screenshot, Path destination) throws IOException {
+        Files.createDirectories(destination.getParent());
+        Files.write(destination, screenshot, StandardOpenOption.CREATE_NEW);
+        log.info("Screenshot saved: '{}'", destination);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.qa.ctf.util;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ShardLauncher class runs every shard of the suite in its own local JVM and
+ * merges their reports, to run or verify a sharded suite on a single machine.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Starts one TestNG JVM per shard with the class path of the launcher and the
+ *     {@code shard.index}, {@code shard.total} and {@code run.id} properties.</li>
+ *     <li>Forwards the {@code -D} options of the launcher, such as the browser or the
+ *     scenario thread count, to every shard.</li>
+ *     <li>Clears the shard folders of previous runs before starting the shards.</li>
+ *     <li>Waits for all shards and merges their reports with {@link ReportMerger}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub} is thrown when the shard folders cannot be cleared or a
+ *   shard JVM cannot be started; the exit code of the launcher is non-zero when any
+ *   shard failed.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The output of each shard is written to {@code target/shards/shard-<index>/shard.log}.
+ * On several machines, run the suite with the same {@code -Dshard.total} and a
+ * different {@code -Dshard.index} on each, copy the {@code target/shards} folders
+ * together and run {@link ReportMerger} with the shard total.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * java -DScenarioThreads=2 -cp "target/classes:target/test-classes:<dependencies>" \
+ *     com.qa.ctf.util.ShardLauncher 3
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public final class ShardLauncher {
+
+    // Logger instance for the ShardLauncher class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ShardLauncher.class);
+
+    private ShardLauncher() {
+    }
+
+    /**
+     * Runs the given number of shards and merges their reports.
+     *
+     * @param args The number of shards, and optionally the TestNG suite file.
+     * @throws InterruptedException If the launcher is interrupted while waiting for the shards.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SHARD_COUNT;
+        String suiteFile = args.length > 1 ? args[1] : TESTNG_SUITE_PATH;
+        System.exit(launch(total, suiteFile));
+    }
+
+    /**
+     * Runs the given number of shards and merges their reports.
+     * <p>
+     * The shard folder is deleted first, so that reports of a previous run with more
+     * shards or of a shard that fails to start are never merged.
+     * </p>
+     *
+     * @param total     The number of shards.
+     * @param suiteFile The TestNG suite file, relative to the project root.
+     * @return 0 if every shard passed, 1 otherwise.
+     * @throws InterruptedException If the launcher is interrupted while waiting for the shards.
+     * @throws ExceptionHub         If the shard folder cannot be cleared or a shard cannot
+     *                              be started.
+     */
+    public static int launch(int total, String suiteFile) throws InterruptedException {
+        Path shardRoot = Paths.get(CWD + SHARD_ROOT_PATH);
+        try {
+            FileUtils.deleteDirectory(shardRoot.toFile());
+        } catch (IOException ex) {
+            throw new ExceptionHub("Failed to clear the shard folder " + shardRoot, ex);
+        }
+        String runId = Instant.now().toString();
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        List<String> forwarded = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argument -> argument.startsWith("-D"))
+                .toList();
+        List<Process> shards = new ArrayList<>();
+        for (int index = 0; index < total; index++) {
+            List<String> command = new ArrayList<>();
+            command.add(java.toString());
+            command.addAll(forwarded);
+            command.add("-D" + SHARD_INDEX + "=" + index);
+            command.add("-D" + SHARD_TOTAL + "=" + total);
+            command.add("-D" + RUN_ID + "=" + runId);
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add("org.testng.TestNG");
+            command.add(suiteFile);
+            Path shardLog = Paths.get(CWD + SHARD_OUTPUT_PATH + index, SHARD_LOG_FILE_NAME);
+            try {
+                shardLog.getParent().toFile().mkdirs();
+                shards.add(new ProcessBuilder(command)
+                        .directory(Paths.get(CWD).toFile())
+                        .redirectErrorStream(true)
+                        .redirectOutput(shardLog.toFile())
+                        .start());
+                log.info("Started shard {} of {}, output in {}", index, total, shardLog);
+            } catch (IOException ex) {
+                shards.forEach(Process::destroy);
+                throw new ExceptionHub("Failed to start shard " + index, ex);
+            }
+        }
+        int failedShards = 0;
+        for (int index = 0; index < total; index++) {
+            int exitCode = shards.get(index).waitFor();
+            log.info("Shard {} finished with exit code {}", index, exitCode);
+            if (exitCode != 0) {
+                failedShards++;
+            }
+        }
+        ReportMerger.merge(shardRoot, total, Paths.get(CWD + "/" + CUCUMBER_REPORT_PATH));
+        log.info("{} of {} shards failed", failedShards, total);
+        return failedShards == 0 ? 0 : 1;
+    }
+
+}
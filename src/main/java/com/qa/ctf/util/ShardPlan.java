@@ -0,0 +1,180 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The ShardPlan class splits the scenarios of the suite across several JVMs or
+ * machines, each running one shard selected with {@code -Dshard.index} and
+ * {@code -Dshard.total}.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Partitions the scenarios deterministically, balanced by their estimated
+ *     duration from the {@link TimingHistory}.</li>
+ *     <li>Registers the Cucumber JSON, JUnit XML and HTML report plugins with the
+ *     default paths, or with the output folder of the shard in shard mode.</li>
+ *     <li>Redirects the Extent reports of a shard to its output folder and enables the
+ *     Extent JSON archive used by {@link ReportMerger}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub.InvalidDataException} is thrown when the shard index or
+ *   total is not a number, or the index is outside 0 to total - 1.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The shard index is zero based. Every shard must see the same feature files and the
+ * same timing history to compute the same partition; without history all scenarios
+ * get the same estimate and are dealt out in scenario key order.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * mvn test -Dshard.index=0 -Dshard.total=3
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.0
+ */
+public final class ShardPlan {
+
+    // Logger instance for the ShardPlan class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(ShardPlan.class);
+
+    private ShardPlan() {
+    }
+
+    /**
+     * Checks whether the run is one shard of a sharded suite.
+     *
+     * @return true if {@code shard.total} is greater than one.
+     */
+    public static boolean isSharded() {
+        return getTotal() > 1;
+    }
+
+    /**
+     * Retrieves the zero based index of the shard.
+     *
+     * @return The shard index, 0 when the run is not sharded.
+     */
+    public static int getIndex() {
+        int index = readInt(SHARD_INDEX, 0);
+        int total = getTotal();
+        if (index < 0 || index >= total) {
+            throw new ExceptionHub.InvalidDataException(SHARD_INDEX + "=" + index + " for " + SHARD_TOTAL + "=" + total);
+        }
+        return index;
+    }
+
+    /**
+     * Retrieves the number of shards.
+     *
+     * @return The shard total, 1 when the run is not sharded.
+     */
+    public static int getTotal() {
+        int total = readInt(SHARD_TOTAL, 1);
+        if (total < 1) {
+            throw new ExceptionHub.InvalidDataException(SHARD_TOTAL + "=" + total);
+        }
+        return total;
+    }
+
+    /**
+     * Resolves a project relative output path, moving it into the output folder of the
+     * shard in shard mode so that shards never write the same file.
+     *
+     * @param projectPath The output path relative to the project root, starting with '/'.
+     * @return The absolute output path.
+     */
+    public static Path outputPath(String projectPath) {
+        if (!isSharded()) {
+            return Paths.get(CWD + projectPath);
+        }
+        return Paths.get(CWD + SHARD_OUTPUT_PATH + getIndex() + projectPath);
+    }
+
+    /**
+     * Selects the scenarios of this shard.
+     * <p>
+     * The scenarios are dealt out longest first, each to the shard with the least
+     * estimated work so far, lowest index first on ties.
+     * </p>
+     *
+     * @param scenarios The rows of the Cucumber data provider.
+     * @return The rows of this shard, or all rows when the run is not sharded.
+     */
+    public static Object[][] select(Object[][] scenarios) {
+        if (!isSharded()) {
+            return scenarios;
+        }
+        int total = getTotal();
+        int index = getIndex();
+        long[] loads = new long[total];
+        List<Object[]> selected = new ArrayList<>();
+        long selectedMillis = 0;
+        for (ScenarioScheduler.Estimate estimate : ScenarioScheduler.estimate(scenarios)) {
+            int shard = 0;
+            for (int candidate = 1; candidate < total; candidate++) {
+                if (loads[candidate] < loads[shard]) {
+                    shard = candidate;
+                }
+            }
+            loads[shard] += estimate.millis();
+            if (shard == index) {
+                selected.add(estimate.row());
+                selectedMillis += estimate.millis();
+            }
+        }
+        log.info("Shard {} of {} runs {} of {} scenarios, estimated {} s",
+                index, total, selected.size(), scenarios.length, selectedMillis / 1000);
+        return selected.toArray(Object[][]::new);
+    }
+
+    /**
+     * Registers the file based Cucumber report plugins and, in shard mode, redirects the
+     * Extent reports to the output folder of the shard.
+     * <p>
+     * The plugins are added to the {@code cucumber.plugin} system property, so this
+     * method must run before the Cucumber runner is created.
+     * </p>
+     */
+    public static void configureReports() {
+        String reportPath = isSharded() ? SHARD_OUTPUT_PATH.substring(1) + getIndex() + "/" : CUCUMBER_REPORT_PATH;
+        String plugins = String.join(",",
+                "html:" + reportPath + CUCUMBER_HTML_REPORT,
+                "json:" + reportPath + CUCUMBER_JSON_REPORT,
+                "junit:" + reportPath + CUCUMBER_JUNIT_REPORT);
+        String existing = System.getProperty(CUCUMBER_PLUGIN_PROPERTY);
+        System.setProperty(CUCUMBER_PLUGIN_PROPERTY,
+                existing == null || existing.isBlank() ? plugins : existing + "," + plugins);
+        if (isSharded()) {
+            System.setProperty(EXTENT_BASE_FOLDER, reportPath + EXTENT_SHARD_FOLDER);
+            System.setProperty(EXTENT_JSON_START, "true");
+            System.setProperty(EXTENT_JSON_OUT, EXTENT_JSON_REPORT);
+        }
+    }
+
+    private static int readInt(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException ex) {
+            throw new ExceptionHub.InvalidDataException(key, ex);
+        }
+    }
+
+}
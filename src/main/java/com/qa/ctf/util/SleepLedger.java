@@ -0,0 +1,117 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The SleepLedger class records every unconditional sleep performed by the framework
+ * and writes a migration report listing the call sites and the wall time they cost.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Identifies the caller of the sleeping method through the stack walker.</li>
+ *     <li>Aggregates the number of sleeps and the total sleep time per call site.</li>
+ *     <li>Registers the report, sorted by total cost, with the {@link PerfReportWriter}.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>Failures while writing the report are logged and never fail the test run.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * Only sleeps that actually execute during a run are recorded. The report is
+ * written to {@code target/perf/sleep-report.txt} and is meant to drive the
+ * migration to {@code WaitHandler.pauseUntil}.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * long start = System.nanoTime();
+ * Thread.sleep(WAIT_TIME);
+ * SleepLedger.record(WaitHandler.class, System.nanoTime() - start);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public class SleepLedger {
+
+    // Logger instance for the SleepLedger class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(SleepLedger.class);
+
+    // Number of sleeps recorded per call site
+    private static final Map<String, LongAdder> sleepCounts = new ConcurrentHashMap<>();
+
+    // Total nanoseconds slept per call site
+    private static final Map<String, LongAdder> sleepNanos = new ConcurrentHashMap<>();
+
+    static {
+        PerfReportWriter.register(SLEEP_REPORT_FILE_NAME, SleepLedger::getReportLines);
+    }
+
+    private SleepLedger() {
+    }
+
+    /**
+     * Records an unconditional sleep against the caller of the sleeping class.
+     *
+     * @param sleepingClass The class that performed the sleep, skipped when resolving the call site.
+     * @param nanos         The time slept, in nanoseconds.
+     */
+    public static void record(Class<?> sleepingClass, long nanos) {
+        String callSite = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+                .walk(frames -> frames
+                        .filter(frame -> frame.getDeclaringClass() != SleepLedger.class
+                                && frame.getDeclaringClass() != sleepingClass)
+                        .findFirst()
+                        .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                        .orElse("unknown"));
+        sleepCounts.computeIfAbsent(callSite, key -> new LongAdder()).increment();
+        sleepNanos.computeIfAbsent(callSite, key -> new LongAdder()).add(nanos);
+        log.warn("Unconditional sleep of '{}' ms at '{}'", nanos / 1_000_000, callSite);
+    }
+
+    /**
+     * Builds the sleep report, sorted by the total sleep time of each call site.
+     *
+     * @return The report lines, or an empty list if no sleep was recorded.
+     */
+    private static List<String> getReportLines() {
+        if (sleepCounts.isEmpty()) {
+            return List.of();
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("call site | sleeps | total ms");
+        long totalNanos = 0;
+        for (Map.Entry<String, LongAdder> entry : sortedByCost()) {
+            long nanos = entry.getValue().sum();
+            totalNanos += nanos;
+            lines.add(String.format("%s | %d | %d", entry.getKey(), sleepCounts.get(entry.getKey()).sum(),
+                    nanos / 1_000_000));
+        }
+        lines.add(String.format("TOTAL | %d call site(s) | %d", sleepCounts.size(), totalNanos / 1_000_000));
+        return lines;
+    }
+
+    /**
+     * Retrieves the recorded call sites ordered by descending total sleep time.
+     *
+     * @return The call sites and their total sleep time.
+     */
+    private static List<Map.Entry<String, LongAdder>> sortedByCost() {
+        List<Map.Entry<String, LongAdder>> entries = new ArrayList<>(sleepNanos.entrySet());
+        entries.sort((first, second) -> Long.compare(second.getValue().sum(), first.getValue().sum()));
+        return entries;
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.qa.ctf.util;
+
+import com.qa.ctf.constant.FullPageStrategy;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The StitchedFullPageCapture class captures the whole scrollable page on any browser
+ * by scrolling through the page and streaming the viewport screenshots into one PNG.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Scrolls one viewport at a time and waits for the next rendered frames instead
+ *     of a fixed sleep.</li>
+ *     <li>Streams the rows of each viewport screenshot into a {@link PngStreamWriter},
+ *     so that only one viewport bitmap is held in memory.</li>
+ *     <li>Handles device pixel ratios, taken from the page rather than from the
+ *     screenshot width, and the last, partially scrolled viewport.</li>
+ *     <li>Restores the scroll position and scroll behavior of the page afterward.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>{@link ExceptionHub.ScreenshotException} is thrown when a viewport screenshot
+ *   cannot be decoded or the image cannot be encoded.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The image has the width of the viewport. Elements fixed to the viewport, such as
+ * sticky headers, appear once per viewport.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * byte[] screenshot = new StitchedFullPageCapture().capture(driver);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public class StitchedFullPageCapture implements FullPageCapture {
+
+    // Reads the page height, viewport height, viewport width, scroll position, scroll behavior
+    // and device pixel ratio
+    private static final String PAGE_METRICS_SCRIPT = "var root = document.documentElement;"
+            + "return [Math.max(root.scrollHeight, document.body ? document.body.scrollHeight : 0),"
+            + " root.clientHeight, root.clientWidth, window.scrollY, root.style.scrollBehavior,"
+            + " window.devicePixelRatio];";
+
+    // Scrolls instantly and completes after two rendered frames, returning the actual scroll position
+    private static final String SCROLL_SCRIPT = "var done = arguments[arguments.length - 1];"
+            + "document.documentElement.style.scrollBehavior = 'auto';"
+            + "window.scrollTo(0, arguments[0]);"
+            + "requestAnimationFrame(function() { requestAnimationFrame(function() { done(window.scrollY); }); });";
+
+    // Restores the scroll position and scroll behavior of the page
+    private static final String RESTORE_SCRIPT = "window.scrollTo(0, arguments[0]);"
+            + "document.documentElement.style.scrollBehavior = arguments[1];";
+
+    @Override
+    public FullPageStrategy getStrategy() {
+        return FullPageStrategy.STITCH;
+    }
+
+    @Override
+    public boolean supports(WebDriver driver) {
+        return driver instanceof TakesScreenshot && driver instanceof JavascriptExecutor;
+    }
+
+    @Override
+    public byte[] capture(WebDriver driver) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        List<?> metrics = (List<?>) js.executeScript(PAGE_METRICS_SCRIPT);
+        long pageHeight = ((Number) metrics.get(0)).longValue();
+        long viewportHeight = Math.max(1, ((Number) metrics.get(1)).longValue());
+        long viewportWidth = Math.max(1, ((Number) metrics.get(2)).longValue());
+        Object originalScroll = metrics.get(3);
+        Object originalBehavior = metrics.get(4);
+        double pixelRatio = metrics.size() > 5 && metrics.get(5) instanceof Number ratio ? ratio.doubleValue() : 0;
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        try {
+            PngStreamWriter png = null;
+            int[] rowPixels = null;
+            int totalRows = 0;
+            double scale = 1;
+            long scrollY = 0;
+            while (png == null || png.getRowCount() < totalRows) {
+                long actualY = ((Number) js.executeAsyncScript(SCROLL_SCRIPT, scrollY)).longValue();
+                BufferedImage tile = decode(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+                if (png == null) {
+                    // The width ratio is only a fallback, as it is skewed by rounding and by a
+                    // scrollbar included in the screenshot but not in the client width
+                    scale = pixelRatio > 0 ? pixelRatio : (double) tile.getWidth() / viewportWidth;
+                    totalRows = (int) Math.max(1, Math.round(pageHeight * scale));
+                    png = new PngStreamWriter(image, tile.getWidth(), totalRows);
+                    rowPixels = new int[tile.getWidth()];
+                }
+                int tileTop = (int) Math.round(actualY * scale);
+                int lastRow = Math.min(tile.getHeight(), totalRows - tileTop);
+                for (int tileRow = Math.max(0, png.getRowCount() - tileTop); tileRow < lastRow; tileRow++) {
+                    tile.getRGB(0, tileRow, rowPixels.length, 1, rowPixels, 0, rowPixels.length);
+                    png.writeRow(rowPixels);
+                }
+                if (actualY + viewportHeight >= pageHeight || actualY < scrollY) {
+                    break;
+                }
+                // Step by the rows actually captured, so that no row is skipped due to rounding
+                scrollY = actualY + Math.max(1, (long) Math.floor(tile.getHeight() / scale));
+            }
+            // The page may have become shorter while it was scrolled, pad it with white rows
+            Arrays.fill(rowPixels, 0xFFFFFFFF);
+            while (png.getRowCount() < totalRows) {
+                png.writeRow(rowPixels);
+            }
+            png.close();
+        } catch (IOException ex) {
+            throw new ExceptionHub.ScreenshotException("Failed to stitch the full page screenshot", ex);
+        } finally {
+            js.executeScript(RESTORE_SCRIPT, originalScroll, originalBehavior == null ? "" : originalBehavior);
+        }
+        return image.toByteArray();
+    }
+
+    /**
+     * Decodes a viewport screenshot.
+     *
+     * @param screenshot The PNG bytes of the viewport.
+     * @return The decoded image.
+     * @throws IOException If the screenshot cannot be decoded.
+     */
+    private static BufferedImage decode(byte[] screenshot) throws IOException {
+        BufferedImage tile = ImageIO.read(new ByteArrayInputStream(screenshot));
+        if (tile == null) {
+            throw new IOException("Unsupported viewport screenshot format");
+        }
+        return tile;
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.qa.ctf.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * The TimingHistory class is a compact local store of the step, hook and scenario
+ * timings of previous runs, used to detect performance regressions of the suite and
+ * to schedule the longest scenarios first.
+ *
+ * <p>Features:
+ * <ul>
+ *     <li>Stores one tab-separated line per run and timed key, holding the count, p50
+ *     and p95 in milliseconds.</li>
+ *     <li>Keeps only the most recent runs, so the file stays small.</li>
+ *     <li>Computes a baseline per key as the median p50 and p95 over the latest runs.</li>
+ * </ul>
+ *
+ * <p>Exception Handling:
+ * <ul>
+ *   <li>A missing or unreadable history is treated as empty; failures while saving
+ *   are logged and never fail the test run.</li>
+ * </ul>
+ *
+ * <p>Note:
+ * The history is kept in {@code perf-history/timings.tsv} at the project root, outside
+ * {@code target}, so that it survives {@code mvn clean}. The folder is local to each
+ * machine and ignored by git, as timings of different machines are not comparable.
+ * Tabs and line breaks in keys are replaced with spaces.
+ *
+ * <p>Example:
+ * <pre>
+ * {@code
+ * TimingHistory history = TimingHistory.load();
+ * Map<String, TimingHistory.Baseline> baselines = history.getBaselines(TimingHistory.Type.STEP);
+ * }
+ * </pre>
+ *
+ * @author Jagatheshwaran N
+ * @version 1.1
+ */
+public final class TimingHistory {
+
+    // Logger instance for the TimingHistory class to enable logging during the execution
+    private static final Logger log = LogManager.getLogger(TimingHistory.class);
+
+    // Separator of the columns of the history file
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * Kind of timed item.
+     */
+    public enum Type {
+        STEP, HOOK, SCENARIO
+    }
+
+    /**
+     * Timings of one key in one run, in milliseconds.
+     *
+     * @param runId The identifier of the run.
+     * @param type  The kind of timed item.
+     * @param key   The step text, hook location or scenario key.
+     * @param count The number of executions in the run.
+     * @param p50   The median duration.
+     * @param p95   The 95th percentile duration.
+     */
+    public record Entry(String runId, Type type, String key, long count, long p50, long p95) {
+    }
+
+    /**
+     * Baseline of one key, in milliseconds.
+     *
+     * @param p50  The median of the p50 durations of the latest runs.
+     * @param p95  The median of the p95 durations of the latest runs.
+     * @param runs The number of runs the baseline is computed from.
+     */
+    public record Baseline(long p50, long p95, int runs) {
+    }
+
+    // Path of the history file
+    private final Path path;
+
+    // Entries of the stored runs, oldest first
+    private final List<Entry> entries;
+
+    private TimingHistory(Path path, List<Entry> entries) {
+        this.path = path;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the history from its default location.
+     *
+     * @return The history, empty if no run has been stored yet.
+     */
+    public static TimingHistory load() {
+        return load(Paths.get(CWD + TIMING_HISTORY_PATH));
+    }
+
+    /**
+     * Loads the history from the given file.
+     *
+     * @param path The path of the history file.
+     * @return The history, empty if the file does not exist or cannot be read.
+     */
+    public static TimingHistory load(Path path) {
+        List<Entry> entries = new ArrayList<>();
+        if (Files.exists(path)) {
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    String[] columns = line.split(SEPARATOR);
+                    if (columns.length == 6) {
+                        entries.add(new Entry(columns[0], Type.valueOf(columns[1]), columns[2],
+                                Long.parseLong(columns[3]), Long.parseLong(columns[4]), Long.parseLong(columns[5])));
+                    }
+                }
+            } catch (IOException | IllegalArgumentException ex) {
+                log.warn("Ignoring unreadable timing history {}: {}", path, ex.getMessage());
+                entries.clear();
+            }
+        }
+        return new TimingHistory(path, entries);
+    }
+
+    /**
+     * Builds the key of a scenario from its feature file, line and name.
+     *
+     * @param uri  The URI of the feature file.
+     * @param line The line of the scenario or example row.
+     * @param name The name of the scenario.
+     * @return The scenario key, stable across machines.
+     */
+    public static String scenarioKey(URI uri, int line, String name) {
+        String feature = Paths.get(CWD).toUri().relativize(uri).toString();
+        return feature + ":" + line + " " + name;
+    }
+
+    /**
+     * Computes the baseline of every key of the given type over the latest runs.
+     *
+     * @param type The kind of timed item.
+     * @return The baselines keyed by step text, hook location or scenario key.
+     */
+    public Map<String, Baseline> getBaselines(Type type) {
+        Set<String> latestRuns = getLatestRunIds(TIMING_BASELINE_RUNS);
+        Map<String, List<Entry>> byKey = entries.stream()
+                .filter(entry -> entry.type() == type && latestRuns.contains(entry.runId()))
+                .collect(Collectors.groupingBy(Entry::key));
+        Map<String, Baseline> baselines = new HashMap<>();
+        byKey.forEach((key, keyEntries) -> baselines.put(key, new Baseline(
+                median(keyEntries.stream().mapToLong(Entry::p50).sorted().toArray()),
+                median(keyEntries.stream().mapToLong(Entry::p95).sorted().toArray()),
+                keyEntries.size())));
+        return baselines;
+    }
+
+    /**
+     * Appends the entries of a run and saves the history, keeping only the most
+     * recent runs.
+     * <p>
+     * The file is locked and re-read before it is written, so that the shards of a
+     * sharded run can append to the same history concurrently.
+     * </p>
+     *
+     * @param runEntries The entries of the run.
+     */
+    public void append(List<Entry> runEntries) {
+        Path lockPath = path.resolveSibling(path.getFileName() + ".lock");
+        try {
+            Files.createDirectories(path.getParent());
+            try (FileChannel lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = lockChannel.lock();
+                try {
+                    entries.clear();
+                    entries.addAll(load(path).entries);
+                    entries.addAll(runEntries);
+                    Set<String> keptRuns = getLatestRunIds(TIMING_HISTORY_RUNS);
+                    entries.removeIf(entry -> !keptRuns.contains(entry.runId()));
+                    Files.write(path, entries.stream().map(TimingHistory::format).toList(), StandardCharsets.UTF_8);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to save the timing history {}: {}", path, ex.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the identifiers of the latest runs.
+     *
+     * @param runs The number of runs.
+     * @return The run identifiers.
+     */
+    private Set<String> getLatestRunIds(int runs) {
+        List<String> runIds = new ArrayList<>(entries.stream()
+                .map(Entry::runId)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+        return new LinkedHashSet<>(runIds.subList(Math.max(0, runIds.size() - runs), runIds.size()));
+    }
+
+    private static long median(long[] sortedValues) {
+        return sortedValues[sortedValues.length / 2];
+    }
+
+    private static String format(Entry entry) {
+        return String.join(SEPARATOR, entry.runId(), entry.type().name(),
+                entry.key().replaceAll("[\\t\\r\\n]", " "),
+                String.valueOf(entry.count()), String.valueOf(entry.p50()), String.valueOf(entry.p95()));
+    }
+
+}
@@ -1,12 +1,15 @@
 package com.qa.ctf.apis;
 
 import com.qa.ctf.constant.Endpoint;
+import io.restassured.http.Cookie;
 import io.restassured.http.Cookies;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class CartApi {
 
@@ -30,10 +33,22 @@ public class CartApi {
 
         Response response = ApiRequest.post(Endpoint.ADD_TO_CART.url, headers, formParams, cookies);
         if(response.getStatusCode() != 200) {
-            throw new RuntimeException("Failed to add product" + productId+ "to the cart"+", HTTP Status Code: "+response.getStatusCode());
+            response.then().log().all();
+            throw new RuntimeException("Failed to add product " + productId + " to the cart, HTTP Status Code: " + response.getStatusCode());
         }
-        this.cookies = response.getDetailedCookies();
+        this.cookies = mergeCookies(cookies, response.getDetailedCookies());
         return response;
     }
 
+    // The server only sends the cookies that changed, so the session cookie of an
+    // earlier response must be kept when the cart is updated again
+    private Cookies mergeCookies(Cookies current, Cookies updated) {
+        Map<String, Cookie> merged = new LinkedHashMap<>();
+        if (current != null) {
+            current.asList().forEach(cookie -> merged.put(cookie.getName(), cookie));
+        }
+        updated.asList().forEach(cookie -> merged.put(cookie.getName(), cookie));
+        return new Cookies(merged.values().toArray(new Cookie[0]));
+    }
+
 }
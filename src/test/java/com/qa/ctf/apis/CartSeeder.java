@@ -0,0 +1,32 @@
+package com.qa.ctf.apis;
+
+import io.restassured.http.Cookies;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CartSeeder {
+
+    // Quantities keyed by product id, in the order the products were added
+    private final Map<Integer, Integer> items = new LinkedHashMap<>();
+    private final Cookies cookies;
+
+    public CartSeeder(Cookies cookies) {
+        this.cookies = cookies;
+    }
+
+    public CartSeeder add(int productId, int quantity) {
+        items.merge(productId, quantity, Integer::sum);
+        return this;
+    }
+
+    // One request per product, sent back to back over the pooled keep-alive connection.
+    // The requests are not sent concurrently, as the server stores the whole cart per
+    // session and concurrent updates of the same session would overwrite each other.
+    public Cookies seed() {
+        CartApi cartApi = new CartApi(cookies);
+        items.forEach(cartApi::addToCart);
+        return cartApi.getCookies();
+    }
+
+}
@@ -1,24 +1,61 @@
 package com.qa.ctf.apis;
 
+import com.qa.ctf.util.ConfigSnapshot;
 import com.qa.ctf.util.FileReader;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+import static com.qa.ctf.constant.TestConstants.*;
 
 public class SpecBuilder {
 
+    // The specs are built once, on first use, and only read afterward
+    private static final class Specs {
+        private static final RequestSpecification requestSpec = buildRequestSpec();
+        private static final ResponseSpecification responseSpec = buildResponseSpec();
+    }
+
     public static RequestSpecification getRequestSpec() {
+        return Specs.requestSpec;
+    }
+
+    public static ResponseSpecification getResponseSpec() {
+        return Specs.responseSpec;
+    }
+
+    private static RequestSpecification buildRequestSpec() {
         return new RequestSpecBuilder()
-                .setBaseUri(FileReader.fetchDataFromPropFile("BaseURL"))
-                .log(LogDetail.ALL)
+                .setBaseUri(FileReader.fetchDataFromPropFile(BASE_URL))
+                .setConfig(buildConfig())
                 .build();
     }
 
-    public static ResponseSpecification getResponseSpec() {
+    // The spec holds no assertions, so each caller checks the status codes it expects
+    private static ResponseSpecification buildResponseSpec() {
         return new ResponseSpecBuilder()
-                .log(LogDetail.ALL)
                 .build();
     }
+
+    // Every request gets its own client, so no cookies or client parameters are shared
+    // between scenarios, while the keep-alive connections come from one shared pool
+    @SuppressWarnings("deprecation")
+    private static RestAssuredConfig buildConfig() {
+        ConfigSnapshot config = FileReader.getConfig();
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(config.getInt(API_POOL_MAX_TOTAL, DEFAULT_API_POOL_MAX_TOTAL));
+        connectionManager.setDefaultMaxPerRoute(config.getInt(API_POOL_MAX_PER_ROUTE, DEFAULT_API_POOL_MAX_PER_ROUTE));
+        return RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(() -> new DefaultHttpClient(connectionManager)))
+                .logConfig(LogConfig.logConfig()
+                        .enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL));
+    }
 }
@@ -1,10 +1,16 @@
 package com.qa.ctf.app;
 
+import com.qa.ctf.util.CdpSession;
 import com.qa.ctf.util.CookieUtil;
+import com.qa.ctf.util.FileReader;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.qa.ctf.constant.TestConstants.BASE_URL;
 
 public class Cookies {
 
@@ -29,4 +35,24 @@ public class Cookies {
         driver.navigate().refresh();
     }
 
+    // Sets all cookies in one DevTools command, which also works before the site is
+    // opened. Without DevTools, the cookies are added one by one on the site. The page
+    // is not refreshed, so the next navigation picks the cookies up.
+    public void applyToBrowser(WebDriver driver) {
+        String baseUrl = FileReader.fetchDataFromPropFile(BASE_URL);
+        Optional<CdpSession> session = CdpSession.of(driver);
+        if (session.isPresent()) {
+            session.get().send("Network.setCookies",
+                    Map.of("cookies", new CookieUtil().convertRestAssuredCookieToCdp(cookies, baseUrl)));
+            return;
+        }
+        String currentUrl = driver.getCurrentUrl();
+        if (currentUrl == null || !currentUrl.startsWith(baseUrl)) {
+            driver.get(baseUrl);
+        }
+        for (Cookie cookie : new CookieUtil().convertRestAssuredCookieToSelenium(cookies)) {
+            driver.manage().addCookie(cookie);
+        }
+    }
+
 }
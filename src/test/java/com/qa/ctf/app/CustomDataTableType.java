@@ -1,6 +1,7 @@
 package com.qa.ctf.app;
 
 import com.qa.ctf.data.BillingDetails;
+import com.qa.ctf.data.CartItem;
 import io.cucumber.java.DataTableType;
 
 import java.util.Map;
@@ -19,4 +20,12 @@ public class CustomDataTableType {
                 entry.get("email")
         );
     }
+
+    @DataTableType
+    public CartItem cartItem(Map<String, String> entry) {
+        return new CartItem(
+                Integer.parseInt(entry.get("product_id").strip()),
+                Integer.parseInt(entry.get("quantity").strip())
+        );
+    }
 }
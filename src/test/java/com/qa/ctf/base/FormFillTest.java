@@ -0,0 +1,86 @@
+package com.qa.ctf.base;
+
+import com.qa.ctf.context.TestContext;
+import com.qa.ctf.handler.VerificationHandler;
+import com.qa.ctf.handler.WaitHandler;
+import com.qa.ctf.support.LocalBrowser;
+import com.qa.ctf.util.ExceptionHub;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tests of the single-script form fill of {@link PageComponent} against a local HTML
+ * fixture. Skipped on machines without Chrome.
+ */
+public class FormFillTest {
+
+    private WebDriver driver;
+    private PageComponent pageComponent;
+
+    @BeforeClass
+    public void startBrowser() {
+        driver = LocalBrowser.launchOrSkip();
+        TestContext testContext = LocalBrowser.contextOf(driver);
+        pageComponent = new PageComponent(testContext,
+                new VerificationHandler(testContext, new WaitHandler(testContext)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopBrowser() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    @BeforeMethod
+    public void loadFixture() {
+        driver.get(Objects.requireNonNull(getClass().getResource("/fixtures/checkout-form.html")).toString());
+    }
+
+    @Test
+    public void fillsTextFieldsAndSelectsOptionIgnoringCaseAndSpaces() {
+        pageComponent.fillForm(List.of(
+                FormField.of(field("first-name"), "Jane", "First Name"),
+                FormField.of(field("last-name"), "Doe", "Last Name"),
+                FormField.of(field("notes"), "Leave at the door", "Notes"),
+                FormField.of(field("state"), "new york", "State")), false);
+
+        Assert.assertEquals(field("first-name").getDomProperty("value"), "Jane");
+        Assert.assertEquals(field("last-name").getDomProperty("value"), "Doe");
+        Assert.assertEquals(field("notes").getDomProperty("value"), "Leave at the door");
+        Assert.assertEquals(new Select(field("state")).getFirstSelectedOption().getDomAttribute("value"), "New York");
+        Assert.assertEquals(((JavascriptExecutor) driver).executeScript("return window.changes"),
+                List.of("first-name", "last-name", "notes", "state"));
+    }
+
+    @Test
+    public void missingOptionFailsWithoutFillingAnything() {
+        Assert.assertThrows(ExceptionHub.OptionNotFoundException.class, () -> pageComponent.fillForm(List.of(
+                FormField.of(field("first-name"), "Jane", "First Name"),
+                FormField.of(field("state"), "Atlantis", "State")), false));
+
+        Assert.assertEquals(field("first-name").getDomProperty("value"), "", "Form was partly filled");
+    }
+
+    @Test
+    public void hiddenFieldFails() {
+        Assert.assertThrows(ExceptionHub.ElementNotFoundException.class, () -> pageComponent.fillForm(List.of(
+                FormField.of(field("hidden-field"), "value", "Hidden Field")), false));
+    }
+
+    private WebElement field(String id) {
+        return driver.findElement(By.id(id));
+    }
+
+}
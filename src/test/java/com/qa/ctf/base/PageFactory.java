@@ -42,7 +42,7 @@ public class PageFactory {
             ThreadLocal.withInitial(() -> new InteractionHandler(getTestContext(), getVerificationHelper()));
 
     private static final ThreadLocal<VerificationHandler> verificationHelperThreadLocal =
-            ThreadLocal.withInitial(() -> new VerificationHandler(getTestContext()));
+            ThreadLocal.withInitial(() -> new VerificationHandler(getTestContext(), getWaitHandler()));
 
     private static final ThreadLocal<WaitHandler> waitHandlerThreadLocal =
             ThreadLocal.withInitial(() -> new WaitHandler(getTestContext()));
@@ -122,7 +122,8 @@ public class PageFactory {
 //        return storePageThreadLocal.get();
 //    }
 
-    private static WebDriver lastUsedDriver = null;
+    // Driver last used to build the StorePage, tracked per thread so parallel scenarios never see each other's
+    private static final ThreadLocal<WebDriver> lastUsedDriver = new ThreadLocal<>();
 
     public static StorePage getStorePage(WebDriver driver) {
         if (driver == null) {
@@ -130,9 +131,9 @@ public class PageFactory {
         }
 
         // Reset StorePage if the driver has changed
-        if (storePageThreadLocal.get() == null || driver != lastUsedDriver) {
+        if (storePageThreadLocal.get() == null || driver != lastUsedDriver.get()) {
             storePageThreadLocal.set(new StorePage(driver));
-            lastUsedDriver = driver; // Track the latest driver
+            lastUsedDriver.set(driver); // Track the latest driver
         }
 
         return storePageThreadLocal.get();
@@ -146,8 +147,21 @@ public class PageFactory {
         return checkoutPageThreadLocal.get();
     }
 
+    // Clears every per-thread instance, since handlers and pages hold the TestContext of the finished scenario
     public static void resetThreadLocal() {
         storePageThreadLocal.remove();
+        lastUsedDriver.remove();
+        cartPageThreadLocal.remove();
+        checkoutPageThreadLocal.remove();
+        pageComponentThreadLocal.remove();
+        datePickerHandlerThreadLocal.remove();
+        dropDownHandlerThreadLocal.remove();
+        interactionHandlerThreadLocal.remove();
+        verificationHelperThreadLocal.remove();
+        waitHandlerThreadLocal.remove();
+        encryptionManagerThreadLocal.remove();
+        testContextThreadLocal.remove();
+        PageComponent.clearAnyElement();
     }
 
 }
@@ -0,0 +1,102 @@
+package com.qa.ctf.base;
+
+import com.qa.ctf.context.TestContext;
+import com.qa.ctf.pages.StorePage;
+import com.qa.ctf.support.FakeWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stress test running scenarios on parallel threads against fake drivers, checking that
+ * the per-thread state of {@link PageFactory} and {@link PageComponent} never leaks
+ * between threads or into the next scenario of a thread.
+ */
+public class ThreadConfinementTest {
+
+    // Number of scenario threads
+    private static final int THREADS = 8;
+
+    // Number of scenarios run by every thread
+    private static final int SCENARIOS = 25;
+
+    @Test
+    public void parallelScenariosOnlySeeTheirOwnState() throws Exception {
+        Queue<String> leaks = new ConcurrentLinkedQueue<>();
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> threads = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int threadIndex = thread;
+                threads.add(executor.submit(() -> {
+                    for (int scenario = 0; scenario < SCENARIOS; scenario++) {
+                        runScenario("t" + threadIndex + "-s" + scenario, barrier, leaks);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> thread : threads) {
+                thread.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(leaks.isEmpty(), "State leaked between scenarios: " + leaks);
+    }
+
+    private void runScenario(String scenarioId, CyclicBarrier barrier, Queue<String> leaks) throws Exception {
+        FakeWebDriver driver = new FakeWebDriver();
+        TestContext testContext = new TestContext();
+        testContext.setDriver(driver);
+        new PageFactory().setTestContext(testContext);
+        Assert.assertTrue(PageComponent.getAnyElement().isEmpty(),
+                scenarioId + " started with stored objects " + PageComponent.getAnyElement());
+
+        PageComponent.setAnyElement("scenario", scenarioId);
+        StorePage storePage = PageFactory.getStorePage(driver);
+
+        // Every thread has built its state before any of them checks it
+        barrier.await(30, TimeUnit.SECONDS);
+
+        Map<String, String> anyElement = PageComponent.getAnyElement();
+        if (!Map.of("scenario", scenarioId).equals(anyElement)) {
+            leaks.add(scenarioId + " stored objects " + anyElement);
+        }
+        if (PageFactory.getStorePage(driver) != storePage) {
+            leaks.add(scenarioId + " got another StorePage for the same driver");
+        }
+        storePage.load(scenarioId);
+        if (!driver.getCurrentUrl().endsWith(scenarioId)) {
+            leaks.add(scenarioId + " StorePage navigated another driver");
+        }
+        AtomicReference<WebDriver> waitDriver = new AtomicReference<>();
+        PageFactory.getWaitHandler().pauseUntil(wd -> {
+            waitDriver.set(wd);
+            return true;
+        }, Duration.ofSeconds(1));
+        if (waitDriver.get() != driver) {
+            leaks.add(scenarioId + " WaitHandler uses " + waitDriver.get());
+        }
+        if (PageFactory.getVerificationHelper() != PageFactory.getVerificationHelper()) {
+            leaks.add(scenarioId + " VerificationHandler is not kept for the scenario");
+        }
+
+        barrier.await(30, TimeUnit.SECONDS);
+        PageFactory.resetThreadLocal();
+    }
+
+}
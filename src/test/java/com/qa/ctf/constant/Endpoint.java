@@ -5,6 +5,7 @@ public enum Endpoint {
     STORE("/store"),
     ACCOUNT("/account"),
     ADD_TO_CART("/?wc-ajax=add_to_cart"),
+    CART("/cart"),
     CHECKOUT("/checkout");
 
     public final String url;
@@ -0,0 +1,94 @@
+package com.qa.ctf.factory;
+
+import com.qa.ctf.support.FakeWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Unit tests of {@link DriverPipeline} against fake drivers.
+ */
+public class DriverPipelineTest {
+
+    @Test
+    public void takeLaunchesTheNextBrowserAhead() throws InterruptedException {
+        List<FakeWebDriver> launched = new CopyOnWriteArrayList<>();
+        DriverPipeline pipeline = new DriverPipeline(() -> record(launched, new FakeWebDriver()), Duration.ofSeconds(5));
+
+        WebDriver first = pipeline.take();
+        awaitTrue(() -> launched.size() == 2, "The next browser was not launched ahead");
+        WebDriver second = pipeline.take();
+
+        Assert.assertSame(first, launched.get(0));
+        Assert.assertSame(second, launched.get(1), "The browser launched ahead should be taken");
+        pipeline.reap(first);
+        pipeline.reap(second);
+    }
+
+    @Test
+    public void deadSpareIsReplacedOnTheCallingThread() throws InterruptedException {
+        List<FakeWebDriver> launched = new CopyOnWriteArrayList<>();
+        DriverPipeline pipeline = new DriverPipeline(() -> record(launched, new FakeWebDriver()), Duration.ofSeconds(5));
+        WebDriver first = pipeline.take();
+        awaitTrue(() -> launched.size() == 2, "The next browser was not launched ahead");
+
+        launched.get(1).quit();
+        FakeWebDriver second = (FakeWebDriver) pipeline.take();
+
+        Assert.assertNotSame(second, launched.get(1), "A dead spare should not be handed out");
+        Assert.assertEquals(second.getQuitCount(), 0);
+        Assert.assertTrue(pipeline.getStatistics().contains("fallbacks=1"), pipeline.getStatistics());
+        pipeline.reap(first);
+        pipeline.reap(second);
+    }
+
+    @Test
+    public void failedBackgroundLaunchFallsBackToTheCallingThread() {
+        AtomicInteger attempts = new AtomicInteger();
+        DriverPipeline pipeline = new DriverPipeline(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("browser failed to start");
+            }
+            return new FakeWebDriver();
+        }, Duration.ofSeconds(5));
+
+        WebDriver driver = pipeline.take();
+
+        Assert.assertNotNull(driver);
+        Assert.assertTrue(pipeline.getStatistics().contains("fallbacks=1"), pipeline.getStatistics());
+        pipeline.reap(driver);
+    }
+
+    @Test
+    public void reapQuitsInTheBackground() throws InterruptedException {
+        DriverPipeline pipeline = new DriverPipeline(FakeWebDriver::new, Duration.ofSeconds(5));
+        FakeWebDriver driver = (FakeWebDriver) pipeline.take();
+
+        pipeline.reap(driver);
+
+        awaitTrue(() -> driver.getQuitCount() == 1, "The reaped browser was not quit");
+    }
+
+    private static FakeWebDriver record(List<FakeWebDriver> launched, FakeWebDriver driver) {
+        launched.add(driver);
+        return driver;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String message) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail(message);
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+}
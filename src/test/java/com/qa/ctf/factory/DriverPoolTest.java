@@ -0,0 +1,66 @@
+package com.qa.ctf.factory;
+
+import com.qa.ctf.support.FakeWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests of {@link DriverPool} against fake drivers.
+ */
+public class DriverPoolTest {
+
+    private final List<DriverPool> driverPools = new ArrayList<>();
+
+    @AfterMethod(alwaysRun = true)
+    public void shutdownPools() {
+        driverPools.forEach(DriverPool::shutdown);
+        driverPools.clear();
+    }
+
+    private DriverPool newPool(int capacity, int maxReuse) {
+        DriverPool driverPool = new DriverPool(FakeWebDriver::new, capacity, maxReuse,
+                Duration.ofMinutes(5), Duration.ofSeconds(30));
+        driverPools.add(driverPool);
+        return driverPool;
+    }
+
+    @Test
+    public void discardedSessionWakesWaitingLease() throws Exception {
+        DriverPool driverPool = newPool(1, 1);
+        FakeWebDriver first = (FakeWebDriver) driverPool.lease();
+
+        CompletableFuture<WebDriver> waiting = CompletableFuture.supplyAsync(driverPool::lease);
+        TimeUnit.MILLISECONDS.sleep(300);
+        Assert.assertFalse(waiting.isDone(), "Lease should wait while the only slot is leased");
+
+        // The first session reached its max reuse, so releasing it discards it and frees the slot
+        long start = System.nanoTime();
+        driverPool.release(first);
+        WebDriver second = waiting.get(5, TimeUnit.SECONDS);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(first.getQuitCount(), 1, "Discarded session should be quit");
+        Assert.assertNotSame(second, first, "Waiting lease should get a newly launched session");
+        Assert.assertTrue(waitedMillis < 1000, "Waiting lease took " + waitedMillis + " ms after the discard");
+        driverPool.release(second);
+    }
+
+    @Test
+    public void releasedSessionIsReusedUpToMaxReuse() {
+        DriverPool driverPool = newPool(1, 3);
+        FakeWebDriver first = (FakeWebDriver) driverPool.lease();
+        driverPool.release(first);
+
+        Assert.assertSame(driverPool.lease(), first, "Released session should be leased again");
+        Assert.assertEquals(first.getQuitCount(), 0, "Reused session should not be quit");
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.qa.ctf.handler;
+
+import com.qa.ctf.support.LocalBrowser;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * Tests of the MutationObserver and page source modes of the DOM stability wait of
+ * {@link WaitHandler} against a heavy local HTML fixture, reporting the time and the
+ * payload of each mode. Skipped on machines without Chrome.
+ */
+public class DomStabilityTest {
+
+    // Time the fixture keeps toggling an attribute in the attribute-only test
+    private static final long ATTRIBUTE_CHURN_MILLIS = 1500;
+
+    // Quiet window of the waits under test
+    private static final Duration QUIET_WINDOW = Duration.ofMillis(DOM_QUIET_WINDOW);
+
+    private WebDriver driver;
+    private WaitHandler waitHandler;
+
+    @BeforeClass
+    public void startBrowser() {
+        driver = LocalBrowser.launchOrSkip();
+        waitHandler = new WaitHandler(LocalBrowser.contextOf(driver));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopBrowser() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    @Test
+    public void observerSettlesWithAFractionOfThePageSourcePayload() {
+        loadFixture();
+        WaitHandler.DomStability observer = waitHandler.waitForMutationsToSettle(QUIET_WINDOW);
+        Assert.assertNotNull(script("return window.settledAt"), "MutationObserver mode settled while rows were added");
+        report("MutationObserver", observer);
+
+        loadFixture();
+        WaitHandler.DomStability pageSource = waitHandler.waitForPageSourceToBeStable();
+        Assert.assertNotNull(script("return window.settledAt"), "Page source mode settled while rows were added");
+        report("PageSource", pageSource);
+
+        long sourceLength = Objects.requireNonNull(driver.getPageSource()).length();
+        Reporter.log("Page source length: " + sourceLength + " chars", true);
+        Assert.assertTrue(pageSource.payload() >= sourceLength * 2,
+                "Page source mode should fetch the whole page on every poll, got " + pageSource.payload());
+        Assert.assertTrue(observer.payload() * 100 < pageSource.payload(),
+                "MutationObserver payload " + observer.payload() + " is not far below " + pageSource.payload());
+    }
+
+    @Test
+    public void attributeOnlyChangeKeepsObserverWaiting() {
+        loadFixture();
+        waitHandler.waitForMutationsToSettle(QUIET_WINDOW);
+
+        script("window.churnAttribute(arguments[0])", ATTRIBUTE_CHURN_MILLIS);
+        long start = System.nanoTime();
+        waitHandler.waitForMutationsToSettle(QUIET_WINDOW);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertNotNull(script("return window.attributeChurnEndedAt"),
+                "MutationObserver mode settled while an attribute was still changing");
+        Assert.assertTrue(elapsedMillis >= ATTRIBUTE_CHURN_MILLIS,
+                "MutationObserver mode settled after only " + elapsedMillis + " ms");
+    }
+
+    private void loadFixture() {
+        driver.get(Objects.requireNonNull(getClass().getResource("/fixtures/heavy-dom.html")).toString());
+    }
+
+    private Object script(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+
+    private static void report(String mode, WaitHandler.DomStability stability) {
+        Reporter.log(String.format("%s: settled in %d ms, %d polls, %d chars exchanged (%d per poll)", mode,
+                stability.millis(), stability.polls(), stability.payload(),
+                stability.payload() / Math.max(1, stability.polls())), true);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.qa.ctf.handler;
+
+import com.qa.ctf.context.TestContext;
+import com.qa.ctf.support.LocalBrowser;
+import com.qa.ctf.util.ExceptionHub;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Parity tests of the single-script {@link DropDownHandler} operations against the
+ * per-option WebDriver calls they replaced, on a local HTML fixture. Skipped on
+ * machines without Chrome.
+ */
+public class DropDownParityTest {
+
+    private WebDriver driver;
+    private DropDownHandler dropDownHandler;
+
+    @BeforeClass
+    public void startBrowser() {
+        driver = LocalBrowser.launchOrSkip();
+        TestContext testContext = LocalBrowser.contextOf(driver);
+        dropDownHandler = new DropDownHandler(testContext,
+                new VerificationHandler(testContext, new WaitHandler(testContext)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopBrowser() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    @BeforeMethod
+    public void loadFixture() {
+        driver.get(Objects.requireNonNull(getClass().getResource("/fixtures/checkout-form.html")).toString());
+    }
+
+    @Test
+    public void allDropdownValuesMatchOptionTexts() {
+        WebElement state = driver.findElement(By.id("state"));
+        List<String> expected = state.findElements(By.tagName("option")).stream().map(WebElement::getText).toList();
+
+        Assert.assertEquals(dropDownHandler.getAllDropdownValues(state, "State"), expected);
+    }
+
+    @DataProvider
+    public Object[][] countries() {
+        return new Object[][]{{"India"}, {"canada"}, {"United Kingdom"}, {"UNITED STATES (US)"}};
+    }
+
+    @Test(dataProvider = "countries")
+    public void selectDropdownOptionPicksTheOptionTheTextLoopPicked(String country) {
+        WebElement toggle = driver.findElement(By.id("country-toggle"));
+        WebElement list = driver.findElement(By.id("country-list"));
+        List<WebElement> options = list.findElements(By.tagName("li"));
+
+        dropDownHandler.selectDropdownOption(toggle, list, options, country, "Country");
+
+        // Selection by the getText loop that the single script replaced, on the reopened list
+        toggle.click();
+        String expected = options.stream().map(WebElement::getText)
+                .filter(text -> text.equalsIgnoreCase(country)).findFirst().orElseThrow();
+        Assert.assertEquals(toggle.getText(), expected);
+    }
+
+    @Test
+    public void selectDropdownOptionFailsForMissingOption() {
+        WebElement toggle = driver.findElement(By.id("country-toggle"));
+        WebElement list = driver.findElement(By.id("country-list"));
+
+        Assert.assertThrows(ExceptionHub.OptionNotFoundException.class, () -> dropDownHandler.selectDropdownOption(
+                toggle, list, list.findElements(By.tagName("li")), "Atlantis", "Country"));
+    }
+
+}
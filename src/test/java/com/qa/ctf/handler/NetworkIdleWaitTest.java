@@ -0,0 +1,155 @@
+package com.qa.ctf.handler;
+
+import com.qa.ctf.support.LocalBrowser;
+import com.qa.ctf.util.CdpSession;
+import com.qa.ctf.util.ExceptionHub;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * Tests of the network idle wait of {@link WaitHandler} against a local stub server
+ * whose pages issue deliberately delayed XHRs. Skipped on machines without Chrome.
+ */
+public class NetworkIdleWaitTest {
+
+    // Delay of the XHR issued by the delayed page
+    private static final long XHR_DELAY_MILLIS = 1500;
+
+    // Quiet window of the waits under test
+    private static final long QUIET_MILLIS = 300;
+
+    // Page issuing one delayed XHR after the load event and flagging when it completes
+    private static final String DELAYED_PAGE = "<html><body><script>"
+            + "window.addEventListener('load', function () {"
+            + "  var xhr = new XMLHttpRequest();"
+            + "  xhr.onloadend = function () { window.__xhrDone = true; };"
+            + "  xhr.open('GET', '/slow'); xhr.send();"
+            + "});</script></body></html>";
+
+    // Page issuing an XHR that is never answered while the test runs, like a long poll
+    private static final String HANGING_PAGE = "<html><body><script>"
+            + "window.addEventListener('load', function () {"
+            + "  var xhr = new XMLHttpRequest(); xhr.open('GET', '/hang'); xhr.send();"
+            + "});</script></body></html>";
+
+    // Released when the test class finishes, answering the hanging XHRs
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+    private String baseUrl;
+    private WebDriver driver;
+    private WaitHandler waitHandler;
+
+    @BeforeClass
+    public void startServerAndBrowser() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/delayed", exchange -> respond(exchange, DELAYED_PAGE));
+        server.createContext("/hanging", exchange -> respond(exchange, HANGING_PAGE));
+        server.createContext("/slow", exchange -> {
+            pause(XHR_DELAY_MILLIS);
+            respond(exchange, "{}");
+        });
+        server.createContext("/hang", exchange -> {
+            awaitRelease();
+            respond(exchange, "{}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        driver = LocalBrowser.launchOrSkip();
+        waitHandler = new WaitHandler(LocalBrowser.contextOf(driver));
+        // The monitor only sees requests sent after it is attached, as in DriverFactory
+        CdpSession.of(driver).orElseThrow().getNetworkMonitor();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServerAndBrowser() {
+        release.countDown();
+        if (driver != null) {
+            CdpSession.release(driver);
+            driver.quit();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void networkIdleWaitsForDelayedXhr() {
+        long start = System.nanoTime();
+        driver.get(baseUrl + "/delayed");
+        waitHandler.waitForNetworkIdle(QUIET_MILLIS, 0);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(((JavascriptExecutor) driver).executeScript("return window.__xhrDone === true"), true,
+                "Network idle wait returned before the delayed XHR completed");
+        Assert.assertTrue(elapsedMillis >= XHR_DELAY_MILLIS + QUIET_MILLIS,
+                "Network idle wait returned after only " + elapsedMillis + " ms");
+    }
+
+    @Test
+    public void pageLoadToleratesHangingXhrButStrictWaitDoesNot() {
+        driver.get(baseUrl + "/hanging");
+        long start = System.nanoTime();
+        waitHandler.waitForPageToLoad();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue(elapsedMillis < NETWORK_QUIET_WINDOW,
+                "Page load waited '" + elapsedMillis + "' ms for the network");
+
+        Assert.assertThrows(ExceptionHub.TimeoutException.class, () -> waitHandler.waitForNetworkIdle(QUIET_MILLIS, 0));
+        waitHandler.waitForNetworkIdle(QUIET_MILLIS, 1);
+    }
+
+    @Test
+    public void defaultNetworkIdleWaitAllowsLongPollWithinShortCap() {
+        driver.get(baseUrl + "/hanging");
+        long start = System.nanoTime();
+        waitHandler.waitForNetworkIdle();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue(elapsedMillis < NETWORK_IDLE_TIMEOUT + NETWORK_QUIET_WINDOW,
+                "Default network idle wait took '" + elapsedMillis + "' ms");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", body.startsWith("<") ? "text/html" : "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+}
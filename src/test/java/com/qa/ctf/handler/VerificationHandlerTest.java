@@ -0,0 +1,117 @@
+package com.qa.ctf.handler;
+
+import com.qa.ctf.context.TestContext;
+import com.qa.ctf.support.FakeWebDriver;
+import com.qa.ctf.support.LocalBrowser;
+import com.qa.ctf.util.ExceptionHub;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Unit tests of the batch element state read and the shared wait handler of
+ * {@link VerificationHandler} against a fake driver answering the state script.
+ */
+public class VerificationHandlerTest {
+
+    // Verifications measured per approach in the allocation test
+    private static final int VERIFICATIONS = 500;
+
+    @Test
+    public void readsStatesOfDisplayedElements() {
+        VerificationHandler verificationHandler = handlerAnswering(List.of(
+                List.of(true, "Blue Shoes", ""), List.of(true, "", "2")));
+
+        Map<String, ElementState> states = verificationHandler.readElementStates(elements("Name", "Quantity"));
+
+        Assert.assertEquals(states.get("Name").getText(), "Blue Shoes");
+        Assert.assertEquals(states.get("Quantity").getValue(), "2");
+    }
+
+    @Test
+    public void hiddenElementFailsWithItsLabel() {
+        VerificationHandler verificationHandler = handlerAnswering(List.of(
+                List.of(true, "Blue Shoes", ""), List.of(false, "", "")));
+
+        ExceptionHub.ElementNotFoundException ex = Assert.expectThrows(ExceptionHub.ElementNotFoundException.class,
+                () -> verificationHandler.readElementStates(elements("Name", "Quantity")));
+        Assert.assertTrue(ex.getMessage().contains("'Quantity'"), ex.getMessage());
+    }
+
+    @Test
+    public void waitHandlerIsCreatedOnceAndSharedAcrossThreads() {
+        VerificationHandler verificationHandler = new VerificationHandler(LocalBrowser.contextOf(new FakeWebDriver()));
+
+        WaitHandler otherThread = CompletableFuture.supplyAsync(verificationHandler::getWaitHandler).join();
+
+        Assert.assertNotNull(verificationHandler.getWaitHandler());
+        Assert.assertSame(otherThread, verificationHandler.getWaitHandler());
+    }
+
+    @Test
+    public void sharedWaitHandlerAllocatesLessPerVerification() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean)
+                || !threadBean.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Thread allocation measurement is not supported by this JVM");
+        }
+        TestContext testContext = LocalBrowser.contextOf(new FakeWebDriver());
+        VerificationHandler shared = new VerificationHandler(testContext);
+        WebElement element = displayedElement();
+        // Warm up both paths so class loading and JIT allocations are not measured
+        for (int i = 0; i < VERIFICATIONS; i++) {
+            shared.isElementDisplayed(element, "Name");
+            new VerificationHandler(testContext).isElementDisplayed(element, "Name");
+        }
+
+        long start = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < VERIFICATIONS; i++) {
+            new VerificationHandler(testContext).isElementDisplayed(element, "Name");
+        }
+        long perHandlerBytes = (threadBean.getCurrentThreadAllocatedBytes() - start) / VERIFICATIONS;
+        start = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < VERIFICATIONS; i++) {
+            shared.isElementDisplayed(element, "Name");
+        }
+        long sharedBytes = (threadBean.getCurrentThreadAllocatedBytes() - start) / VERIFICATIONS;
+
+        Reporter.log(String.format("Bytes allocated per verification: new handlers %d, shared handler %d, saved %d",
+                perHandlerBytes, sharedBytes, perHandlerBytes - sharedBytes), true);
+        Assert.assertTrue(sharedBytes < perHandlerBytes,
+                "Shared handler allocated " + sharedBytes + " bytes, new handlers " + perHandlerBytes);
+    }
+
+    private static WebElement displayedElement() {
+        return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isDisplayed" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "displayed element";
+                    default -> null;
+                });
+    }
+
+    private static VerificationHandler handlerAnswering(List<?> states) {
+        FakeWebDriver driver = new FakeWebDriver((script, args) -> states);
+        return new VerificationHandler(LocalBrowser.contextOf(driver), new WaitHandler(LocalBrowser.contextOf(driver)));
+    }
+
+    private static Map<String, WebElement> elements(String... labels) {
+        // The fake driver does not look at the elements, only at how many states it returns
+        Map<String, WebElement> elements = new LinkedHashMap<>();
+        for (String label : labels) {
+            elements.put(label, null);
+        }
+        return elements;
+    }
+
+}
@@ -1,10 +1,13 @@
 package com.qa.ctf.objects;
 
 import com.qa.ctf.base.BasePage;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.List;
+
 public class CartPageObject extends BasePage {
 
     @FindBy(css = "td[class='product-name'] a")
@@ -19,6 +22,13 @@ public class CartPageObject extends BasePage {
     protected WebElement proceedToCheckoutBtn;
     protected String proceedToCheckoutBtnLabel = "Proceed To Checkout Button";
 
+    @FindBy(css = "tr.cart_item")
+    protected List<WebElement> cartItemRows;
+
+    // Locators within a cart item row
+    protected By cartItemRemoveLink = By.cssSelector("a.remove");
+    protected By cartItemQuantityFld = By.cssSelector("input.qty");
+
     public CartPageObject(WebDriver driver) {
         super(driver);
     }
@@ -47,4 +57,16 @@ public class CartPageObject extends BasePage {
         return proceedToCheckoutBtnLabel;
     }
 
+    public List<WebElement> getCartItemRows() {
+        return cartItemRows;
+    }
+
+    public By getCartItemRemoveLink() {
+        return cartItemRemoveLink;
+    }
+
+    public By getCartItemQuantityFld() {
+        return cartItemQuantityFld;
+    }
+
 }
@@ -2,9 +2,14 @@ package com.qa.ctf.pages;
 
 import com.qa.ctf.base.PageComponent;
 import com.qa.ctf.base.PageFactory;
+import com.qa.ctf.handler.ElementState;
 import com.qa.ctf.handler.VerificationHandler;
 import com.qa.ctf.objects.CartPageObject;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class CartPage extends CartPageObject {
 
@@ -25,6 +30,24 @@ public class CartPage extends CartPageObject {
         return Integer.parseInt(verificationHandler.readValueFromInput(getProductQuantityFld(), getProductQuantityFldLabel()));
     }
 
+    public Map<String, ElementState> getProductLine() {
+        Map<String, WebElement> productLine = new LinkedHashMap<>();
+        productLine.put(getProductNameFldLabel(), getProductNameFld());
+        productLine.put(getProductQuantityFldLabel(), getProductQuantityFld());
+        return verificationHandler.readElementStates(productLine);
+    }
+
+    // Quantities keyed by the product id of the remove link of each cart row
+    public Map<Integer, Integer> getCartQuantities() {
+        Map<Integer, Integer> quantities = new LinkedHashMap<>();
+        for (WebElement row : getCartItemRows()) {
+            String productId = row.findElement(getCartItemRemoveLink()).getDomAttribute("data-product_id");
+            String quantity = row.findElement(getCartItemQuantityFld()).getDomProperty("value");
+            quantities.merge(Integer.parseInt(productId.strip()), Integer.parseInt(quantity.strip()), Integer::sum);
+        }
+        return quantities;
+    }
+
     public void checkout() {
         pageComponent.clickElement(getProceedToCheckoutBtn(), getProceedToCheckoutBtnLabel());
     }
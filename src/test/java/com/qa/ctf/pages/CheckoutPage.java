@@ -1,5 +1,6 @@
 package com.qa.ctf.pages;
 
+import com.qa.ctf.base.FormField;
 import com.qa.ctf.base.PageComponent;
 import com.qa.ctf.base.PageFactory;
 import com.qa.ctf.data.BillingDetails;
@@ -8,6 +9,9 @@ import com.qa.ctf.handler.VerificationHandler;
 import com.qa.ctf.objects.CheckoutPageObject;
 import org.openqa.selenium.WebDriver;
 
+import java.util.List;
+import java.util.Map;
+
 public class CheckoutPage  extends CheckoutPageObject {
 
     private final VerificationHandler verificationHandler;
@@ -27,7 +31,7 @@ public class CheckoutPage  extends CheckoutPageObject {
     }
 
     public CheckoutPage enterBillingLastName(String billingLastName) {
-        pageComponent.typeText(getBillLastNameFld(), billingLastName, getBillFirstNameFldLabel());
+        pageComponent.typeText(getBillLastNameFld(), billingLastName, getBillLastNameFldLabel());
         return this;
     }
 
@@ -57,13 +61,15 @@ public class CheckoutPage  extends CheckoutPageObject {
     }
 
     public CheckoutPage setBillingDetails(BillingDetails billingDetails) {
-        return enterBillingFirstName(billingDetails.getBillingFirstName())
-                .enterBillingLastName(billingDetails.getBillingLastName())
-                .enterBillingAddress(billingDetails.getBillingAddressLine())
-                .enterBillingCity(billingDetails.getBillingCity())
-                .selectBillingState(billingDetails.getBillingState())
-                .enterBillingZipcode(billingDetails.getBillingZipcode())
-                .enterBillingEmail(billingDetails.getBillingEmail());
+        pageComponent.fillForm(List.of(
+                FormField.of(getBillFirstNameFld(), billingDetails.getBillingFirstName(), getBillFirstNameFldLabel()),
+                FormField.of(getBillLastNameFld(), billingDetails.getBillingLastName(), getBillLastNameFldLabel()),
+                FormField.of(getBillAddressFld(), billingDetails.getBillingAddressLine(), getBillAddressFldLabel()),
+                FormField.of(getBillCityFld(), billingDetails.getBillingCity(), getBillCityFldLabel()),
+                FormField.of(getBillStateDropdown(), billingDetails.getBillingState(), getBillStateDropdownLabel()),
+                FormField.of(getBillZipFld(), billingDetails.getBillingZipcode(), getBillZipFldLabel()),
+                FormField.of(getBillEmailFld(), billingDetails.getBillingEmail(), getBillEmailFldLabel())));
+        return this;
     }
 
     public CheckoutPage placeOrder() {
@@ -72,7 +78,8 @@ public class CheckoutPage  extends CheckoutPageObject {
     }
 
     public String getNotice() {
-        return verificationHandler.readTextValueFromElement(getNoticeTxt(), getNoticeTxtLabel());
+        return verificationHandler.readElementStates(Map.of(getNoticeTxtLabel(), getNoticeTxt()))
+                .get(getNoticeTxtLabel()).getText();
     }
 
 }
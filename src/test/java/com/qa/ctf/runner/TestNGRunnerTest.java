@@ -1,24 +1,42 @@
 package com.qa.ctf.runner;
 
+import com.qa.ctf.listener.ScenarioThreadListener;
+import com.qa.ctf.util.FileReader;
+import com.qa.ctf.util.ScenarioScheduler;
+import com.qa.ctf.util.ShardPlan;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 import org.testng.annotations.DataProvider;
 
+import static com.qa.ctf.constant.TestConstants.*;
+
 @CucumberOptions(
         features = "src/test/resources/features/",
         tags = "@reg",
         glue = {"com/qa/ctf"},
         plugin = {"pretty",
-                "html:target/cucumber/report/cucumber.html",
-                "json:target/cucumber/report/report.json",
-                "junit:target/cucumber/report/report.xml",
+                "com.qa.ctf.listener.CommandTimingPlugin",
+                "com.qa.ctf.listener.StepTimingPlugin",
                 "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:"},
         publish = true,
         monochrome = true)
 public class TestNGRunnerTest extends AbstractTestNGCucumberTests {
 
-//    @DataProvider(parallel = true)
-//    public Object[][] scenarios() {
-//        return super.scenarios();
-//    }
+    // The html, json and junit reports are registered per shard before Cucumber reads its options
+    static {
+        ShardPlan.configureReports();
+    }
+
+    // Scenarios run in parallel; the thread count is set by ScenarioThreadListener from -DScenarioThreads (default 1)
+    // and the scenarios are ordered longest first from their recorded durations unless -DDurationScheduling=No;
+    // with -Dshard.index and -Dshard.total only the scenarios of this shard are run
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        Object[][] scenarios = ShardPlan.select(super.scenarios());
+        if (!FileReader.getConfig().getBoolean(DURATION_SCHEDULING, true)) {
+            return scenarios;
+        }
+        return ScenarioScheduler.schedule(scenarios, ScenarioThreadListener.getScenarioThreadCount());
+    }
 }
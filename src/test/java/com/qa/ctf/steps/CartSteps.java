@@ -2,13 +2,21 @@ package com.qa.ctf.steps;
 
 import com.qa.ctf.base.PageFactory;
 import com.qa.ctf.context.AppContext;
+import com.qa.ctf.constant.Endpoint;
 import com.qa.ctf.context.TestContext;
+import com.qa.ctf.data.CartItem;
 import com.qa.ctf.data.Product;
+import com.qa.ctf.handler.ElementState;
 import com.qa.ctf.pages.CartPage;
+import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class CartSteps extends BaseSteps{
 
     private final WebDriver driver;
@@ -29,8 +37,33 @@ public class CartSteps extends BaseSteps{
 
     @Then("I should see {int} {product} in the cart")
     public void i_should_see_in_the_cart(Integer quantity, Product product) {
-        Assert.assertEquals(product.getProductName(), cartPage.getProductName());
-        Assert.assertEquals(quantity, cartPage.getProductQuantity());
+        Map<String, ElementState> productLine = cartPage.getProductLine();
+        Assert.assertEquals(productLine.get(cartPage.getProductNameFldLabel()).getText(), product.getProductName(),
+                "Product name in the cart");
+        Assert.assertEquals(readQuantity(productLine.get(cartPage.getProductQuantityFldLabel())), quantity.intValue(),
+                "Quantity of " + product.getProductName() + " in the cart");
+    }
+
+    @Given("I'm on the cart page")
+    public void i_m_on_the_cart_page() {
+        cartPage.load(Endpoint.CART.url);
+    }
+
+    @Then("the cart should hold the following products")
+    public void the_cart_should_hold_the_following_products(List<CartItem> cartItems) {
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        cartItems.forEach(cartItem -> expected.merge(cartItem.getProductId(), cartItem.getQuantity(), Integer::sum));
+        Assert.assertEquals(cartPage.getCartQuantities(), expected, "Quantities by product id in the cart");
+    }
+
+    private int readQuantity(ElementState quantityState) {
+        String quantity = quantityState.getValue();
+        Assert.assertNotNull(quantity, "Quantity field has no value: " + quantityState);
+        try {
+            return Integer.parseInt(quantity.trim());
+        } catch (NumberFormatException ex) {
+            throw new AssertionError("Quantity field does not hold a number: " + quantityState, ex);
+        }
     }
 
 //    @Given("I'm on the checkout page")
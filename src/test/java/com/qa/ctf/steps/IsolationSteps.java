@@ -0,0 +1,72 @@
+package com.qa.ctf.steps;
+
+import com.qa.ctf.base.PageFactory;
+import com.qa.ctf.constant.Endpoint;
+import com.qa.ctf.context.TestContext;
+import com.qa.ctf.factory.DriverFactory;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+
+import java.util.List;
+import java.util.UUID;
+
+public class IsolationSteps extends BaseSteps {
+
+    private static final String LEAVE_MARKER =
+            "document.cookie = arguments[0] + '=' + arguments[1] + '; path=/';" +
+            "localStorage.setItem(arguments[0], arguments[1]);" +
+            "sessionStorage.setItem(arguments[0], arguments[1]);";
+
+    private static final String READ_MARKERS =
+            "return [document.cookie, localStorage.getItem(arguments[0]) || '', sessionStorage.getItem(arguments[0]) || ''];";
+
+    private final TestContext testContext;
+    private final String markerValue = UUID.randomUUID().toString();
+
+    public IsolationSteps(TestContext testContext) {
+        super(testContext);
+        this.testContext = testContext;
+    }
+
+    @Given("I leave an {string} marker in the browser on the Store page")
+    public void i_leave_a_marker_in_the_browser(String marker) {
+        // Without context isolation every scenario gets a new browser and the check passes trivially.
+        // The driver pool is not an isolation mode, its reset cannot clear origins that are no longer open.
+        Assert.assertTrue(DriverFactory.isContextIsolationEnabled(),
+                "Context isolation is not enabled, run with -DContextIsolation=Yes");
+        JavascriptExecutor executor = loadStorePage();
+        executor.executeScript(LEAVE_MARKER, marker, markerValue);
+        for (Object storage : readMarkers(executor, marker)) {
+            Assert.assertTrue(String.valueOf(storage).contains(markerValue), "Marker was not stored: " + storage);
+        }
+    }
+
+    @When("the next scenario starts in a fresh browser")
+    public void the_next_scenario_starts_in_a_fresh_browser() {
+        DriverFactory.quitDriver();
+        DriverFactory.getInstance().initializeDriver();
+        testContext.setDriver(DriverFactory.getInstance().getDriver());
+    }
+
+    @Then("the {string} marker is not in the browser on the Store page")
+    public void the_marker_is_not_in_the_browser(String marker) {
+        for (Object storage : readMarkers(loadStorePage(), marker)) {
+            Assert.assertFalse(String.valueOf(storage).contains(markerValue), "Marker bled into the next scenario: " + storage);
+        }
+    }
+
+    private JavascriptExecutor loadStorePage() {
+        WebDriver driver = DriverFactory.getInstance().getDriver();
+        PageFactory.getStorePage(driver).load(Endpoint.STORE.url);
+        return (JavascriptExecutor) driver;
+    }
+
+    private List<?> readMarkers(JavascriptExecutor executor, String marker) {
+        return (List<?>) executor.executeScript(READ_MARKERS, marker);
+    }
+
+}
@@ -1,16 +1,19 @@
 package com.qa.ctf.steps;
 
-import com.qa.ctf.apis.CartApi;
+import com.qa.ctf.apis.CartSeeder;
 import com.qa.ctf.base.PageFactory;
 import com.qa.ctf.constant.Endpoint;
 import com.qa.ctf.context.AppContext;
 import com.qa.ctf.context.TestContext;
+import com.qa.ctf.data.CartItem;
 import com.qa.ctf.data.Product;
 import com.qa.ctf.pages.StorePage;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import org.openqa.selenium.WebDriver;
 
+import java.util.List;
+
 public class StoreSteps extends BaseSteps {
 
     private final WebDriver driver;
@@ -40,9 +43,17 @@ public class StoreSteps extends BaseSteps {
 
     @Given("I have a product in the cart")
     public void i_have_a_product_in_the_cart() {
-        CartApi cartApi = new CartApi(appContext.cookies.getCookies());
-        cartApi.addToCart(1215, 1);
-        appContext.cookies.setCookies(cartApi.getCookies());
-        appContext.cookies.injectCookiesToBrowser(driver);
+        CartSeeder cartSeeder = new CartSeeder(appContext.cookies.getCookies())
+                .add(1215, 1);
+        appContext.cookies.setCookies(cartSeeder.seed());
+        appContext.cookies.applyToBrowser(driver);
+    }
+
+    @Given("I have the following products in the cart")
+    public void i_have_the_following_products_in_the_cart(List<CartItem> cartItems) {
+        CartSeeder cartSeeder = new CartSeeder(appContext.cookies.getCookies());
+        cartItems.forEach(cartItem -> cartSeeder.add(cartItem.getProductId(), cartItem.getQuantity()));
+        appContext.cookies.setCookies(cartSeeder.seed());
+        appContext.cookies.applyToBrowser(driver);
     }
 }
@@ -0,0 +1,172 @@
+package com.qa.ctf.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * In-memory WebDriver for the framework unit tests, answering scripts through a
+ * responder and recording the scripts it ran and whether it was quit.
+ * <p>
+ * Only navigation by URL, switching to its single window and deleting cookies are
+ * supported besides scripts, as the unit tests exercise the framework code around
+ * the driver rather than a page.
+ * </p>
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor {
+
+    // Sequence used to give every fake driver a distinct window handle
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    // Window handle of the driver
+    private final String windowHandle = "fake-window-" + SEQUENCE.incrementAndGet();
+
+    // Responder to the scripts run in the driver, given the script and its arguments
+    private final BiFunction<String, Object[], Object> scriptResponder;
+
+    // Scripts run in the driver, in order
+    private final List<String> scripts = Collections.synchronizedList(new ArrayList<>());
+
+    // Number of times the driver was quit
+    private final AtomicInteger quitCount = new AtomicInteger();
+
+    // URL the driver was last navigated to
+    private volatile String currentUrl = "about:blank";
+
+    public FakeWebDriver() {
+        this((script, args) -> null);
+    }
+
+    public FakeWebDriver(BiFunction<String, Object[], Object> scriptResponder) {
+        this.scriptResponder = scriptResponder;
+    }
+
+    public List<String> getScripts() {
+        return List.copyOf(scripts);
+    }
+
+    public int getQuitCount() {
+        return quitCount.get();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        checkSession();
+        scripts.add(script);
+        return scriptResponder.apply(script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        checkSession();
+        return windowHandle;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        checkSession();
+        return Set.of(windowHandle);
+    }
+
+    @Override
+    public void close() {
+        quit();
+    }
+
+    @Override
+    public void quit() {
+        quitCount.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "FakeWebDriver(" + windowHandle + ")";
+    }
+
+    @Override
+    public void get(String url) {
+        checkSession();
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        checkSession();
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        throw unsupported("getTitle");
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        throw unsupported("findElements");
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        throw unsupported("findElement");
+    }
+
+    @Override
+    public String getPageSource() {
+        throw unsupported("getPageSource");
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        checkSession();
+        return partial(TargetLocator.class, "window", this);
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw unsupported("navigate");
+    }
+
+    @Override
+    public Options manage() {
+        checkSession();
+        return partial(Options.class, "deleteAllCookies", null);
+    }
+
+    private void checkSession() {
+        if (quitCount.get() > 0) {
+            throw new NoSuchSessionException("Fake driver was quit: " + windowHandle);
+        }
+    }
+
+    /**
+     * Creates a view of the driver supporting a single method, which returns the given result.
+     */
+    private static <T> T partial(Class<T> type, String supportedMethod, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals(supportedMethod)) {
+                return result;
+            }
+            throw unsupported(type.getSimpleName() + "." + method.getName());
+        }));
+    }
+
+    private static UnsupportedOperationException unsupported(String command) {
+        return new UnsupportedOperationException("Fake driver does not support " + command);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.qa.ctf.support;
+
+import com.qa.ctf.context.TestContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.testng.SkipException;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * Launches the headless Chrome used by the unit tests that need a real page, such as
+ * the network idle, form fill and dropdown tests, and skips those tests on machines
+ * without Chrome.
+ */
+public final class LocalBrowser {
+
+    // Reason Chrome could not be started, so that later tests skip without trying again
+    private static volatile String unavailableReason;
+
+    private LocalBrowser() {
+    }
+
+    /**
+     * Launches a headless Chrome.
+     *
+     * @return The WebDriver instance.
+     * @throws SkipException If Chrome or its driver cannot be started on this machine.
+     */
+    public static WebDriver launchOrSkip() {
+        if (unavailableReason != null) {
+            throw new SkipException("Headless Chrome is not available: " + unavailableReason);
+        }
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments(CHROMIUM_HEADLESS, CHROMIUM_DISABLE_GPU, CHROMIUM_DISABLE_EXTENSIONS);
+        try {
+            return new ChromeDriver(options);
+        } catch (WebDriverException ex) {
+            unavailableReason = ex.getMessage();
+            throw new SkipException("Headless Chrome is not available: " + unavailableReason, ex);
+        }
+    }
+
+    /**
+     * Wraps a WebDriver instance in a TestContext for the handlers under test.
+     *
+     * @param driver The WebDriver instance.
+     * @return The TestContext holding the driver.
+     */
+    public static TestContext contextOf(WebDriver driver) {
+        TestContext testContext = new TestContext();
+        testContext.setDriver(driver);
+        return testContext;
+    }
+
+}
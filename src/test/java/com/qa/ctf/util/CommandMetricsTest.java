@@ -0,0 +1,59 @@
+package com.qa.ctf.util;
+
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests of the label attribution and the overhead section of the
+ * {@link CommandMetrics} report.
+ */
+public class CommandMetricsTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void clearedLabelIsNotCarriedToLaterCommands() throws IOException {
+        CommandMetrics.startScenario("Label scenario");
+        CommandMetrics.startStep("user checks the labels");
+        CommandMetrics.setLabel("Add To Cart Button");
+        CommandMetrics.record("WebElement.click", 5400);
+        CommandMetrics.clearLabel();
+        CommandMetrics.record("WebDriver.getTitle", 900);
+        CommandMetrics.finishScenario();
+
+        Map<String, Object> report = writeAndRead();
+
+        List<Map<String, Object>> callSites = (List<Map<String, Object>>) report.get("slowestCallSites");
+        Assert.assertTrue(callSites.stream().anyMatch(site -> site.get("command").equals("WebElement.click")
+                && site.get("label").equals("Add To Cart Button")), callSites.toString());
+        Assert.assertTrue(callSites.stream().anyMatch(site -> site.get("command").equals("WebDriver.getTitle")
+                && site.get("label").equals("-")), callSites.toString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void overheadIncludesEstimatedDispatch() throws IOException {
+        CommandMetrics.record("WebElement.getText", 1200);
+
+        Map<String, Object> overhead = (Map<String, Object>) writeAndRead().get("overhead");
+
+        long recording = ((Number) overhead.get("recordingMicros")).longValue();
+        long dispatch = ((Number) overhead.get("dispatchMicros")).longValue();
+        Assert.assertEquals(overhead.get("dispatchEstimated"), true);
+        Assert.assertTrue(((Number) overhead.get("dispatchMicrosPerCommand")).doubleValue() > 0, overhead.toString());
+        Assert.assertEquals(((Number) overhead.get("overheadMicros")).longValue(), recording + dispatch);
+    }
+
+    private static Map<String, Object> writeAndRead() throws IOException {
+        Path report = Files.createTempDirectory("command-timing").resolve("command-timing.json");
+        CommandMetrics.writeReport(report);
+        return new Json().toType(Files.readString(report), Map.class);
+    }
+
+}
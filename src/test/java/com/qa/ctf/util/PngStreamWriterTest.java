@@ -0,0 +1,82 @@
+package com.qa.ctf.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Unit tests of {@link PngStreamWriter}, decoding its output with ImageIO.
+ */
+public class PngStreamWriterTest {
+
+    @Test
+    public void noisyImageRoundTripsOverSeveralChunks() throws IOException {
+        // Noise hardly compresses, so the 270 KB of pixels span several 64 KB IDAT chunks
+        int width = 301;
+        int height = 300;
+        Random random = new Random(42);
+        int[][] pixels = new int[height][width];
+        for (int[] row : pixels) {
+            for (int pixel = 0; pixel < width; pixel++) {
+                row[pixel] = random.nextInt();
+            }
+        }
+
+        BufferedImage image = writeAndDecode(pixels, width);
+
+        Assert.assertEquals(image.getWidth(), width);
+        Assert.assertEquals(image.getHeight(), height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Assert.assertEquals(image.getRGB(x, y) & 0xFFFFFF, pixels[y][x] & 0xFFFFFF, "Pixel " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    public void singlePixelImageRoundTrips() throws IOException {
+        BufferedImage image = writeAndDecode(new int[][]{{0xFF123456}}, 1);
+
+        Assert.assertEquals(image.getRGB(0, 0) & 0xFFFFFF, 0x123456);
+    }
+
+    @Test
+    public void extraRowFails() throws IOException {
+        PngStreamWriter png = new PngStreamWriter(new ByteArrayOutputStream(), 2, 1);
+        png.writeRow(new int[2]);
+
+        Assert.assertThrows(IllegalStateException.class, () -> png.writeRow(new int[2]));
+    }
+
+    @Test
+    public void closingBeforeAllRowsFails() throws IOException {
+        PngStreamWriter png = new PngStreamWriter(new ByteArrayOutputStream(), 2, 2);
+        png.writeRow(new int[2]);
+
+        Assert.assertThrows(IllegalStateException.class, png::close);
+    }
+
+    @Test
+    public void emptyImageIsRejected() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PngStreamWriter(new ByteArrayOutputStream(), 0, 1));
+    }
+
+    private static BufferedImage writeAndDecode(int[][] pixels, int width) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PngStreamWriter png = new PngStreamWriter(bytes, width, pixels.length)) {
+            for (int[] row : pixels) {
+                png.writeRow(row);
+            }
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertNotNull(image, "ImageIO could not decode the PNG");
+        return image;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.qa.ctf.util;
+
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * Unit tests of {@link ReportMerger} on shard folders written to a temporary
+ * directory, including a leftover folder of a previous run with more shards.
+ */
+public class ReportMergerTest {
+
+    private Path shardRoot;
+    private Path outputDir;
+
+    @BeforeMethod
+    public void writeShardReports() throws Exception {
+        Path root = Files.createTempDirectory("report-merger");
+        shardRoot = root.resolve("shards");
+        outputDir = root.resolve("report");
+        writeShard(0, List.of(feature("features/Cart.feature", "Add to cart"),
+                feature("features/Login.feature", "Valid login")), 2, 0, "1.5");
+        writeShard(1, List.of(feature("features/Cart.feature", "Remove from cart")), 1, 1, "2,000.25");
+        writeShard(2, List.of(feature("features/Stale.feature", "Leftover scenario")), 1, 0, "9");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void mergesCucumberJsonOfTheShardsOfTheRunByFeature() throws Exception {
+        ReportMerger.merge(shardRoot, 2, outputDir);
+
+        List<Map<String, Object>> features = new Json().toType(
+                Files.readString(outputDir.resolve(CUCUMBER_JSON_REPORT), StandardCharsets.UTF_8), List.class);
+        Assert.assertEquals(features.stream().map(feature -> feature.get("uri")).toList(),
+                List.of("features/Cart.feature", "features/Login.feature"));
+        List<Map<String, Object>> cartScenarios = (List<Map<String, Object>>) features.get(0).get("elements");
+        Assert.assertEquals(cartScenarios.stream().map(scenario -> scenario.get("name")).toList(),
+                List.of("Add to cart", "Remove from cart"));
+    }
+
+    @Test
+    public void sumsJunitCountsOfTheShardsOfTheRun() throws Exception {
+        ReportMerger.merge(shardRoot, 2, outputDir);
+
+        Element suite = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(outputDir.resolve(CUCUMBER_JUNIT_REPORT).toFile()).getDocumentElement();
+        Assert.assertEquals(suite.getAttribute("tests"), "3");
+        Assert.assertEquals(suite.getAttribute("failures"), "1");
+        Assert.assertEquals(suite.getAttribute("time"), "2001.75");
+        Assert.assertEquals(suite.getElementsByTagName("testcase").getLength(), 3);
+    }
+
+    @Test
+    public void missingShardIsSkipped() throws Exception {
+        ReportMerger.merge(shardRoot, 4, outputDir);
+
+        Element suite = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(outputDir.resolve(CUCUMBER_JUNIT_REPORT).toFile()).getDocumentElement();
+        Assert.assertEquals(suite.getAttribute("tests"), "4");
+    }
+
+    private void writeShard(int index, List<Map<String, Object>> features, int tests, int failures, String time)
+            throws Exception {
+        Path shardDir = shardRoot.resolve(SHARD_FOLDER_PREFIX + index);
+        Files.createDirectories(shardDir);
+        Files.writeString(shardDir.resolve(CUCUMBER_JSON_REPORT), new Json().toJson(features), StandardCharsets.UTF_8);
+        StringBuilder testCases = new StringBuilder();
+        for (int test = 0; test < tests; test++) {
+            testCases.append(String.format("<testcase classname=\"shard %d\" name=\"test %d\" time=\"0\"/>", index, test));
+        }
+        Files.writeString(shardDir.resolve(CUCUMBER_JUNIT_REPORT), String.format(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?><testsuite name=\"Cucumber\" tests=\"%d\" failures=\"%d\""
+                        + " errors=\"0\" skipped=\"0\" time=\"%s\">%s</testsuite>",
+                tests, failures, time, testCases), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Object> feature(String uri, String scenario) {
+        return Map.of("uri", uri, "name", uri, "elements", List.of(Map.of("name", scenario, "type", "scenario")));
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.qa.ctf.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.qa.ctf.constant.TestConstants.*;
+
+/**
+ * Unit tests of the scenario partition of {@link ShardPlan}, using data provider rows
+ * without pickles, which all get the same estimate.
+ */
+public class ShardPlanTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearShardProperties() {
+        System.clearProperty(SHARD_INDEX);
+        System.clearProperty(SHARD_TOTAL);
+    }
+
+    @Test
+    public void unshardedRunSelectsAllScenarios() {
+        Object[][] scenarios = scenarios(5);
+
+        Assert.assertSame(ShardPlan.select(scenarios), scenarios);
+    }
+
+    @Test
+    public void shardsPartitionTheScenariosEvenly() {
+        Object[][] scenarios = scenarios(10);
+        int total = 3;
+        List<String> selected = new ArrayList<>();
+        for (int index = 0; index < total; index++) {
+            Object[][] shard = selectShard(scenarios, index, total);
+            Assert.assertTrue(shard.length == 3 || shard.length == 4, "Shard " + index + " has " + shard.length);
+            Arrays.stream(shard).map(row -> (String) row[0]).forEach(selected::add);
+        }
+
+        Set<String> distinct = new HashSet<>(selected);
+        Assert.assertEquals(selected.size(), distinct.size(), "A scenario was selected by two shards");
+        Assert.assertEquals(distinct, Arrays.stream(scenarios).map(row -> (String) row[0]).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void selectionIsDeterministic() {
+        Object[][] scenarios = scenarios(7);
+
+        Assert.assertEquals(selectShard(scenarios, 1, 2), selectShard(scenarios, 1, 2));
+    }
+
+    @Test
+    public void indexOutsideTheTotalIsRejected() {
+        System.setProperty(SHARD_INDEX, "3");
+        System.setProperty(SHARD_TOTAL, "3");
+
+        Assert.assertThrows(ExceptionHub.InvalidDataException.class, () -> ShardPlan.select(scenarios(3)));
+    }
+
+    private static Object[][] selectShard(Object[][] scenarios, int index, int total) {
+        System.setProperty(SHARD_INDEX, String.valueOf(index));
+        System.setProperty(SHARD_TOTAL, String.valueOf(total));
+        return ShardPlan.select(scenarios);
+    }
+
+    private static Object[][] scenarios(int count) {
+        Object[][] scenarios = new Object[count][];
+        for (int row = 0; row < count; row++) {
+            scenarios[row] = new Object[]{String.format("scenario-%02d", row)};
+        }
+        return scenarios;
+    }
+
+}
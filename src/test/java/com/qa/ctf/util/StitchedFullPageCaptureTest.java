@@ -0,0 +1,128 @@
+package com.qa.ctf.util;
+
+import com.qa.ctf.support.FakeWebDriver;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Unit tests of {@link StitchedFullPageCapture} against a simulated page, checking that
+ * the stitched image equals the rendered page pixel for pixel.
+ */
+public class StitchedFullPageCaptureTest {
+
+    @DataProvider
+    public Object[][] pages() {
+        // Page height, viewport height, viewport width, scrollbar width and device pixel ratio
+        return new Object[][]{
+                {1000, 300, 120, 0, 1.0},
+                {1000, 300, 120, 0, 2.0},
+                {1001, 333, 101, 0, 1.5},
+                {1001, 333, 101, 15, 1.25},
+                {250, 300, 80, 0, 1.0}};
+    }
+
+    @Test(dataProvider = "pages")
+    public void stitchedImageEqualsThePage(int pageHeight, int viewportHeight, int viewportWidth, int scrollbarWidth,
+                                           double ratio) throws IOException {
+        ScrollingPage page = new ScrollingPage(pageHeight, viewportHeight, viewportWidth, scrollbarWidth, ratio);
+
+        BufferedImage stitched = ImageIO.read(new ByteArrayInputStream(new StitchedFullPageCapture().capture(page)));
+
+        BufferedImage rendered = page.rendered;
+        Assert.assertEquals(stitched.getWidth(), rendered.getWidth());
+        Assert.assertEquals(stitched.getHeight(), rendered.getHeight());
+        for (int y = 0; y < rendered.getHeight(); y++) {
+            for (int x = 0; x < rendered.getWidth(); x++) {
+                if ((stitched.getRGB(x, y) & 0xFFFFFF) != (rendered.getRGB(x, y) & 0xFFFFFF)) {
+                    Assert.fail("Pixel " + x + "," + y + " differs");
+                }
+            }
+        }
+        Assert.assertEquals(page.scrollY, 0, "Scroll position was not restored");
+    }
+
+    /**
+     * Fake driver rendering a page whose every row has its own colour, answering the
+     * scripts of the capture and taking viewport screenshots at the scroll position.
+     */
+    private static final class ScrollingPage extends FakeWebDriver implements TakesScreenshot {
+
+        private final BufferedImage rendered;
+        private final int viewportRows;
+        private final double ratio;
+        private long scrollY;
+
+        private ScrollingPage(int pageHeight, int viewportHeight, int viewportWidth, int scrollbarWidth, double ratio) {
+            this(new State(pageHeight, viewportHeight, viewportWidth, ratio), scrollbarWidth);
+        }
+
+        private ScrollingPage(State state, int scrollbarWidth) {
+            super(state::answer);
+            state.page = this;
+            this.ratio = state.ratio;
+            this.viewportRows = (int) Math.round(state.viewportHeight * ratio);
+            // The screenshot includes the scrollbar, which the client width leaves out
+            this.rendered = new BufferedImage((int) Math.round((state.viewportWidth + scrollbarWidth) * ratio),
+                    (int) Math.round(state.pageHeight * ratio), BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < rendered.getHeight(); y++) {
+                for (int x = 0; x < rendered.getWidth(); x++) {
+                    rendered.setRGB(x, y, (y * 7919) ^ (x * 31));
+                }
+            }
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            int top = (int) Math.round(scrollY * ratio);
+            BufferedImage viewport = rendered.getSubimage(0, top, rendered.getWidth(),
+                    Math.min(viewportRows, rendered.getHeight() - top));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try {
+                ImageIO.write(viewport, "png", bytes);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return target.convertFromPngBytes(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Page metrics and scroll handling shared with the script responder.
+     */
+    private static final class State {
+
+        private final int pageHeight;
+        private final int viewportHeight;
+        private final int viewportWidth;
+        private final double ratio;
+        private ScrollingPage page;
+
+        private State(int pageHeight, int viewportHeight, int viewportWidth, double ratio) {
+            this.pageHeight = pageHeight;
+            this.viewportHeight = viewportHeight;
+            this.viewportWidth = viewportWidth;
+            this.ratio = ratio;
+        }
+
+        private Object answer(String script, Object[] args) {
+            if (script.contains("clientHeight")) {
+                return List.of(pageHeight, viewportHeight, viewportWidth, page.scrollY, "", ratio);
+            }
+            long requested = ((Number) args[0]).longValue();
+            page.scrollY = Math.max(0, Math.min(requested, pageHeight - viewportHeight));
+            return page.scrollY;
+        }
+    }
+
+}
@@ -15,4 +15,16 @@ Feature: Add To Cart
     Examples:
       | product_name    |
       | Anchor Bracelet |
-      | Blue Shoes      |
\ No newline at end of file
+      | Blue Shoes      |
+
+  @seeded
+  Scenario: Verify products added to the cart through the API are shown in the cart.
+    Given I have the following products in the cart
+      | product_id | quantity |
+      | 1215       | 1        |
+      | 1198       | 2        |
+    When I'm on the cart page
+    Then the cart should hold the following products
+      | product_id | quantity |
+      | 1215       | 1        |
+      | 1198       | 2        |
@@ -0,0 +1,9 @@
+# Only meaningful with an isolation mode, run it with
+# -Dcucumber.filter.tags=@isolation and -DContextIsolation=Yes
+@isolation
+Feature: Scenario Isolation
+
+  Scenario: Verify cookies and storage of a scenario do not bleed into the next scenario.
+    Given I leave an "isolation-probe" marker in the browser on the Store page
+    When the next scenario starts in a fresh browser
+    Then the "isolation-probe" marker is not in the browser on the Store page